@@ -19,15 +19,20 @@ import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.gson.navigator.node.GsonByIndexNode;
 import com.github.simy4.xpath.gson.navigator.node.GsonByNameNode;
 import com.github.simy4.xpath.gson.navigator.node.GsonNode;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public class GsonNavigator implements Navigator<GsonNode> {
+import java.util.Collections;
+
+public class GsonNavigator implements BulkCopyNavigator<GsonNode>, NameLookupNavigator<GsonNode> {
 
   private final GsonNode json;
 
@@ -58,6 +63,20 @@ public class GsonNavigator implements Navigator<GsonNode> {
     return parent.attributes();
   }
 
+  @Override
+  public Iterable<? extends GsonNode> elementsOf(GsonNode parent, QName name) {
+    return XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+        ? parent.elements(name.getLocalPart())
+        : Collections.<GsonNode>emptyList();
+  }
+
+  @Override
+  public Iterable<? extends GsonNode> attributesOf(GsonNode parent, QName name) {
+    return XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+        ? parent.attributes(name.getLocalPart())
+        : Collections.<GsonNode>emptyList();
+  }
+
   @Override
   public GsonNode createAttribute(GsonNode parent, QName attribute) throws XmlBuilderException {
     return appendElement(parent, attribute.getLocalPart(), new JsonPrimitive(""));
@@ -82,43 +101,49 @@ public class GsonNavigator implements Navigator<GsonNode> {
 
   @Override
   public void prependCopy(GsonNode node) throws XmlBuilderException {
+    prependCopies(node, 1);
+  }
+
+  @Override
+  public void prependCopies(GsonNode node, int count) throws XmlBuilderException {
     final GsonNode parent = node.getParent();
     if (null == parent) {
       throw new XmlBuilderException("Unable to prependcopy to root node " + node.get());
     }
     final JsonElement elementToCopy = node.get();
     final JsonElement parentElement = parent.get();
-    final GsonNode elementNode;
     if (parentElement.isJsonObject()) {
       final GsonNode parentParent = parent.getParent();
       final String name = node.getName().getLocalPart();
-      final JsonObject jsonObject = new JsonObject();
+      final JsonArray jsonArray;
       final GsonByIndexNode copyNode;
-      if (parentParent != null) {
-        final JsonElement parentParentElement = parentParent.get();
-        if (parentParentElement.isJsonArray()) {
-          final JsonArray jsonArray = parentParentElement.getAsJsonArray();
-          copyNode = prependToArray(parentParent, parentElement, jsonArray);
-          parent.setParent(new GsonByIndexNode(jsonArray, copyNode.getIndex() + 1, parentParent));
-        } else {
-          copyNode = prependToNewArray(parent, parentElement);
-          node.setParent(
-              new GsonByIndexNode(parent.get().getAsJsonArray(), copyNode.getIndex() + 1, parent));
-        }
+      if (parentParent != null && parentParent.get().isJsonArray()) {
+        jsonArray = parentParent.get().getAsJsonArray();
+        copyNode = prependToArray(parentParent, parentElement, jsonArray, count);
+        parent.setParent(
+            new GsonByIndexNode(jsonArray, copyNode.getIndex() + count, parentParent));
       } else {
-        copyNode = prependToNewArray(parent, parentElement);
+        copyNode = prependToNewArray(parent, parentElement, count);
+        jsonArray = parent.get().getAsJsonArray();
+        if (parentParent != null) {
+          node.setParent(new GsonByIndexNode(jsonArray, copyNode.getIndex() + count, parent));
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        final JsonObject jsonObject = new JsonObject();
+        jsonObject.add(name, elementToCopy.deepCopy());
+        jsonArray.set(copyNode.getIndex() + i, jsonObject);
       }
-      elementNode = new GsonByNameNode(jsonObject, name, copyNode);
-      copyNode.set(jsonObject);
     } else if (parentElement.isJsonArray()) {
       final JsonArray jsonArray = parentElement.getAsJsonArray();
-      final GsonByIndexNode copyNode = prependToArray(parent, elementToCopy, jsonArray);
-      node.setParent(new GsonByIndexNode(jsonArray, copyNode.getIndex() + 1, parent));
-      elementNode = copyNode;
+      final GsonByIndexNode copyNode = prependToArray(parent, elementToCopy, jsonArray, count);
+      node.setParent(new GsonByIndexNode(jsonArray, copyNode.getIndex() + count, parent));
+      for (int i = 0; i < count; i++) {
+        jsonArray.set(copyNode.getIndex() + i, elementToCopy.deepCopy());
+      }
     } else {
       throw new XmlBuilderException("Unable to prepend copy to primitive node: " + parentElement);
     }
-    elementNode.set(elementToCopy.deepCopy());
   }
 
   @Override
@@ -172,25 +197,28 @@ public class GsonNavigator implements Navigator<GsonNode> {
     return new GsonByNameNode(jsonObject, name, parentObjectNode);
   }
 
-  private GsonByIndexNode prependToNewArray(GsonNode parent, JsonElement elementToCopy) {
+  private GsonByIndexNode prependToNewArray(
+      GsonNode parent, JsonElement elementToCopy, int count) {
     final JsonArray jsonArray = new JsonArray();
     jsonArray.add(elementToCopy);
-    final GsonByIndexNode elementNode = prependToArray(parent, elementToCopy, jsonArray);
+    final GsonByIndexNode elementNode = prependToArray(parent, elementToCopy, jsonArray, count);
     parent.set(jsonArray);
-    parent.setParent(new GsonByIndexNode(jsonArray, 1, parent.getParent()));
+    parent.setParent(new GsonByIndexNode(jsonArray, count, parent.getParent()));
     return elementNode;
   }
 
   private GsonByIndexNode prependToArray(
-      GsonNode parent, JsonElement elementToCopy, JsonArray parentArray) {
-    int i = parentArray.size() - 1;
-    JsonElement arrayElement = parentArray.get(i);
-    parentArray.add(arrayElement);
-    while (elementToCopy != arrayElement && i > 0) {
-      arrayElement = parentArray.get(i - 1);
-      parentArray.set(i, arrayElement);
-      i -= 1;
+      GsonNode parent, JsonElement elementToCopy, JsonArray parentArray, int count) {
+    int i = parentArray.size();
+    for (int j = 0; j < count; j++) {
+      parentArray.add(JsonNull.INSTANCE);
     }
+    JsonElement arrayElement;
+    do {
+      i -= 1;
+      arrayElement = parentArray.get(i);
+      parentArray.set(i + count, arrayElement);
+    } while (elementToCopy != arrayElement && i > 0);
     return new GsonByIndexNode(parentArray, i, parent);
   }
 }
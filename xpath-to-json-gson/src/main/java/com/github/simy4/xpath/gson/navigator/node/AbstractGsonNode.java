@@ -65,7 +65,17 @@ abstract class AbstractGsonNode implements GsonNode {
     return new Iterable<GsonNode>() {
       @Override
       public Iterator<GsonNode> iterator() {
-        return traverse(get(), AbstractGsonNode.this, false);
+        return traverse(get(), AbstractGsonNode.this, null, false);
+      }
+    };
+  }
+
+  @Override
+  public final Iterable<? extends GsonNode> elements(final String name) {
+    return new Iterable<GsonNode>() {
+      @Override
+      public Iterator<GsonNode> iterator() {
+        return traverse(get(), AbstractGsonNode.this, name, false);
       }
     };
   }
@@ -75,7 +85,17 @@ abstract class AbstractGsonNode implements GsonNode {
     return new Iterable<GsonNode>() {
       @Override
       public Iterator<GsonNode> iterator() {
-        return traverse(get(), AbstractGsonNode.this, true);
+        return traverse(get(), AbstractGsonNode.this, null, true);
+      }
+    };
+  }
+
+  @Override
+  public final Iterable<? extends GsonNode> attributes(final String name) {
+    return new Iterable<GsonNode>() {
+      @Override
+      public Iterator<GsonNode> iterator() {
+        return traverse(get(), AbstractGsonNode.this, name, true);
       }
     };
   }
@@ -105,13 +125,22 @@ abstract class AbstractGsonNode implements GsonNode {
     return null == jsonElement ? "???" : jsonElement.toString();
   }
 
-  static Iterator<GsonNode> traverse(JsonElement jsonElement, GsonNode parent, boolean attribute) {
+  static Iterator<GsonNode> traverse(
+      JsonElement jsonElement, GsonNode parent, String name, boolean attribute) {
     if (jsonElement.isJsonObject()) {
       final JsonObject jsonObject = jsonElement.getAsJsonObject();
-      return new JsonObjectIterator(jsonObject.keySet().iterator(), jsonObject, parent, attribute);
+      // a "*" key matches any name, so such objects are scanned in key order
+      if (null == name || jsonObject.has("*")) {
+        return new JsonObjectIterator(
+            jsonObject.keySet().iterator(), jsonObject, parent, attribute);
+      }
+      final JsonElement child = jsonObject.get(name);
+      return null != child && attribute == isAttribute(child)
+          ? Collections.<GsonNode>singleton(new GsonByNameNode(jsonObject, name, parent)).iterator()
+          : Collections.<GsonNode>emptyIterator();
     } else if (jsonElement.isJsonArray()) {
       final JsonArray jsonArray = jsonElement.getAsJsonArray();
-      return new JsonArrayIterator(jsonArray.iterator(), jsonArray, parent, attribute);
+      return new JsonArrayIterator(jsonArray.iterator(), jsonArray, parent, name, attribute);
     } else {
       return Collections.emptyIterator();
     }
@@ -178,6 +207,7 @@ abstract class AbstractGsonNode implements GsonNode {
     private final JsonArray parentArray;
     private final GsonNode parent;
     private int index;
+    private final String name;
     private final boolean attribute;
     private Iterator<GsonNode> current = Collections.emptyIterator();
 
@@ -185,10 +215,12 @@ abstract class AbstractGsonNode implements GsonNode {
         Iterator<JsonElement> arrayIterator,
         JsonArray parentArray,
         GsonNode parent,
+        String name,
         boolean attribute) {
       this.arrayIterator = arrayIterator;
       this.parentArray = parentArray;
       this.parent = parent;
+      this.name = name;
       this.attribute = attribute;
     }
 
@@ -201,13 +233,14 @@ abstract class AbstractGsonNode implements GsonNode {
         current =
             isAttribute(jsonElement)
                 ? traverseAttributeNode(arrayElemNode)
-                : traverse(jsonElement, arrayElemNode, attribute);
+                : traverse(jsonElement, arrayElemNode, name, attribute);
       }
       return currentHasNext;
     }
 
     @Override
     public GsonNode next() {
+      hasNext();
       return current.next();
     }
 
@@ -217,8 +250,10 @@ abstract class AbstractGsonNode implements GsonNode {
     }
 
     private Iterator<GsonNode> traverseAttributeNode(GsonNode arrayNode) {
-      return (attribute ? Collections.singleton(arrayNode) : Collections.<GsonNode>emptyList())
-          .iterator();
+      // array items are named by their index, so they never match a name lookup
+      return attribute && null == name
+          ? Collections.singleton(arrayNode).iterator()
+          : Collections.<GsonNode>emptyIterator();
     }
   }
 }
@@ -15,12 +15,14 @@
  */
 package com.github.simy4.xpath.gson.navigator.node;
 
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public final class GsonByNameNode extends AbstractGsonNode {
+public final class GsonByNameNode extends AbstractGsonNode implements NameMatchingNode {
 
   private final JsonObject parentObject;
   private final String name;
@@ -43,6 +45,12 @@ public final class GsonByNameNode extends AbstractGsonNode {
     return new QName(name);
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == namespaceUri || XMLConstants.NULL_NS_URI.equals(namespaceUri))
+        && (null == localPart || localPart.equals(name) || "*".equals(name));
+  }
+
   @Override
   public JsonElement get() {
     return parentObject.get(name);
@@ -38,4 +38,8 @@ public interface GsonNode extends Node {
   Iterable<? extends GsonNode> elements();
 
   Iterable<? extends GsonNode> attributes();
+
+  Iterable<? extends GsonNode> elements(String name);
+
+  Iterable<? extends GsonNode> attributes(String name);
 }
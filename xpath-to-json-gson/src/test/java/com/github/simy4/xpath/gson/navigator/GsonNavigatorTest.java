@@ -80,6 +80,45 @@ class GsonNavigatorTest {
     assertThat(navigator.parentOf(array2Node)).isEqualTo(root);
   }
 
+  @Test
+  void shouldLookUpChildrenOfObjectByName() {
+    json.add("child", new JsonObject());
+    json.add("attr", new JsonPrimitive("zero"));
+    var navigator = new GsonNavigator(root);
+
+    assertThat(navigator.elementsOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new GsonByNameNode(json, "child", root));
+    assertThat(navigator.attributesOf(root, new QName("attr")))
+        .singleElement()
+        .isEqualTo(new GsonByNameNode(json, "attr", root));
+    assertThat(navigator.elementsOf(root, new QName("attr"))).isEmpty();
+    assertThat(navigator.attributesOf(root, new QName("missing"))).isEmpty();
+    assertThat(navigator.elementsOf(root, new QName("http://www.example.com/my", "child")))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldLookUpChildrenOfArrayByName() {
+    var json = new JsonArray();
+    var first = new JsonObject();
+    first.add("child", new JsonObject());
+    var second = new JsonObject();
+    second.add("child", new JsonPrimitive("zero"));
+    json.add(first);
+    json.add("one");
+    json.add(second);
+    var root = new GsonRootNode(json);
+    var navigator = new GsonNavigator(root);
+
+    assertThat(navigator.elementsOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new GsonByNameNode(first, "child", new GsonByIndexNode(json, 0, root)));
+    assertThat(navigator.attributesOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new GsonByNameNode(second, "child", new GsonByIndexNode(json, 2, root)));
+  }
+
   @Test
   void shouldSetTextForElementChild() {
     navigator.setText(root, "test");
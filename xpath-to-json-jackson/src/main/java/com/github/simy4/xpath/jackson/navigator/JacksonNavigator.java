@@ -24,11 +24,16 @@ import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.jackson.navigator.node.JacksonByIndexNode;
 import com.github.simy4.xpath.jackson.navigator.node.JacksonByNameNode;
 import com.github.simy4.xpath.jackson.navigator.node.JacksonNode;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public class JacksonNavigator implements Navigator<JacksonNode> {
+import java.util.Collections;
+
+public class JacksonNavigator
+    implements BulkCopyNavigator<JacksonNode>, NameLookupNavigator<JacksonNode> {
 
   private final JacksonNode json;
 
@@ -59,6 +64,20 @@ public class JacksonNavigator implements Navigator<JacksonNode> {
     return parent.attributes();
   }
 
+  @Override
+  public Iterable<? extends JacksonNode> elementsOf(JacksonNode parent, QName name) {
+    return XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+        ? parent.elements(name.getLocalPart())
+        : Collections.<JacksonNode>emptyList();
+  }
+
+  @Override
+  public Iterable<? extends JacksonNode> attributesOf(JacksonNode parent, QName name) {
+    return XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+        ? parent.attributes(name.getLocalPart())
+        : Collections.<JacksonNode>emptyList();
+  }
+
   @Override
   public JacksonNode createAttribute(JacksonNode parent, QName attribute)
       throws XmlBuilderException {
@@ -84,44 +103,49 @@ public class JacksonNavigator implements Navigator<JacksonNode> {
 
   @Override
   public void prependCopy(JacksonNode node) throws XmlBuilderException {
+    prependCopies(node, 1);
+  }
+
+  @Override
+  public void prependCopies(JacksonNode node, int count) throws XmlBuilderException {
     final JacksonNode parent = node.getParent();
     if (null == parent) {
       throw new XmlBuilderException("Unable to prependcopy to root node " + node.get());
     }
     final JsonNode nodeToCopy = node.get();
     final JsonNode parentNode = parent.get();
-    final JacksonNode elementNode;
     if (parentNode.isObject()) {
       final JacksonNode parentParent = parent.getParent();
       final String name = node.getName().getLocalPart();
-      final ObjectNode jsonObject = new ObjectNode(JsonNodeFactory.instance);
+      final ArrayNode jsonArray;
       final JacksonByIndexNode copyNode;
-      if (parentParent != null) {
-        final JsonNode parentParentNode = parentParent.get();
-        if (parentParentNode.isArray()) {
-          final ArrayNode jsonArray = (ArrayNode) parentParentNode;
-          copyNode = prependToArray(parentParent, parentNode, jsonArray);
-          parent.setParent(
-              new JacksonByIndexNode(jsonArray, copyNode.getIndex() + 1, parentParent));
-        } else {
-          copyNode = prependToNewArray(parent, parentNode);
-          node.setParent(
-              new JacksonByIndexNode((ArrayNode) parent.get(), copyNode.getIndex() + 1, parent));
-        }
+      if (parentParent != null && parentParent.get().isArray()) {
+        jsonArray = (ArrayNode) parentParent.get();
+        copyNode = prependToArray(parentParent, parentNode, jsonArray, count);
+        parent.setParent(
+            new JacksonByIndexNode(jsonArray, copyNode.getIndex() + count, parentParent));
       } else {
-        copyNode = prependToNewArray(parent, parentNode);
+        copyNode = prependToNewArray(parent, parentNode, count);
+        jsonArray = (ArrayNode) parent.get();
+        if (parentParent != null) {
+          node.setParent(new JacksonByIndexNode(jsonArray, copyNode.getIndex() + count, parent));
+        }
+      }
+      for (int i = 0; i < count; i++) {
+        final ObjectNode jsonObject = new ObjectNode(JsonNodeFactory.instance);
+        jsonObject.set(name, nodeToCopy.deepCopy());
+        jsonArray.set(copyNode.getIndex() + i, jsonObject);
       }
-      elementNode = new JacksonByNameNode(jsonObject, name, copyNode);
-      copyNode.set(jsonObject);
     } else if (parentNode.isArray()) {
       final ArrayNode jsonArray = (ArrayNode) parentNode;
-      final JacksonByIndexNode copyNode = prependToArray(parent, nodeToCopy, jsonArray);
-      node.setParent(new JacksonByIndexNode(jsonArray, copyNode.getIndex() + 1, parent));
-      elementNode = copyNode;
+      final JacksonByIndexNode copyNode = prependToArray(parent, nodeToCopy, jsonArray, count);
+      node.setParent(new JacksonByIndexNode(jsonArray, copyNode.getIndex() + count, parent));
+      for (int i = 0; i < count; i++) {
+        jsonArray.set(copyNode.getIndex() + i, nodeToCopy.deepCopy());
+      }
     } else {
       throw new XmlBuilderException("Unable to prepend copy to primitive node: " + parentNode);
     }
-    elementNode.set(nodeToCopy.deepCopy());
   }
 
   @Override
@@ -174,26 +198,28 @@ public class JacksonNavigator implements Navigator<JacksonNode> {
     return new JacksonByNameNode(jsonObject, name, parentObjectNode);
   }
 
-  private JacksonByIndexNode prependToNewArray(JacksonNode parent, JsonNode node) {
+  private JacksonByIndexNode prependToNewArray(JacksonNode parent, JsonNode node, int count) {
     final ArrayNode jsonArray = new ArrayNode(JsonNodeFactory.instance);
     jsonArray.add(node);
-    final JacksonByIndexNode elementNode = prependToArray(parent, node, jsonArray);
+    final JacksonByIndexNode elementNode = prependToArray(parent, node, jsonArray, count);
     parent.set(jsonArray);
-    parent.setParent(new JacksonByIndexNode(jsonArray, 1, parent.getParent()));
+    parent.setParent(new JacksonByIndexNode(jsonArray, count, parent.getParent()));
     return elementNode;
   }
 
   @SuppressWarnings("ReferenceEquality")
   private JacksonByIndexNode prependToArray(
-      JacksonNode parent, JsonNode nodeToCopy, ArrayNode parentArray) {
-    int i = parentArray.size() - 1;
-    JsonNode arrayNode = parentArray.get(i);
-    parentArray.add(arrayNode);
-    while (nodeToCopy != arrayNode && i > 0) {
-      arrayNode = parentArray.get(i - 1);
-      parentArray.set(i, arrayNode);
-      i -= 1;
+      JacksonNode parent, JsonNode nodeToCopy, ArrayNode parentArray, int count) {
+    int i = parentArray.size();
+    for (int j = 0; j < count; j++) {
+      parentArray.addNull();
     }
+    JsonNode arrayNode;
+    do {
+      i -= 1;
+      arrayNode = parentArray.get(i);
+      parentArray.set(i + count, arrayNode);
+    } while (nodeToCopy != arrayNode && i > 0);
     return new JacksonByIndexNode(parentArray, i, parent);
   }
 }
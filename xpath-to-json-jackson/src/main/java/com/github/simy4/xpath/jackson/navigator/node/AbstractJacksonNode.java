@@ -63,12 +63,22 @@ abstract class AbstractJacksonNode implements JacksonNode {
 
   @Override
   public final Iterable<? extends JacksonNode> elements() {
-    return () -> traverse(get(), this, false);
+    return () -> traverse(get(), this, null, false);
+  }
+
+  @Override
+  public final Iterable<? extends JacksonNode> elements(String name) {
+    return () -> traverse(get(), this, name, false);
   }
 
   @Override
   public final Iterable<? extends JacksonNode> attributes() {
-    return () -> traverse(get(), this, true);
+    return () -> traverse(get(), this, null, true);
+  }
+
+  @Override
+  public final Iterable<? extends JacksonNode> attributes(String name) {
+    return () -> traverse(get(), this, name, true);
   }
 
   @Override
@@ -95,12 +105,22 @@ abstract class AbstractJacksonNode implements JacksonNode {
     return Objects.toString(get(), "???");
   }
 
-  static Iterator<JacksonNode> traverse(JsonNode jsonNode, JacksonNode parent, boolean attribute) {
+  static Iterator<JacksonNode> traverse(
+      JsonNode jsonNode, JacksonNode parent, String name, boolean attribute) {
     if (jsonNode.isObject()) {
-      return new JsonObjectIterator(
-          jsonNode.fieldNames(), (ObjectNode) jsonNode, parent, attribute);
+      final ObjectNode objectNode = (ObjectNode) jsonNode;
+      // a "*" key matches any name, so such objects are scanned in key order
+      if (null == name || objectNode.has("*")) {
+        return new JsonObjectIterator(objectNode.fieldNames(), objectNode, parent, attribute);
+      }
+      final JsonNode child = objectNode.get(name);
+      return null != child && attribute == isAttribute(child)
+          ? Collections.<JacksonNode>singleton(new JacksonByNameNode(objectNode, name, parent))
+              .iterator()
+          : Collections.<JacksonNode>emptyIterator();
     } else if (jsonNode.isArray()) {
-      return new JsonArrayIterator(jsonNode.elements(), (ArrayNode) jsonNode, parent, attribute);
+      return new JsonArrayIterator(
+          jsonNode.elements(), (ArrayNode) jsonNode, parent, name, attribute);
     } else {
       return Collections.emptyIterator();
     }
@@ -166,6 +186,7 @@ abstract class AbstractJacksonNode implements JacksonNode {
     private final Iterator<JsonNode> arrayIterator;
     private final ArrayNode parentArray;
     private final JacksonNode parent;
+    private final String name;
     private final boolean attribute;
     private int index;
     private Iterator<JacksonNode> current = Collections.emptyIterator();
@@ -174,10 +195,12 @@ abstract class AbstractJacksonNode implements JacksonNode {
         Iterator<JsonNode> arrayIterator,
         ArrayNode parentArray,
         JacksonNode parent,
+        String name,
         boolean attribute) {
       this.arrayIterator = arrayIterator;
       this.parentArray = parentArray;
       this.parent = parent;
+      this.name = name;
       this.attribute = attribute;
     }
 
@@ -190,18 +213,22 @@ abstract class AbstractJacksonNode implements JacksonNode {
         current =
             isAttribute(jsonNode)
                 ? traverseAttributeNode(arrayElemNode)
-                : traverse(jsonNode, arrayElemNode, attribute);
+                : traverse(jsonNode, arrayElemNode, name, attribute);
       }
       return currentHasNext;
     }
 
     @Override
     public JacksonNode next() {
+      hasNext();
       return current.next();
     }
 
     private Iterator<JacksonNode> traverseAttributeNode(JacksonNode arrayNode) {
-      return attribute ? Collections.singleton(arrayNode).iterator() : Collections.emptyIterator();
+      // array items are named by their index, so they never match a name lookup
+      return attribute && null == name
+          ? Collections.singleton(arrayNode).iterator()
+          : Collections.emptyIterator();
     }
   }
 }
@@ -15,12 +15,14 @@
  */
 package com.github.simy4.xpath.jackson.navigator.node;
 
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public final class JacksonByNameNode extends AbstractJacksonNode {
+public final class JacksonByNameNode extends AbstractJacksonNode implements NameMatchingNode {
 
   private final ObjectNode parentObject;
   private final String name;
@@ -43,6 +45,12 @@ public final class JacksonByNameNode extends AbstractJacksonNode {
     return new QName(name);
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == namespaceUri || XMLConstants.NULL_NS_URI.equals(namespaceUri))
+        && (null == localPart || localPart.equals(name) || "*".equals(name));
+  }
+
   @Override
   public JsonNode get() {
     return parentObject.get(name);
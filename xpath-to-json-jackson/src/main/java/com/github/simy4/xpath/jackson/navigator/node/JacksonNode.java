@@ -38,4 +38,8 @@ public interface JacksonNode extends Node {
   Iterable<? extends JacksonNode> elements();
 
   Iterable<? extends JacksonNode> attributes();
+
+  Iterable<? extends JacksonNode> elements(String name);
+
+  Iterable<? extends JacksonNode> attributes(String name);
 }
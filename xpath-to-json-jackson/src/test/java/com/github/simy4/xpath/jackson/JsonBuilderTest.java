@@ -111,6 +111,30 @@ class JsonBuilderTest {
     assertThat(jsonToString(builtDocument)).isNotEqualTo(fixtureAccessor.getPutValueXml());
   }
 
+  @ParameterizedTest
+  @MethodSource("data")
+  void shouldBuildSameJsonWithoutOptimization(FixtureAccessor fixtureAccessor)
+      throws XPathExpressionException, IOException {
+    var xmlProperties = fixtureAccessor.getXmlProperties();
+    var json = fixtureAccessor.getPutValueXml();
+    var optimizedBuilder = new XmlBuilder();
+    var unoptimizedBuilder = new XmlBuilder().withOptimization(false);
+
+    var optimizedDocument =
+        optimizedBuilder.putAll(xmlProperties).build(new ObjectNode(JsonNodeFactory.instance));
+    var unoptimizedDocument =
+        unoptimizedBuilder.putAll(xmlProperties).build(new ObjectNode(JsonNodeFactory.instance));
+
+    assertThat(jsonToString(optimizedDocument)).isEqualTo(jsonToString(unoptimizedDocument));
+
+    var optimizedRemoved =
+        optimizedBuilder.removeAll(xmlProperties.keySet()).build(stringToJson(json));
+    var unoptimizedRemoved =
+        unoptimizedBuilder.removeAll(xmlProperties.keySet()).build(stringToJson(json));
+
+    assertThat(jsonToString(optimizedRemoved)).isEqualTo(jsonToString(unoptimizedRemoved));
+  }
+
   private JsonNode stringToJson(String xml) throws IOException {
     return objectMapper.readTree(xml);
   }
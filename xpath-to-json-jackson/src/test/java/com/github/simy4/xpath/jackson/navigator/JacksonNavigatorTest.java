@@ -48,6 +48,43 @@ class JacksonNavigatorTest {
     assertThat(navigator.parentOf(root)).isNull();
   }
 
+  @Test
+  void shouldLookUpChildrenOfObjectByName() {
+    json.set("child", new ObjectNode(JsonNodeFactory.instance));
+    json.set("attr", new TextNode("zero"));
+    var navigator = new JacksonNavigator(root);
+
+    assertThat(navigator.elementsOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new JacksonByNameNode(json, "child", root));
+    assertThat(navigator.attributesOf(root, new QName("attr")))
+        .singleElement()
+        .isEqualTo(new JacksonByNameNode(json, "attr", root));
+    assertThat(navigator.elementsOf(root, new QName("attr"))).isEmpty();
+    assertThat(navigator.attributesOf(root, new QName("missing"))).isEmpty();
+    assertThat(navigator.elementsOf(root, new QName("http://www.example.com/my", "child")))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldLookUpChildrenOfArrayByName() {
+    var json = new ArrayNode(JsonNodeFactory.instance);
+    var first = json.addObject();
+    first.set("child", new ObjectNode(JsonNodeFactory.instance));
+    json.add("one");
+    var second = json.addObject();
+    second.set("child", new TextNode("zero"));
+    var root = new JacksonRootNode(json);
+    var navigator = new JacksonNavigator(root);
+
+    assertThat(navigator.elementsOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new JacksonByNameNode(first, "child", new JacksonByIndexNode(json, 0, root)));
+    assertThat(navigator.attributesOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new JacksonByNameNode(second, "child", new JacksonByIndexNode(json, 2, root)));
+  }
+
   @Test
   void shouldReturnParentForElementChild() {
     json.put("child", "zero");
@@ -19,16 +19,24 @@ import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.json.navigator.node.JakartaJsonByIndexNode;
 import com.github.simy4.xpath.json.navigator.node.JakartaJsonByNameNode;
 import com.github.simy4.xpath.json.navigator.node.JakartaJsonNode;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.json.navigator.node.JakartaJsonWorkingTree;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.json.JsonString;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public class JakartaJsonNavigator implements Navigator<JakartaJsonNode> {
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class JakartaJsonNavigator
+    implements BulkCopyNavigator<JakartaJsonNode>, NameLookupNavigator<JakartaJsonNode> {
 
   private final JsonProvider jsonProvider;
   private final JakartaJsonNode json;
@@ -61,6 +69,20 @@ public class JakartaJsonNavigator implements Navigator<JakartaJsonNode> {
     return () -> parent.attributes().iterator();
   }
 
+  @Override
+  public Iterable<? extends JakartaJsonNode> elementsOf(JakartaJsonNode parent, QName name) {
+    return XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+        ? () -> parent.elements(name.getLocalPart()).iterator()
+        : Collections.<JakartaJsonNode>emptyList();
+  }
+
+  @Override
+  public Iterable<? extends JakartaJsonNode> attributesOf(JakartaJsonNode parent, QName name) {
+    return XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+        ? () -> parent.attributes(name.getLocalPart()).iterator()
+        : Collections.<JakartaJsonNode>emptyList();
+  }
+
   @Override
   public JakartaJsonNode createAttribute(JakartaJsonNode parent, QName attribute)
       throws XmlBuilderException {
@@ -79,12 +101,8 @@ public class JakartaJsonNavigator implements Navigator<JakartaJsonNode> {
     JsonValue jsonValue = node.get();
     switch (jsonValue.getValueType()) {
       case OBJECT:
-        final JsonObject jsonObject = jsonValue.asJsonObject();
         jsonValue =
-            jsonProvider
-                .createObjectBuilder(jsonObject)
-                .add("text", jsonProvider.createValue(text))
-                .build();
+            JakartaJsonWorkingTree.put(jsonProvider, jsonValue.asJsonObject(), "text", jsonText);
         break;
       case ARRAY:
         throw new XmlBuilderException("Unable to set text to JSON array: " + jsonValue);
@@ -97,45 +115,56 @@ public class JakartaJsonNavigator implements Navigator<JakartaJsonNode> {
 
   @Override
   public void prependCopy(JakartaJsonNode node) throws XmlBuilderException {
+    prependCopies(node, 1);
+  }
+
+  @Override
+  public void prependCopies(JakartaJsonNode node, int count) throws XmlBuilderException {
     final JakartaJsonNode parent = node.getParent();
     if (null == parent) {
       throw new XmlBuilderException("Unable to prepend copy to root node " + node.get());
     }
     final JsonValue valueToCopy = node.get();
     final JsonValue parentValue = parent.get();
-    final JakartaJsonNode elementNode;
+    final List<JsonValue> copies = new ArrayList<>(count);
     final JakartaJsonByIndexNode copyNode;
     switch (parentValue.getValueType()) {
       case OBJECT:
         final JakartaJsonNode parentParent = parent.getParent();
         final String name = node.getName().getLocalPart();
-        final JsonObject jsonObject = JsonValue.EMPTY_JSON_OBJECT;
+        for (int i = 0; i < count; i++) {
+          copies.add(
+              JakartaJsonWorkingTree.put(
+                  jsonProvider,
+                  JsonValue.EMPTY_JSON_OBJECT,
+                  name,
+                  JakartaJsonWorkingTree.copy(valueToCopy)));
+        }
         if (parentParent != null) {
           final JsonValue parentParentValue = parentParent.get();
           if (JsonValue.ValueType.ARRAY == parentParentValue.getValueType()) {
             final JsonArray jsonArray = parentParentValue.asJsonArray();
-            copyNode = prependToArray(parentParent, parentValue, jsonArray);
-            node.setParent(new JakartaJsonByIndexNode(copyNode.getIndex() + 1, parentParent));
+            copyNode = prependToArray(parentParent, parentValue, jsonArray, copies);
+            node.setParent(new JakartaJsonByIndexNode(copyNode.getIndex() + count, parentParent));
           } else {
-            copyNode = prependToNewArray(parent, parentValue);
-            node.setParent(new JakartaJsonByIndexNode(copyNode.getIndex() + 1, parent));
+            copyNode = prependToNewArray(parent, parentValue, copies);
+            node.setParent(new JakartaJsonByIndexNode(copyNode.getIndex() + count, parent));
           }
         } else {
-          copyNode = prependToNewArray(parent, parentValue);
+          prependToNewArray(parent, parentValue, copies);
         }
-        elementNode = new JakartaJsonByNameNode(name, copyNode);
-        copyNode.set(jsonProvider, jsonObject);
         break;
       case ARRAY:
+        for (int i = 0; i < count; i++) {
+          copies.add(JakartaJsonWorkingTree.copy(valueToCopy));
+        }
         final JsonArray jsonArray = parentValue.asJsonArray();
-        copyNode = prependToArray(parent, valueToCopy, jsonArray);
-        node.setParent(new JakartaJsonByIndexNode(copyNode.getIndex() + 1, parent));
-        elementNode = copyNode;
+        copyNode = prependToArray(parent, valueToCopy, jsonArray, copies);
+        node.setParent(new JakartaJsonByIndexNode(copyNode.getIndex() + count, parent));
         break;
       default:
         throw new XmlBuilderException("Unable to prepend copy to primitive node: " + parentValue);
     }
-    elementNode.set(jsonProvider, valueToCopy);
   }
 
   @Override
@@ -185,21 +214,25 @@ public class JakartaJsonNavigator implements Navigator<JakartaJsonNode> {
   private JakartaJsonNode appendToArray(
       JakartaJsonNode parent, String name, JsonArray parentArray) {
     final int index = parentArray.size();
-    parentArray =
-        jsonProvider.createArrayBuilder(parentArray).add(JsonValue.EMPTY_JSON_OBJECT).build();
+    final JsonValue newValue = JsonValue.EMPTY_JSON_OBJECT;
+    parentArray = JakartaJsonWorkingTree.insert(jsonProvider, parentArray, index, newValue);
     parent.set(jsonProvider, parentArray);
     return new JakartaJsonByNameNode(name, new JakartaJsonByIndexNode(index, parent));
   }
 
-  private JakartaJsonByIndexNode prependToNewArray(JakartaJsonNode parent, JsonValue valueToCopy) {
+  private JakartaJsonByIndexNode prependToNewArray(
+      JakartaJsonNode parent, JsonValue valueToCopy, List<JsonValue> copies) {
     final JsonArray jsonArray = jsonProvider.createArrayBuilder().add(valueToCopy).build();
-    return prependToArray(parent, valueToCopy, jsonArray);
+    return prependToArray(parent, valueToCopy, jsonArray, copies);
   }
 
   private JakartaJsonByIndexNode prependToArray(
-      JakartaJsonNode parent, JsonValue valueToCopy, JsonArray parentArray) {
+      JakartaJsonNode parent,
+      JsonValue valueToCopy,
+      JsonArray parentArray,
+      List<JsonValue> copies) {
     final int index = parentArray.indexOf(valueToCopy);
-    parentArray = jsonProvider.createArrayBuilder(parentArray).add(index, valueToCopy).build();
+    parentArray = JakartaJsonWorkingTree.insertAll(jsonProvider, parentArray, index, copies);
     parent.set(jsonProvider, parentArray);
     return new JakartaJsonByIndexNode(index, parent);
   }
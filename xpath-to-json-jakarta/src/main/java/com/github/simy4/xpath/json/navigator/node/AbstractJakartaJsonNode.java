@@ -74,12 +74,22 @@ abstract class AbstractJakartaJsonNode implements JakartaJsonNode {
 
   @Override
   public Stream<JakartaJsonNode> elements() {
-    return traverse(get(), this, false);
+    return traverse(get(), this, null, false);
+  }
+
+  @Override
+  public Stream<JakartaJsonNode> elements(String name) {
+    return traverse(get(), this, name, false);
   }
 
   @Override
   public Stream<JakartaJsonNode> attributes() {
-    return traverse(get(), this, true);
+    return traverse(get(), this, null, true);
+  }
+
+  @Override
+  public Stream<JakartaJsonNode> attributes(String name) {
+    return traverse(get(), this, name, true);
   }
 
   @Override
@@ -107,15 +117,23 @@ abstract class AbstractJakartaJsonNode implements JakartaJsonNode {
   }
 
   static Stream<JakartaJsonNode> traverse(
-      JsonValue jsonValue, JakartaJsonNode parent, boolean attribute) {
+      JsonValue jsonValue, JakartaJsonNode parent, String name, boolean attribute) {
     switch (jsonValue.getValueType()) {
       case OBJECT:
         final JsonObject jsonObject = jsonValue.asJsonObject();
-        return jsonObject.keySet().stream()
-            .filter(name -> attribute == isAttribute(jsonObject.get(name)))
-            .map(name -> new JakartaJsonByNameNode(name, parent));
+        // a "*" key matches any name, so such objects are scanned in key order
+        if (null == name || jsonObject.containsKey("*")) {
+          return jsonObject.keySet().stream()
+              .filter(key -> attribute == isAttribute(jsonObject.get(key)))
+              .map(key -> new JakartaJsonByNameNode(key, parent));
+        }
+        final JsonValue child = jsonObject.get(name);
+        return null != child && attribute == isAttribute(child)
+            ? Stream.of(new JakartaJsonByNameNode(name, parent))
+            : Stream.empty();
       case ARRAY:
-        return jsonValue.asJsonArray().stream().flatMap(new JsonArrayWrapper(parent, attribute));
+        return jsonValue.asJsonArray().stream()
+            .flatMap(new JsonArrayWrapper(parent, name, attribute));
       default:
         return Stream.empty();
     }
@@ -130,20 +148,23 @@ abstract class AbstractJakartaJsonNode implements JakartaJsonNode {
       implements Function<JsonValue, Stream<JakartaJsonNode>> {
 
     private final JakartaJsonNode parent;
+    private final String name;
     private final boolean attribute;
     private int index;
 
-    JsonArrayWrapper(JakartaJsonNode parent, boolean attribute) {
+    JsonArrayWrapper(JakartaJsonNode parent, String name, boolean attribute) {
       this.parent = parent;
+      this.name = name;
       this.attribute = attribute;
     }
 
     @Override
     public Stream<JakartaJsonNode> apply(JsonValue jsonValue) {
       final JakartaJsonNode arrayElemNode = new JakartaJsonByIndexNode(index++, parent);
+      // array items are named by their index, so they never match a name lookup
       return isAttribute(jsonValue)
-          ? attribute ? Stream.of(arrayElemNode) : Stream.empty()
-          : traverse(jsonValue, arrayElemNode, attribute);
+          ? attribute && null == name ? Stream.of(arrayElemNode) : Stream.empty()
+          : traverse(jsonValue, arrayElemNode, name, attribute);
     }
   }
 }
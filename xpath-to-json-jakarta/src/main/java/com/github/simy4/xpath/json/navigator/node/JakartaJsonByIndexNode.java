@@ -16,7 +16,6 @@
 package com.github.simy4.xpath.json.navigator.node;
 
 import jakarta.json.JsonArray;
-import jakarta.json.JsonArrayBuilder;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 
@@ -49,12 +48,12 @@ public final class JakartaJsonByIndexNode extends AbstractJakartaJsonNode {
 
   @Override
   public void set(JsonProvider jsonProvider, JsonValue jsonValue) {
-    final JsonArrayBuilder arrayBuilder = jsonProvider.createArrayBuilder(getParentArray());
+    final JsonArray jsonArray = getParentArray();
     final JsonArray newJsonArray =
-        null == jsonValue
-            ? arrayBuilder.remove(index).build()
-            : arrayBuilder.set(index, jsonValue).build();
-    getParent().set(jsonProvider, newJsonArray);
+        JakartaJsonWorkingTree.set(jsonProvider, jsonArray, index, jsonValue);
+    if (newJsonArray != jsonArray) {
+      getParent().set(jsonProvider, newJsonArray);
+    }
   }
 
   @Override
@@ -15,14 +15,16 @@
  */
 package com.github.simy4.xpath.json.navigator.node;
 
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import jakarta.json.JsonObject;
-import jakarta.json.JsonObjectBuilder;
 import jakarta.json.JsonValue;
 import jakarta.json.spi.JsonProvider;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public final class JakartaJsonByNameNode extends AbstractJakartaJsonNode {
+public final class JakartaJsonByNameNode extends AbstractJakartaJsonNode
+    implements NameMatchingNode {
 
   private final String name;
 
@@ -42,6 +44,12 @@ public final class JakartaJsonByNameNode extends AbstractJakartaJsonNode {
     return new QName(name);
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == namespaceUri || XMLConstants.NULL_NS_URI.equals(namespaceUri))
+        && (null == localPart || localPart.equals(name) || "*".equals(name));
+  }
+
   @Override
   public JsonValue get() {
     return getParentObject().get(name);
@@ -49,12 +57,12 @@ public final class JakartaJsonByNameNode extends AbstractJakartaJsonNode {
 
   @Override
   public void set(JsonProvider jsonProvider, JsonValue jsonValue) {
-    final JsonObjectBuilder objectBuilder = jsonProvider.createObjectBuilder(getParentObject());
+    final JsonObject jsonObject = getParentObject();
     final JsonObject newJsonObject =
-        null == jsonValue
-            ? objectBuilder.remove(name).build()
-            : objectBuilder.add(name, jsonValue).build();
-    getParent().set(jsonProvider, newJsonObject);
+        JakartaJsonWorkingTree.put(jsonProvider, jsonObject, name, jsonValue);
+    if (newJsonObject != jsonObject) {
+      getParent().set(jsonProvider, newJsonObject);
+    }
   }
 
   @Override
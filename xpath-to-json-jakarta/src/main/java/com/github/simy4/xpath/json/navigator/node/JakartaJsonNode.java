@@ -41,4 +41,8 @@ public interface JakartaJsonNode extends Node {
   Stream<JakartaJsonNode> elements();
 
   Stream<JakartaJsonNode> attributes();
+
+  Stream<JakartaJsonNode> elements(String name);
+
+  Stream<JakartaJsonNode> attributes(String name);
 }
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.json.navigator.node;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable working copy of a Jakarta JSON value.
+ *
+ * <p>Thawed objects and arrays are modified in place, so that a write does not copy every ancestor
+ * of the modified value up to the root. Immutable values are still supported and copied on write
+ * as before. A thawed tree should be frozen back before it is handed out.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class JakartaJsonWorkingTree {
+
+  private JakartaJsonWorkingTree() {}
+
+  /**
+   * Converts immutable objects and arrays of a given value into mutable ones. Values that are
+   * already mutable are returned as they are.
+   *
+   * @param jsonValue value to thaw
+   * @return mutable value
+   */
+  public static JsonValue thaw(JsonValue jsonValue) {
+    if (jsonValue instanceof MutableJsonStructure) {
+      return jsonValue;
+    }
+    switch (jsonValue.getValueType()) {
+      case OBJECT:
+        final MutableJsonObject jsonObject = new MutableJsonObject();
+        for (Map.Entry<String, JsonValue> entry : jsonValue.asJsonObject().entrySet()) {
+          jsonObject.put(entry.getKey(), thaw(entry.getValue()));
+        }
+        return jsonObject;
+      case ARRAY:
+        final MutableJsonArray jsonArray = new MutableJsonArray();
+        for (JsonValue value : jsonValue.asJsonArray()) {
+          jsonArray.add(thaw(value));
+        }
+        return jsonArray;
+      default:
+        return jsonValue;
+    }
+  }
+
+  /**
+   * Converts mutable objects and arrays of a given value back into immutable ones.
+   *
+   * @param jsonProvider provider to build immutable values with
+   * @param jsonValue value to freeze
+   * @return immutable value
+   */
+  public static JsonValue freeze(JsonProvider jsonProvider, JsonValue jsonValue) {
+    if (jsonValue instanceof MutableJsonObject) {
+      final JsonObjectBuilder objectBuilder = jsonProvider.createObjectBuilder();
+      for (Map.Entry<String, JsonValue> entry : ((MutableJsonObject) jsonValue).entrySet()) {
+        objectBuilder.add(entry.getKey(), freeze(jsonProvider, entry.getValue()));
+      }
+      return objectBuilder.build();
+    } else if (jsonValue instanceof MutableJsonArray) {
+      final JsonArrayBuilder arrayBuilder = jsonProvider.createArrayBuilder();
+      for (JsonValue value : (MutableJsonArray) jsonValue) {
+        arrayBuilder.add(freeze(jsonProvider, value));
+      }
+      return arrayBuilder.build();
+    } else {
+      return jsonValue;
+    }
+  }
+
+  /**
+   * Copies a given value, so that it can be placed in a tree next to the original one.
+   *
+   * @param jsonValue value to copy
+   * @return independent copy of mutable value or the same immutable value
+   */
+  public static JsonValue copy(JsonValue jsonValue) {
+    if (jsonValue instanceof MutableJsonObject) {
+      final MutableJsonObject jsonObject = new MutableJsonObject();
+      for (Map.Entry<String, JsonValue> entry : ((MutableJsonObject) jsonValue).entrySet()) {
+        jsonObject.put(entry.getKey(), copy(entry.getValue()));
+      }
+      return jsonObject;
+    } else if (jsonValue instanceof MutableJsonArray) {
+      final MutableJsonArray jsonArray = new MutableJsonArray();
+      for (JsonValue value : (MutableJsonArray) jsonValue) {
+        jsonArray.add(copy(value));
+      }
+      return jsonArray;
+    } else {
+      return jsonValue;
+    }
+  }
+
+  /**
+   * Associates a given value with a given name in an object.
+   *
+   * @param jsonProvider provider to build immutable values with
+   * @param jsonObject object to modify
+   * @param name name to associate value with
+   * @param jsonValue value to associate or {@code null} to remove association
+   * @return the same object if it is mutable or a modified copy otherwise
+   */
+  public static JsonObject put(
+      JsonProvider jsonProvider, JsonObject jsonObject, String name, JsonValue jsonValue) {
+    if (jsonObject instanceof MutableJsonObject) {
+      if (null == jsonValue) {
+        jsonObject.remove(name);
+      } else {
+        jsonObject.put(name, thaw(jsonValue));
+      }
+      return jsonObject;
+    }
+    final JsonObjectBuilder objectBuilder = jsonProvider.createObjectBuilder(jsonObject);
+    return null == jsonValue
+        ? objectBuilder.remove(name).build()
+        : objectBuilder.add(name, jsonValue).build();
+  }
+
+  /**
+   * Replaces an element of an array.
+   *
+   * @param jsonProvider provider to build immutable values with
+   * @param jsonArray array to modify
+   * @param index index of element to replace
+   * @param jsonValue value to replace with or {@code null} to remove element
+   * @return the same array if it is mutable or a modified copy otherwise
+   */
+  public static JsonArray set(
+      JsonProvider jsonProvider, JsonArray jsonArray, int index, JsonValue jsonValue) {
+    if (jsonArray instanceof MutableJsonArray) {
+      if (null == jsonValue) {
+        jsonArray.remove(index);
+      } else {
+        jsonArray.set(index, thaw(jsonValue));
+      }
+      return jsonArray;
+    }
+    final JsonArrayBuilder arrayBuilder = jsonProvider.createArrayBuilder(jsonArray);
+    return null == jsonValue
+        ? arrayBuilder.remove(index).build()
+        : arrayBuilder.set(index, jsonValue).build();
+  }
+
+  /**
+   * Inserts an element into an array.
+   *
+   * @param jsonProvider provider to build immutable values with
+   * @param jsonArray array to modify
+   * @param index index to insert element at
+   * @param jsonValue value to insert
+   * @return the same array if it is mutable or a modified copy otherwise
+   */
+  public static JsonArray insert(
+      JsonProvider jsonProvider, JsonArray jsonArray, int index, JsonValue jsonValue) {
+    if (jsonArray instanceof MutableJsonArray) {
+      jsonArray.add(index, thaw(jsonValue));
+      return jsonArray;
+    }
+    return jsonProvider.createArrayBuilder(jsonArray).add(index, jsonValue).build();
+  }
+
+  /**
+   * Inserts elements into an array at once.
+   *
+   * @param jsonProvider provider to build immutable values with
+   * @param jsonArray array to modify
+   * @param index index to insert elements at
+   * @param jsonValues values to insert
+   * @return the same array if it is mutable or a modified copy otherwise
+   */
+  public static JsonArray insertAll(
+      JsonProvider jsonProvider, JsonArray jsonArray, int index, List<JsonValue> jsonValues) {
+    if (jsonArray instanceof MutableJsonArray) {
+      final List<JsonValue> thawedValues = new ArrayList<>(jsonValues.size());
+      for (JsonValue jsonValue : jsonValues) {
+        thawedValues.add(thaw(jsonValue));
+      }
+      jsonArray.addAll(index, thawedValues);
+      return jsonArray;
+    }
+    final JsonArrayBuilder arrayBuilder = jsonProvider.createArrayBuilder();
+    for (int i = 0; i < jsonArray.size(); i++) {
+      if (i == index) {
+        jsonValues.forEach(arrayBuilder::add);
+      }
+      arrayBuilder.add(jsonArray.get(i));
+    }
+    if (index == jsonArray.size()) {
+      jsonValues.forEach(arrayBuilder::add);
+    }
+    return arrayBuilder.build();
+  }
+
+  static StringBuilder appendQuoted(StringBuilder json, String string) {
+    json.append('"');
+    for (int i = 0; i < string.length(); i++) {
+      final char c = string.charAt(i);
+      switch (c) {
+        case '"':
+        case '\\':
+          json.append('\\').append(c);
+          break;
+        case '\n':
+          json.append("\\n");
+          break;
+        case '\r':
+          json.append("\\r");
+          break;
+        case '\t':
+          json.append("\\t");
+          break;
+        case '\b':
+          json.append("\\b");
+          break;
+        case '\f':
+          json.append("\\f");
+          break;
+        default:
+          if (c < ' ') {
+            json.append(String.format("\\u%04x", (int) c));
+          } else {
+            json.append(c);
+          }
+          break;
+      }
+    }
+    return json.append('"');
+  }
+}
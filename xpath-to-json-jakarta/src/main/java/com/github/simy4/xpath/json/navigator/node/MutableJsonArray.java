@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.json.navigator.node;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/** Mutable JSON array of a thawed working tree. */
+final class MutableJsonArray extends AbstractList<JsonValue>
+    implements JsonArray, MutableJsonStructure {
+
+  private final List<JsonValue> values = new ArrayList<>();
+  private MutableJsonStructure parent;
+  private boolean hashed;
+  private int hashCode;
+
+  @Override
+  public JsonValue get(int index) {
+    return values.get(index);
+  }
+
+  @Override
+  public int size() {
+    return values.size();
+  }
+
+  @Override
+  public JsonValue set(int index, JsonValue jsonValue) {
+    attach(jsonValue);
+    invalidate();
+    return values.set(index, jsonValue);
+  }
+
+  @Override
+  public void add(int index, JsonValue jsonValue) {
+    attach(jsonValue);
+    invalidate();
+    modCount++;
+    values.add(index, jsonValue);
+  }
+
+  @Override
+  public boolean addAll(int index, Collection<? extends JsonValue> jsonValues) {
+    for (JsonValue jsonValue : jsonValues) {
+      attach(jsonValue);
+    }
+    invalidate();
+    modCount++;
+    return values.addAll(index, jsonValues);
+  }
+
+  @Override
+  public JsonValue remove(int index) {
+    invalidate();
+    modCount++;
+    return values.remove(index);
+  }
+
+  @Override
+  public void attachTo(MutableJsonStructure parent) {
+    this.parent = parent;
+  }
+
+  @Override
+  public void invalidate() {
+    if (hashed) {
+      hashed = false;
+      if (null != parent) {
+        parent.invalidate();
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    if (!hashed) {
+      hashCode = super.hashCode();
+      hashed = true;
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return super.equals(o);
+  }
+
+  @Override
+  public JsonObject getJsonObject(int index) {
+    return (JsonObject) get(index);
+  }
+
+  @Override
+  public JsonArray getJsonArray(int index) {
+    return (JsonArray) get(index);
+  }
+
+  @Override
+  public JsonNumber getJsonNumber(int index) {
+    return (JsonNumber) get(index);
+  }
+
+  @Override
+  public JsonString getJsonString(int index) {
+    return (JsonString) get(index);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T extends JsonValue> List<T> getValuesAs(Class<T> clazz) {
+    return (List<T>) this;
+  }
+
+  @Override
+  public String getString(int index) {
+    return getJsonString(index).getString();
+  }
+
+  @Override
+  public String getString(int index, String defaultValue) {
+    final JsonValue jsonValue = index < size() ? get(index) : null;
+    return jsonValue instanceof JsonString ? ((JsonString) jsonValue).getString() : defaultValue;
+  }
+
+  @Override
+  public int getInt(int index) {
+    return getJsonNumber(index).intValue();
+  }
+
+  @Override
+  public int getInt(int index, int defaultValue) {
+    final JsonValue jsonValue = index < size() ? get(index) : null;
+    return jsonValue instanceof JsonNumber ? ((JsonNumber) jsonValue).intValue() : defaultValue;
+  }
+
+  @Override
+  public boolean getBoolean(int index) {
+    final JsonValue jsonValue = get(index);
+    if (JsonValue.TRUE.equals(jsonValue)) {
+      return true;
+    } else if (JsonValue.FALSE.equals(jsonValue)) {
+      return false;
+    } else {
+      throw new ClassCastException();
+    }
+  }
+
+  @Override
+  public boolean getBoolean(int index, boolean defaultValue) {
+    final JsonValue jsonValue = index < size() ? get(index) : null;
+    if (JsonValue.TRUE.equals(jsonValue)) {
+      return true;
+    } else if (JsonValue.FALSE.equals(jsonValue)) {
+      return false;
+    } else {
+      return defaultValue;
+    }
+  }
+
+  @Override
+  public boolean isNull(int index) {
+    return JsonValue.NULL.equals(get(index));
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return ValueType.ARRAY;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder json = new StringBuilder().append('[');
+    for (JsonValue value : values) {
+      if (json.length() > 1) {
+        json.append(',');
+      }
+      json.append(value);
+    }
+    return json.append(']').toString();
+  }
+
+  private void attach(JsonValue jsonValue) {
+    if (jsonValue instanceof MutableJsonStructure) {
+      ((MutableJsonStructure) jsonValue).attachTo(this);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.json.navigator.node;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/** Mutable JSON object of a thawed working tree. */
+final class MutableJsonObject extends AbstractMap<String, JsonValue>
+    implements JsonObject, MutableJsonStructure {
+
+  private final Map<String, JsonValue> values = new LinkedHashMap<>();
+  private final Set<Entry<String, JsonValue>> entries =
+      Collections.unmodifiableMap(values).entrySet();
+  private MutableJsonStructure parent;
+  private boolean hashed;
+  private int hashCode;
+
+  @Override
+  public Set<Entry<String, JsonValue>> entrySet() {
+    return entries;
+  }
+
+  @Override
+  public JsonValue get(Object name) {
+    return values.get(name);
+  }
+
+  @Override
+  public boolean containsKey(Object name) {
+    return values.containsKey(name);
+  }
+
+  @Override
+  public JsonValue put(String name, JsonValue jsonValue) {
+    if (jsonValue instanceof MutableJsonStructure) {
+      ((MutableJsonStructure) jsonValue).attachTo(this);
+    }
+    invalidate();
+    return values.put(name, jsonValue);
+  }
+
+  @Override
+  public JsonValue remove(Object name) {
+    invalidate();
+    return values.remove(name);
+  }
+
+  @Override
+  public void attachTo(MutableJsonStructure parent) {
+    this.parent = parent;
+  }
+
+  @Override
+  public void invalidate() {
+    if (hashed) {
+      hashed = false;
+      if (null != parent) {
+        parent.invalidate();
+      }
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    if (!hashed) {
+      hashCode = super.hashCode();
+      hashed = true;
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return super.equals(o);
+  }
+
+  @Override
+  public JsonArray getJsonArray(String name) {
+    return (JsonArray) get(name);
+  }
+
+  @Override
+  public JsonObject getJsonObject(String name) {
+    return (JsonObject) get(name);
+  }
+
+  @Override
+  public JsonNumber getJsonNumber(String name) {
+    return (JsonNumber) get(name);
+  }
+
+  @Override
+  public JsonString getJsonString(String name) {
+    return (JsonString) get(name);
+  }
+
+  @Override
+  public String getString(String name) {
+    return getJsonString(name).getString();
+  }
+
+  @Override
+  public String getString(String name, String defaultValue) {
+    final JsonValue jsonValue = get(name);
+    return jsonValue instanceof JsonString ? ((JsonString) jsonValue).getString() : defaultValue;
+  }
+
+  @Override
+  public int getInt(String name) {
+    return getJsonNumber(name).intValue();
+  }
+
+  @Override
+  public int getInt(String name, int defaultValue) {
+    final JsonValue jsonValue = get(name);
+    return jsonValue instanceof JsonNumber ? ((JsonNumber) jsonValue).intValue() : defaultValue;
+  }
+
+  @Override
+  public boolean getBoolean(String name) {
+    final JsonValue jsonValue = get(name);
+    if (null == jsonValue) {
+      throw new NullPointerException();
+    } else if (JsonValue.TRUE.equals(jsonValue)) {
+      return true;
+    } else if (JsonValue.FALSE.equals(jsonValue)) {
+      return false;
+    } else {
+      throw new ClassCastException();
+    }
+  }
+
+  @Override
+  public boolean getBoolean(String name, boolean defaultValue) {
+    final JsonValue jsonValue = get(name);
+    if (JsonValue.TRUE.equals(jsonValue)) {
+      return true;
+    } else if (JsonValue.FALSE.equals(jsonValue)) {
+      return false;
+    } else {
+      return defaultValue;
+    }
+  }
+
+  @Override
+  public boolean isNull(String name) {
+    return JsonValue.NULL.equals(get(name));
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return ValueType.OBJECT;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder json = new StringBuilder().append('{');
+    for (Entry<String, JsonValue> entry : values.entrySet()) {
+      if (json.length() > 1) {
+        json.append(',');
+      }
+      JakartaJsonWorkingTree.appendQuoted(json, entry.getKey());
+      json.append(':').append(entry.getValue());
+    }
+    return json.append('}').toString();
+  }
+}
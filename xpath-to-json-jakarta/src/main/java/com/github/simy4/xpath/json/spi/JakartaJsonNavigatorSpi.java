@@ -19,6 +19,7 @@ import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.json.navigator.JakartaJsonNavigator;
 import com.github.simy4.xpath.json.navigator.node.JakartaJsonNode;
 import com.github.simy4.xpath.json.navigator.node.JakartaJsonRootNode;
+import com.github.simy4.xpath.json.navigator.node.JakartaJsonWorkingTree;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.spi.Effect;
 import com.github.simy4.xpath.spi.NavigatorSpi;
@@ -35,17 +36,28 @@ public class JakartaJsonNavigatorSpi implements NavigatorSpi {
     return o instanceof JsonValue;
   }
 
+  /**
+   * Thaws given JSON into a private mutable working tree, applies all effects to it and freezes
+   * the result back into an immutable JSON value once at the end.
+   *
+   * @param json JSON to process
+   * @param effects effects to apply
+   * @param <T> JSON model type
+   * @return processed JSON
+   * @throws XmlBuilderException if JSON model modification failed
+   */
   @Override
   @SuppressWarnings("unchecked")
   public <T> T process(T json, Iterable<Effect> effects) throws XmlBuilderException {
     if (!canHandle(json)) {
       throw new IllegalArgumentException("JSON model is not supported");
     }
-    final JakartaJsonNode root = new JakartaJsonRootNode((JsonValue) json);
+    final JakartaJsonNode root =
+        new JakartaJsonRootNode(JakartaJsonWorkingTree.thaw((JsonValue) json));
     final Navigator<JakartaJsonNode> navigator = new JakartaJsonNavigator(jsonProvider, root);
     for (Effect effect : effects) {
       effect.perform(navigator, root);
     }
-    return (T) root.get();
+    return (T) JakartaJsonWorkingTree.freeze(jsonProvider, root.get());
   }
 }
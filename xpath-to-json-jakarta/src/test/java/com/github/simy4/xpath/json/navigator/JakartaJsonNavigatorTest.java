@@ -49,6 +49,47 @@ class JakartaJsonNavigatorTest {
     assertThat(navigator.parentOf(root)).isNull();
   }
 
+  @Test
+  void shouldLookUpChildrenOfObjectByName() {
+    var json =
+        Json.createObjectBuilder()
+            .add("child", JsonValue.EMPTY_JSON_OBJECT)
+            .add("attr", Json.createValue("zero"))
+            .build();
+    var root = new JakartaJsonRootNode(json);
+    var navigator = new JakartaJsonNavigator(jsonProvider, root);
+
+    assertThat(navigator.elementsOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new JakartaJsonByNameNode("child", root));
+    assertThat(navigator.attributesOf(root, new QName("attr")))
+        .singleElement()
+        .isEqualTo(new JakartaJsonByNameNode("attr", root));
+    assertThat(navigator.elementsOf(root, new QName("attr"))).isEmpty();
+    assertThat(navigator.attributesOf(root, new QName("missing"))).isEmpty();
+    assertThat(navigator.elementsOf(root, new QName("http://www.example.com/my", "child")))
+        .isEmpty();
+  }
+
+  @Test
+  void shouldLookUpChildrenOfArrayByName() {
+    var json =
+        Json.createArrayBuilder()
+            .add(Json.createObjectBuilder().add("child", JsonValue.EMPTY_JSON_OBJECT))
+            .add("one")
+            .add(Json.createObjectBuilder().add("child", "zero"))
+            .build();
+    var root = new JakartaJsonRootNode(json);
+    var navigator = new JakartaJsonNavigator(jsonProvider, root);
+
+    assertThat(navigator.elementsOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new JakartaJsonByNameNode("child", new JakartaJsonByIndexNode(0, root)));
+    assertThat(navigator.attributesOf(root, new QName("child")))
+        .singleElement()
+        .isEqualTo(new JakartaJsonByNameNode("child", new JakartaJsonByIndexNode(2, root)));
+  }
+
   @Test
   void shouldReturnParentForElementChild() {
     var json = Json.createObjectBuilder().add("child", Json.createValue("zero")).build();
@@ -220,4 +261,40 @@ class JakartaJsonNavigatorTest {
     assertThatThrownBy(() -> navigator.createAttribute(childNode, new QName("child")))
         .isInstanceOf(XmlBuilderException.class);
   }
+
+  @Test
+  void shouldPrependCopiesToArrayParent() {
+    var json =
+        Json.createObjectBuilder()
+            .add("child", Json.createArrayBuilder().add("zero").add("one"))
+            .build();
+    var root = new JakartaJsonRootNode(json);
+    var navigator = new JakartaJsonNavigator(jsonProvider, root);
+
+    navigator.prependCopies(
+        new JakartaJsonByIndexNode(1, new JakartaJsonByNameNode("child", root)), 2);
+
+    var expected =
+        Json.createObjectBuilder()
+            .add("child", Json.createArrayBuilder().add("zero").add("one").add("one").add("one"))
+            .build();
+    assertThat(root.get()).isEqualTo(expected);
+  }
+
+  @Test
+  void shouldPrependCopiesToObjectParent() {
+    var child = Json.createObjectBuilder().add("name", Json.createValue("zero")).build();
+    var json = Json.createObjectBuilder().add("child", child).build();
+    var root = new JakartaJsonRootNode(json);
+    var navigator = new JakartaJsonNavigator(jsonProvider, root);
+
+    navigator.prependCopies(
+        new JakartaJsonByNameNode("name", new JakartaJsonByNameNode("child", root)), 2);
+
+    var expected =
+        Json.createObjectBuilder()
+            .add("child", Json.createArrayBuilder().add(child).add(child).add(child))
+            .build();
+    assertThat(root.get()).isEqualTo(expected);
+  }
 }
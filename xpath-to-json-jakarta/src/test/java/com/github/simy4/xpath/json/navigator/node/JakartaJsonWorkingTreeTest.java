@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.json.navigator.node;
+
+import jakarta.json.JsonObject;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JakartaJsonWorkingTreeTest {
+
+  private static final JsonProvider jsonProvider = JsonProvider.provider();
+
+  private final JsonObject jsonObject =
+      jsonProvider
+          .createObjectBuilder()
+          .add("one", 1)
+          .add("two", jsonProvider.createObjectBuilder().add("text", "two \"2\""))
+          .add("three", jsonProvider.createArrayBuilder().add(3).add(JsonValue.EMPTY_JSON_OBJECT))
+          .build();
+
+  @Test
+  void shouldThawAndFreezeEqualValue() {
+    var thawed = JakartaJsonWorkingTree.thaw(jsonObject);
+    var frozen = JakartaJsonWorkingTree.freeze(jsonProvider, thawed);
+
+    assertThat(thawed).isEqualTo(jsonObject).hasToString(jsonObject.toString());
+    assertThat(frozen).isEqualTo(jsonObject).isNotSameAs(thawed);
+    assertThat(JakartaJsonWorkingTree.freeze(jsonProvider, jsonObject)).isSameAs(jsonObject);
+  }
+
+  @Test
+  void shouldModifyThawedValuesInPlace() {
+    var thawed = JakartaJsonWorkingTree.thaw(jsonObject).asJsonObject();
+    var array = thawed.getJsonArray("three");
+
+    assertThat(JakartaJsonWorkingTree.put(jsonProvider, thawed, "one", null)).isSameAs(thawed);
+    assertThat(JakartaJsonWorkingTree.insert(jsonProvider, array, 0, jsonProvider.createValue(0)))
+        .isSameAs(array);
+    assertThat(JakartaJsonWorkingTree.set(jsonProvider, array, 2, JsonValue.EMPTY_JSON_ARRAY))
+        .isSameAs(array);
+    assertThat(thawed)
+        .hasToString("{\"two\":{\"text\":\"two \\\"2\\\"\"},\"three\":[0,3,[]]}");
+    assertThat(jsonObject).containsKey("one");
+  }
+
+  @Test
+  void shouldCopyImmutableValuesOnWrite() {
+    var modified = JakartaJsonWorkingTree.put(jsonProvider, jsonObject, "one", null);
+
+    assertThat(modified).isNotSameAs(jsonObject).doesNotContainKey("one");
+    assertThat(jsonObject).containsKey("one");
+  }
+
+  @Test
+  void shouldCopyThawedValues() {
+    var thawed = JakartaJsonWorkingTree.thaw(jsonObject);
+    var copy = JakartaJsonWorkingTree.copy(thawed).asJsonObject();
+    JakartaJsonWorkingTree.put(jsonProvider, copy.getJsonObject("two"), "text", null);
+
+    assertThat(thawed).isEqualTo(jsonObject);
+    assertThat(JakartaJsonWorkingTree.copy(jsonObject)).isSameAs(jsonObject);
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.parser;
+
+import com.github.simy4.xpath.fixtures.FixtureAccessor;
+import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.xpath.XPathExpressionException;
+
+/** Parser throughput benchmark. Run with {@code -prof gc} to see bytes allocated per parse. */
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class XPathParserBenchmark {
+
+  @Param({"simple", "ns-simple", "attr", "special"})
+  public String fixtureName;
+
+  private XPathParser xpathParser;
+  private String[] xpaths;
+
+  @Setup
+  public void setUp() {
+    xpathParser = new XPathParser(new SimpleNamespaceContext());
+    xpaths = new FixtureAccessor(fixtureName).getXmlProperties().keySet().toArray(new String[0]);
+  }
+
+  @Benchmark
+  public void shouldParseXPaths(Blackhole blackhole) throws XPathExpressionException {
+    for (var xpath : xpaths) {
+      blackhole.consume(xpathParser.parse(xpath));
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import com.github.simy4.xpath.expr.Expr;
+import com.github.simy4.xpath.util.LruCache;
+
+import javax.xml.namespace.NamespaceContext;
+
+/**
+ * Bounded thread safe cache of parsed XPath expressions that can be shared between builders.
+ *
+ * <p>Expressions are cached per XPath, namespace context and optimization setting, so prefixed
+ * names resolved against different namespace contexts are never shared.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ * @see XmlBuilder#XmlBuilder(NamespaceContext, ParseCache)
+ */
+public final class ParseCache {
+
+  private final LruCache<CacheKey, Expr> cache;
+
+  public ParseCache(int maximumSize) {
+    this.cache = new LruCache<CacheKey, Expr>(maximumSize);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize maximum number of cached expressions
+   * @param concurrencyLevel estimated number of concurrently parsing threads
+   * @see LruCache#LruCache(int, int)
+   */
+  public ParseCache(int maximumSize, int concurrencyLevel) {
+    this.cache = new LruCache<CacheKey, Expr>(maximumSize, concurrencyLevel);
+  }
+
+  /**
+   * Looks up cached expression.
+   *
+   * @param xpath parsed XPath
+   * @param namespaceContext namespace context XPath was parsed with
+   * @param optimize whether expression was optimized
+   * @return cached expression or {@code null} if absent
+   */
+  public Expr get(String xpath, NamespaceContext namespaceContext, boolean optimize) {
+    return cache.get(new CacheKey(xpath, namespaceContext, optimize));
+  }
+
+  /**
+   * Caches given expression unless an expression for the same XPath is cached already.
+   *
+   * @param xpath parsed XPath
+   * @param namespaceContext namespace context XPath was parsed with
+   * @param optimize whether expression was optimized
+   * @param expr expression to cache
+   * @return cached expression, which is either the given or a previously cached one
+   */
+  public Expr putIfAbsent(
+      String xpath, NamespaceContext namespaceContext, boolean optimize, Expr expr) {
+    return cache.putIfAbsent(new CacheKey(xpath, namespaceContext, optimize), expr);
+  }
+
+  /** Removes all cached expressions. Statistics are kept. */
+  public void clear() {
+    cache.clear();
+  }
+
+  public int size() {
+    return cache.size();
+  }
+
+  public int getMaximumSize() {
+    return cache.getMaximumSize();
+  }
+
+  public long getHitCount() {
+    return cache.getHitCount();
+  }
+
+  public long getMissCount() {
+    return cache.getMissCount();
+  }
+
+  public long getEvictionCount() {
+    return cache.getEvictionCount();
+  }
+
+  @Override
+  public String toString() {
+    return cache.toString();
+  }
+
+  /**
+   * Parsed expressions depend on namespace context they were parsed with. Namespace contexts are
+   * compared with their own {@code equals}, which is an identity check for most implementations.
+   */
+  private static final class CacheKey {
+
+    private final String xpath;
+    private final NamespaceContext namespaceContext;
+    private final boolean optimize;
+
+    CacheKey(String xpath, NamespaceContext namespaceContext, boolean optimize) {
+      this.xpath = xpath;
+      this.namespaceContext = namespaceContext;
+      this.optimize = optimize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+
+      CacheKey that = (CacheKey) o;
+
+      return xpath.equals(that.xpath)
+          && optimize == that.optimize
+          && (null == namespaceContext
+              ? null == that.namespaceContext
+              : namespaceContext.equals(that.namespaceContext));
+    }
+
+    @Override
+    public int hashCode() {
+      final int result =
+          31 * xpath.hashCode() + (null == namespaceContext ? 0 : namespaceContext.hashCode());
+      return 31 * result + (optimize ? 1 : 0);
+    }
+  }
+}
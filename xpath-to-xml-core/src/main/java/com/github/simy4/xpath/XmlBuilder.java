@@ -15,13 +15,18 @@
  */
 package com.github.simy4.xpath;
 
+import com.github.simy4.xpath.effects.InstrumentedEffect;
+import com.github.simy4.xpath.effects.PutAllEffect;
 import com.github.simy4.xpath.effects.PutEffect;
 import com.github.simy4.xpath.effects.PutValueEffect;
 import com.github.simy4.xpath.effects.RemoveEffect;
 import com.github.simy4.xpath.expr.Expr;
+import com.github.simy4.xpath.expr.PathTrie;
 import com.github.simy4.xpath.parser.XPathParser;
 import com.github.simy4.xpath.spi.Effect;
+import com.github.simy4.xpath.spi.EvaluationListener;
 import com.github.simy4.xpath.spi.NavigatorSpi;
+import com.github.simy4.xpath.util.ClassCache;
 import com.github.simy4.xpath.util.Function;
 import com.github.simy4.xpath.util.LazyMemoizedServiceLoader;
 
@@ -34,6 +39,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * XML model modifier that works via XPath expressions processing.
@@ -46,6 +55,7 @@ public class XmlBuilder implements Serializable {
   private static final long serialVersionUID = 1L;
   private static final Function<? super Class<NavigatorSpi>, ? extends Iterable<NavigatorSpi>>
       serviceLoader = new LazyMemoizedServiceLoader<NavigatorSpi>();
+  private static final ClassCache<NavigatorSpi> navigatorSpis = new ClassCache<NavigatorSpi>(16);
 
   /**
    * Checks whether {@link XmlBuilder} supports given XML model.
@@ -54,28 +64,94 @@ public class XmlBuilder implements Serializable {
    * @return {@code true} if it can handle given model or {@code false} otherwise
    */
   public static boolean canHandle(Object xml) {
-    for (NavigatorSpi navigatorSpi : serviceLoader.apply(NavigatorSpi.class)) {
-      if (navigatorSpi.canHandle(xml)) {
-        return true;
-      }
-    }
-    return false;
+    return null != lookupNavigatorSpi(xml);
   }
 
   private final XPathParser parser;
   private final List<Effect> effects;
+  private final transient NavigatorSpi navigatorSpi;
+  private final transient EvaluationListener listener;
 
   public XmlBuilder() {
     this(null);
   }
 
   public XmlBuilder(NamespaceContext namespaceContext) {
-    this(new XPathParser(namespaceContext), Collections.<Effect>emptyList());
+    this(
+        new XPathParser(namespaceContext, null, true),
+        Collections.<Effect>emptyList(),
+        null,
+        null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * <p>Parsed XPath expressions are cached in a given cache, which can be shared between builders
+   * to avoid parsing the same XPaths again. Expressions parsed with different namespace contexts
+   * are cached separately.
+   *
+   * @param namespaceContext namespace context to resolve XPath prefixes with
+   * @param parseCache cache of parsed XPath expressions
+   * @since 2.4
+   */
+  public XmlBuilder(NamespaceContext namespaceContext, ParseCache parseCache) {
+    this(
+        new XPathParser(namespaceContext, parseCache, true),
+        Collections.<Effect>emptyList(),
+        null,
+        null);
   }
 
-  private XmlBuilder(XPathParser parser, List<Effect> effects) {
+  XmlBuilder(
+      XPathParser parser,
+      List<Effect> effects,
+      NavigatorSpi navigatorSpi,
+      EvaluationListener listener) {
     this.parser = parser;
     this.effects = effects;
+    this.navigatorSpi = navigatorSpi;
+    this.listener = listener;
+  }
+
+  /**
+   * Binds this builder to a given navigator SPI. Bound builders process XML models with given SPI
+   * directly instead of discovering an SPI that can handle them, so they should only be used with
+   * models of that SPI. Binding is not serialized.
+   *
+   * @param navigatorSpi navigator SPI to process XML models with
+   * @return {@link XmlBuilder} instance
+   * @since 2.4
+   */
+  public XmlBuilder withNavigatorSpi(NavigatorSpi navigatorSpi) {
+    return new XmlBuilder(parser, effects, navigatorSpi, listener);
+  }
+
+  /**
+   * Turns optimization of XPath expressions on or off. Optimization is on by default, so that
+   * XPaths are rewritten into equivalent expressions that are cheaper to evaluate. Only XPaths
+   * added to the resulting builder are affected.
+   *
+   * @param optimize whether XPath expressions should be optimized
+   * @return {@link XmlBuilder} instance
+   * @see com.github.simy4.xpath.expr.ExprOptimizer
+   * @since 2.4
+   */
+  public XmlBuilder withOptimization(boolean optimize) {
+    return new XmlBuilder(parser.withOptimization(optimize), effects, navigatorSpi, listener);
+  }
+
+  /**
+   * Reports metrics of XPath parsing and XML model processing to a given listener. Metrics are only
+   * collected while a listener is registered, so that builders without one pay no extra cost.
+   * Listener is not serialized.
+   *
+   * @param listener listener to report to or {@code null} to stop reporting
+   * @return {@link XmlBuilder} instance
+   * @since 2.4
+   */
+  public XmlBuilder withListener(EvaluationListener listener) {
+    return new XmlBuilder(parser.withListener(listener), effects, navigatorSpi, listener);
   }
 
   /**
@@ -126,13 +202,18 @@ public class XmlBuilder implements Serializable {
    * @see #putAll(String...)
    */
   public XmlBuilder putAll(Iterable<String> xpaths) throws XPathExpressionException {
+    final List<Expr> exprs = new ArrayList<Expr>();
+    for (String xpath : xpaths) {
+      exprs.add(parser.parse(xpath));
+    }
     final List<Effect> effects = new ArrayList<Effect>(this.effects.size() + 1);
     effects.addAll(this.effects);
-    for (String xpath : xpaths) {
-      final Expr expr = parser.parse(xpath);
-      effects.add(new PutEffect(expr));
+    if (1 == exprs.size()) {
+      effects.add(new PutEffect(exprs.get(0)));
+    } else if (!exprs.isEmpty()) {
+      effects.add(new PutAllEffect(new PathTrie(exprs, false), null));
     }
-    return new XmlBuilder(parser, effects);
+    return new XmlBuilder(parser, effects, navigatorSpi, listener);
   }
 
   /**
@@ -145,14 +226,49 @@ public class XmlBuilder implements Serializable {
    * @see #put(String, Object)
    */
   public XmlBuilder putAll(Map<String, Object> xpathToValueMap) throws XPathExpressionException {
-    final List<Effect> effects =
-        new ArrayList<Effect>(this.effects.size() + xpathToValueMap.size());
-    effects.addAll(this.effects);
+    final List<Expr> exprs = new ArrayList<Expr>(xpathToValueMap.size());
+    final List<String> values = new ArrayList<String>(xpathToValueMap.size());
     for (Map.Entry<String, Object> xpathToValuePair : xpathToValueMap.entrySet()) {
-      final Expr expr = parser.parse(xpathToValuePair.getKey());
-      effects.add(new PutValueEffect(expr, xpathToValuePair.getValue()));
+      exprs.add(parser.parse(xpathToValuePair.getKey()));
+      values.add(String.valueOf(xpathToValuePair.getValue()));
     }
-    return new XmlBuilder(parser, effects);
+    final List<Effect> effects = new ArrayList<Effect>(this.effects.size() + 1);
+    effects.addAll(this.effects);
+    if (1 == exprs.size()) {
+      effects.add(new PutValueEffect(exprs.get(0), values.get(0)));
+    } else if (!exprs.isEmpty()) {
+      effects.add(new PutAllEffect(new PathTrie(exprs, true), values));
+    }
+    return new XmlBuilder(parser, effects, navigatorSpi, listener);
+  }
+
+  /**
+   * Parses given XPath expressions once into a reusable template. Values can then be bound to the
+   * template any number of times without parsing XPaths again. Effects collected so far are
+   * applied before the template ones.
+   *
+   * @param xpaths XPaths to compile
+   * @return {@link XmlBuilderTemplate} instance
+   * @throws XPathExpressionException if xpath cannot be parsed
+   * @see #compile(Iterable)
+   */
+  public XmlBuilderTemplate compile(String... xpaths) throws XPathExpressionException {
+    return compile(Arrays.asList(xpaths));
+  }
+
+  /**
+   * Parses given XPath expressions once into a reusable template. Values can then be bound to the
+   * template any number of times without parsing XPaths again. Effects collected so far are
+   * applied before the template ones.
+   *
+   * @param xpaths XPaths to compile
+   * @return {@link XmlBuilderTemplate} instance
+   * @throws XPathExpressionException if xpath cannot be parsed
+   * @see #compile(String...)
+   * @see #putAll(Map)
+   */
+  public XmlBuilderTemplate compile(Iterable<String> xpaths) throws XPathExpressionException {
+    return new XmlBuilderTemplate(parser, effects, navigatorSpi, listener, xpaths);
   }
 
   /**
@@ -195,7 +311,7 @@ public class XmlBuilder implements Serializable {
       final Expr expr = parser.parse(xpath);
       effects.add(new RemoveEffect(expr));
     }
-    return new XmlBuilder(parser, effects);
+    return new XmlBuilder(parser, effects, navigatorSpi, listener);
   }
 
   /**
@@ -207,11 +323,96 @@ public class XmlBuilder implements Serializable {
    * @throws XmlBuilderException if XML model modification failed
    */
   public <T> T build(T xml) throws XmlBuilderException {
+    return process(
+        null == navigatorSpi ? lookupNavigatorSpi(xml) : navigatorSpi, instrumentedEffects(), xml);
+  }
+
+  /**
+   * Evaluates collected XPath effects on every given XML model object using given executor, e.g.
+   * a fork-join pool or a virtual thread per task executor. Navigator SPI is looked up once and
+   * reused for as long as it can handle subsequent models.
+   *
+   * <p>Results are returned in iteration order of the given models. Failure to process one model
+   * is reported by its future and does not affect the others.
+   *
+   * @param xmls XMLs to process
+   * @param executor executor to process XMLs with
+   * @param <T> XML model type
+   * @return futures of processing results in the same order as given XMLs
+   * @since 2.4
+   */
+  public <T> List<Future<T>> buildAll(Iterable<? extends T> xmls, Executor executor) {
+    final List<Future<T>> results = new ArrayList<Future<T>>();
+    final List<Effect> effects = instrumentedEffects();
+    NavigatorSpi navigatorSpi = this.navigatorSpi;
+    for (T xml : xmls) {
+      if (null == this.navigatorSpi && (null == navigatorSpi || !navigatorSpi.canHandle(xml))) {
+        navigatorSpi = lookupNavigatorSpi(xml);
+      }
+      final FutureTask<T> result = new FutureTask<T>(new BuildTask<T>(navigatorSpi, effects, xml));
+      results.add(result);
+      executor.execute(result);
+    }
+    return results;
+  }
+
+  private List<Effect> instrumentedEffects() {
+    if (null == listener) {
+      return effects;
+    }
+    final List<Effect> instrumentedEffects = new ArrayList<Effect>(effects.size());
+    for (Effect effect : effects) {
+      instrumentedEffects.add(new InstrumentedEffect(effect, listener));
+    }
+    return instrumentedEffects;
+  }
+
+  /**
+   * Looks up navigator SPI that can handle given XML model. The SPI found for a model class is
+   * cached and tried first for other models of the same class. SPIs may still refuse some
+   * instances of a class they handle, e.g. nodes that are detached from a document, so a cached SPI
+   * is only a candidate and all SPIs are scanned when it refuses.
+   */
+  private static NavigatorSpi lookupNavigatorSpi(Object xml) {
+    if (null == xml) {
+      return null;
+    }
+    final NavigatorSpi cached = navigatorSpis.get(xml.getClass());
+    if (null != cached && cached.canHandle(xml)) {
+      return cached;
+    }
     for (NavigatorSpi navigatorSpi : serviceLoader.apply(NavigatorSpi.class)) {
       if (navigatorSpi.canHandle(xml)) {
-        return navigatorSpi.process(xml, effects);
+        navigatorSpis.putIfAbsent(xml.getClass(), navigatorSpi);
+        return navigatorSpi;
       }
     }
-    throw new XmlBuilderException("Unsupported xml model");
+    return null;
+  }
+
+  private static <T> T process(NavigatorSpi navigatorSpi, List<Effect> effects, T xml)
+      throws XmlBuilderException {
+    if (null == navigatorSpi) {
+      throw new XmlBuilderException("Unsupported xml model");
+    }
+    return navigatorSpi.process(xml, effects);
+  }
+
+  private static final class BuildTask<T> implements Callable<T> {
+
+    private final NavigatorSpi navigatorSpi;
+    private final List<Effect> effects;
+    private final T xml;
+
+    BuildTask(NavigatorSpi navigatorSpi, List<Effect> effects, T xml) {
+      this.navigatorSpi = navigatorSpi;
+      this.effects = effects;
+      this.xml = xml;
+    }
+
+    @Override
+    public T call() throws XmlBuilderException {
+      return process(navigatorSpi, effects, xml);
+    }
   }
 }
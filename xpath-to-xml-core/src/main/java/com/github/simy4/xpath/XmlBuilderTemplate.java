@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import com.github.simy4.xpath.effects.PutAllEffect;
+import com.github.simy4.xpath.expr.Expr;
+import com.github.simy4.xpath.expr.PathTrie;
+import com.github.simy4.xpath.parser.XPathParser;
+import com.github.simy4.xpath.spi.Effect;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import com.github.simy4.xpath.spi.NavigatorSpi;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Precompiled set of XPath expressions that only needs values to produce an {@link XmlBuilder}.
+ *
+ * <p>XPaths are parsed and analyzed once, so binding values to a template involves no parsing.
+ * Templates are immutable and can be shared between threads.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ * @see XmlBuilder#compile(Iterable)
+ */
+public final class XmlBuilderTemplate implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final XPathParser parser;
+  private final List<Effect> effects;
+  private final transient NavigatorSpi navigatorSpi;
+  private final transient EvaluationListener listener;
+  private final List<String> xpaths;
+  private final Set<String> xpathSet;
+  private final List<Expr> exprs;
+  private final PathTrie pathTrie;
+
+  XmlBuilderTemplate(
+      XPathParser parser,
+      List<Effect> effects,
+      NavigatorSpi navigatorSpi,
+      EvaluationListener listener,
+      Iterable<String> xpaths)
+      throws XPathExpressionException {
+    final List<String> xpathList = new ArrayList<String>();
+    final List<Expr> exprs = new ArrayList<Expr>();
+    for (String xpath : xpaths) {
+      xpathList.add(xpath);
+      exprs.add(parser.parse(xpath));
+    }
+    this.parser = parser;
+    this.effects = effects;
+    this.navigatorSpi = navigatorSpi;
+    this.listener = listener;
+    this.xpaths = Collections.unmodifiableList(xpathList);
+    this.xpathSet = new HashSet<String>(xpathList);
+    this.exprs = Collections.unmodifiableList(exprs);
+    this.pathTrie = new PathTrie(this.exprs, true);
+  }
+
+  /**
+   * Compiled XPaths in binding order.
+   *
+   * @return compiled XPaths
+   */
+  public List<String> getXPaths() {
+    return xpaths;
+  }
+
+  /**
+   * Binds values to compiled XPaths positionally.
+   *
+   * @param values values to set in the order of compiled XPaths
+   * @return {@link XmlBuilder} instance
+   * @throws IllegalArgumentException if number of values differs from number of XPaths
+   * @see XmlBuilder#putAll(Map)
+   */
+  public XmlBuilder bind(Object... values) {
+    if (values.length != exprs.size()) {
+      throw new IllegalArgumentException(
+          "Expected " + exprs.size() + " values but got " + values.length);
+    }
+    final List<String> stringValues = new ArrayList<String>(values.length);
+    for (Object value : values) {
+      stringValues.add(String.valueOf(value));
+    }
+    return bind(pathTrie, stringValues);
+  }
+
+  /**
+   * Binds values to compiled XPaths by XPath. XPaths without associated value are skipped.
+   *
+   * @param xpathToValueMap XPath to values associations
+   * @return {@link XmlBuilder} instance
+   * @throws IllegalArgumentException if given XPath was not compiled into this template
+   * @see XmlBuilder#putAll(Map)
+   */
+  public XmlBuilder bind(Map<String, ?> xpathToValueMap) {
+    for (String xpath : xpathToValueMap.keySet()) {
+      if (!xpathSet.contains(xpath)) {
+        throw new IllegalArgumentException("XPath is not part of this template: " + xpath);
+      }
+    }
+    final List<String> values = new ArrayList<String>(exprs.size());
+    final List<Expr> boundExprs = new ArrayList<Expr>(exprs.size());
+    for (int i = 0; i < exprs.size(); i++) {
+      final String xpath = xpaths.get(i);
+      if (xpathToValueMap.containsKey(xpath)) {
+        values.add(String.valueOf(xpathToValueMap.get(xpath)));
+        boundExprs.add(exprs.get(i));
+      }
+    }
+    // shared steps are only valid for the full set of expressions
+    return bind(
+        boundExprs.size() == exprs.size() ? pathTrie : new PathTrie(boundExprs, true), values);
+  }
+
+  private XmlBuilder bind(PathTrie pathTrie, List<String> values) {
+    final List<Effect> effects = new ArrayList<Effect>(this.effects.size() + 1);
+    effects.addAll(this.effects);
+    effects.add(new PutAllEffect(pathTrie, values));
+    return new XmlBuilder(parser, effects, navigatorSpi, listener);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.effects;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.spi.Effect;
+import com.github.simy4.xpath.spi.EvaluationListener;
+
+/**
+ * Effect that performs a given effect with an instrumented navigator and reports its metrics to a
+ * given listener.
+ */
+public final class InstrumentedEffect implements Effect {
+
+  private final Effect effect;
+  private final EvaluationListener listener;
+
+  public InstrumentedEffect(Effect effect, EvaluationListener listener) {
+    this.effect = effect;
+    this.listener = listener;
+  }
+
+  @Override
+  public <N extends Node> void perform(Navigator<N> navigator, N xml) throws XmlBuilderException {
+    final InstrumentingNavigator<N> instrumentingNavigator =
+        InstrumentingNavigator.of(navigator, listener);
+    final long start = System.nanoTime();
+    effect.perform(instrumentingNavigator, xml);
+    final long elapsed = System.nanoTime() - start;
+    listener.effectPerformed(
+        effect,
+        instrumentingNavigator.getNodesVisited(),
+        instrumentingNavigator.getNodesCreated(),
+        elapsed);
+  }
+}
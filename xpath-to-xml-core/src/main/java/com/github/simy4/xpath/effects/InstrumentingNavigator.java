@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.effects;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.expr.ForwardingNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import com.github.simy4.xpath.util.ReadOnlyIterator;
+
+import javax.xml.namespace.QName;
+
+import java.util.Iterator;
+
+/**
+ * Navigator that counts traversed and created nodes and reports every modification of XML model
+ * to a given listener.
+ *
+ * @param <N> XML model nodes type
+ */
+class InstrumentingNavigator<N extends Node> extends ForwardingNavigator<N> {
+
+  /**
+   * Instruments given navigator. Identity of nodes is only exposed if given navigator exposes it.
+   *
+   * @param navigator navigator to instrument
+   * @param listener listener to report to
+   * @param <N> XML model nodes type
+   * @return instrumented navigator
+   */
+  static <N extends Node> InstrumentingNavigator<N> of(
+      Navigator<N> navigator, EvaluationListener listener) {
+    return navigator instanceof IdentityNavigator
+        ? new IdentityInstrumentingNavigator<N>((IdentityNavigator<N>) navigator, listener)
+        : new InstrumentingNavigator<N>(navigator, listener);
+  }
+
+  private final EvaluationListener listener;
+  private long nodesVisited;
+  private long nodesCreated;
+
+  InstrumentingNavigator(Navigator<N> navigator, EvaluationListener listener) {
+    super(navigator);
+    this.listener = listener;
+  }
+
+  @Override
+  public EvaluationListener getListener() {
+    return listener;
+  }
+
+  @Override
+  public long getNodesVisited() {
+    return nodesVisited;
+  }
+
+  @Override
+  public long getNodesCreated() {
+    return nodesCreated;
+  }
+
+  @Override
+  public Iterable<? extends N> elementsOf(N parent) {
+    return new CountingIterable(super.elementsOf(parent));
+  }
+
+  @Override
+  public Iterable<? extends N> elementsOf(N parent, QName name) {
+    return new CountingIterable(super.elementsOf(parent, name));
+  }
+
+  @Override
+  public Iterable<? extends N> descendantsOf(N parent, QName name) {
+    return new CountingIterable(super.descendantsOf(parent, name));
+  }
+
+  @Override
+  public Iterable<? extends N> attributesOf(N parent) {
+    return new CountingIterable(super.attributesOf(parent));
+  }
+
+  @Override
+  public Iterable<? extends N> attributesOf(N parent, QName name) {
+    return new CountingIterable(super.attributesOf(parent, name));
+  }
+
+  @Override
+  public N createAttribute(N parent, QName attribute) throws XmlBuilderException {
+    final long start = System.nanoTime();
+    final N node = super.createAttribute(parent, attribute);
+    modified("createAttribute", 1, start);
+    return node;
+  }
+
+  @Override
+  public N createElement(N parent, QName element) throws XmlBuilderException {
+    final long start = System.nanoTime();
+    final N node = super.createElement(parent, element);
+    modified("createElement", 1, start);
+    return node;
+  }
+
+  @Override
+  public void setText(N node, String text) throws XmlBuilderException {
+    final long start = System.nanoTime();
+    super.setText(node, text);
+    modified("setText", 0, start);
+  }
+
+  @Override
+  public void prependCopy(N node) throws XmlBuilderException {
+    final long start = System.nanoTime();
+    super.prependCopy(node);
+    modified("prependCopy", 1, start);
+  }
+
+  @Override
+  public void prependCopies(N node, int count) throws XmlBuilderException {
+    final long start = System.nanoTime();
+    super.prependCopies(node, count);
+    modified("prependCopies", count, start);
+  }
+
+  @Override
+  public void remove(N node) throws XmlBuilderException {
+    final long start = System.nanoTime();
+    super.remove(node);
+    modified("remove", 0, start);
+  }
+
+  private void modified(String operation, int created, long start) {
+    final long elapsed = System.nanoTime() - start;
+    nodesCreated += created;
+    listener.navigatorModified(operation, created, elapsed);
+  }
+
+  private final class CountingIterable implements Iterable<N> {
+
+    private final Iterable<? extends N> nodes;
+
+    CountingIterable(Iterable<? extends N> nodes) {
+      this.nodes = nodes;
+    }
+
+    @Override
+    public Iterator<N> iterator() {
+      final Iterator<? extends N> iterator = nodes.iterator();
+      return new ReadOnlyIterator<N>() {
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public N next() {
+          final N node = iterator.next();
+          nodesVisited++;
+          return node;
+        }
+      };
+    }
+  }
+
+  private static final class IdentityInstrumentingNavigator<N extends Node>
+      extends InstrumentingNavigator<N> implements IdentityNavigator<N> {
+
+    IdentityInstrumentingNavigator(IdentityNavigator<N> navigator, EvaluationListener listener) {
+      super(navigator, listener);
+    }
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.effects;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.expr.PathTrie;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.spi.Effect;
+import com.github.simy4.xpath.view.AbstractViewVisitor;
+import com.github.simy4.xpath.view.IterableNodeView;
+import com.github.simy4.xpath.view.NodeView;
+import com.github.simy4.xpath.view.View;
+
+import java.io.Serializable;
+import java.util.List;
+
+public class PutAllEffect implements Effect, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final PathTrie pathTrie;
+  private final List<String> values;
+
+  public PutAllEffect(PathTrie pathTrie, List<String> values) {
+    this.pathTrie = pathTrie;
+    this.values = values;
+  }
+
+  @Override
+  public <N extends Node> void perform(Navigator<N> navigator, N xml) throws XmlBuilderException {
+    if (null != values && navigator instanceof IdentityNavigator) {
+      performBatched((IdentityNavigator<N>) navigator, xml);
+      return;
+    }
+    final PathTrie.Resolver<N> resolver = pathTrie.resolver(navigator, xml);
+    for (int i = 0; i < pathTrie.size(); i++) {
+      final String value = null == values ? null : values.get(i);
+      resolver.resolve(i).visit(new PutAllVisitor<N>(navigator, null, value));
+    }
+  }
+
+  /**
+   * Puts values with text writes collected in between, so that a node that several values were
+   * put into gets its text set only once. Expressions that may read node texts see every value
+   * put before them.
+   */
+  private <N extends Node> void performBatched(IdentityNavigator<N> navigator, N xml)
+      throws XmlBuilderException {
+    final TextBatchingNavigator<N> batch = new TextBatchingNavigator<N>(navigator);
+    final PathTrie.Resolver<N> resolver = pathTrie.resolver(batch, xml);
+    for (int i = 0; i < pathTrie.size(); i++) {
+      if (pathTrie.readsText(i)) {
+        batch.flush();
+        resolver.resolve(i).visit(new PutAllVisitor<N>(batch, null, values.get(i)));
+      } else {
+        resolver.resolve(i).visit(new PutAllVisitor<N>(batch, batch, values.get(i)));
+      }
+    }
+    batch.flush();
+  }
+
+  private static final class PutAllVisitor<N extends Node> extends AbstractViewVisitor<N, Void> {
+
+    private final Navigator<N> navigator;
+    private final TextBatchingNavigator<N> batch;
+    private final String value;
+
+    PutAllVisitor(Navigator<N> navigator, TextBatchingNavigator<N> batch, String value) {
+      this.navigator = navigator;
+      this.batch = batch;
+      this.value = value;
+    }
+
+    @Override
+    public Void visit(IterableNodeView<N> nodeSet) throws XmlBuilderException {
+      for (NodeView<N> node : nodeSet) {
+        if (null != batch) {
+          batch.setTextLater(node.getNode(), value);
+        } else if (null != value) {
+          navigator.setText(node.getNode(), value);
+        }
+      }
+      return null;
+    }
+
+    @Override
+    protected Void returnDefault(View<N> view) throws XmlBuilderException {
+      if (null != value) {
+        throw new XmlBuilderException(
+            "Failed to put value into XML. Read-only view was resolved: " + view);
+      }
+      return null;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.spi.Effect;
 import com.github.simy4.xpath.view.AbstractViewVisitor;
 import com.github.simy4.xpath.view.IterableNodeView;
+import com.github.simy4.xpath.view.NodeSetView;
 import com.github.simy4.xpath.view.NodeView;
 import com.github.simy4.xpath.view.View;
 import com.github.simy4.xpath.view.ViewVisitor;
@@ -53,7 +54,7 @@ public class PutEffect implements Effect, Serializable {
     @Override
     @SuppressWarnings({"StatementWithEmptyBody", "UnusedVariable"})
     public Void visit(IterableNodeView<Node> nodeSet) throws XmlBuilderException {
-      for (NodeView<Node> ignored : nodeSet) {
+      for (NodeView<Node> ignored : NodeSetView.singlePass(nodeSet)) {
         // eagerly consume resolved iterable
       }
       return null;
@@ -22,6 +22,7 @@ import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.spi.Effect;
 import com.github.simy4.xpath.view.AbstractViewVisitor;
 import com.github.simy4.xpath.view.IterableNodeView;
+import com.github.simy4.xpath.view.NodeSetView;
 import com.github.simy4.xpath.view.NodeView;
 import com.github.simy4.xpath.view.View;
 
@@ -57,7 +58,7 @@ public class PutValueEffect implements Effect, Serializable {
 
     @Override
     public Void visit(IterableNodeView<N> nodeSet) throws XmlBuilderException {
-      for (NodeView<N> node : nodeSet) {
+      for (NodeView<N> node : NodeSetView.singlePass(nodeSet)) {
         navigator.setText(node.getNode(), value);
       }
       return null;
@@ -22,10 +22,13 @@ import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.spi.Effect;
 import com.github.simy4.xpath.view.AbstractViewVisitor;
 import com.github.simy4.xpath.view.IterableNodeView;
+import com.github.simy4.xpath.view.NodeSetView;
 import com.github.simy4.xpath.view.NodeView;
 import com.github.simy4.xpath.view.View;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 public class RemoveEffect implements Effect, Serializable {
 
@@ -50,10 +53,18 @@ public class RemoveEffect implements Effect, Serializable {
       this.navigator = navigator;
     }
 
+    /**
+     * Collects all nodes to remove before removing any of them, since node sets are resolved lazily
+     * from live children lists that removal modifies.
+     */
     @Override
     public Void visit(IterableNodeView<N> nodeSet) throws XmlBuilderException {
-      for (NodeView<N> node : nodeSet) {
-        navigator.remove(node.getNode());
+      final List<N> nodes = new ArrayList<N>();
+      for (NodeView<N> node : NodeSetView.singlePass(nodeSet)) {
+        nodes.add(node.getNode());
+      }
+      for (N node : nodes) {
+        navigator.remove(node);
       }
       return null;
     }
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.effects;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.expr.ForwardingNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.Node;
+
+import javax.xml.namespace.QName;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Navigator that collects text writes and applies them at once, so that every node gets its text
+ * set only once no matter how many values were put into it. Later writes into the same node win.
+ *
+ * <p>Collected writes are applied in order before anything that could observe them: traversal of
+ * a written node, traversal of descendants, number values and any structural modification.
+ * Callers are responsible to apply collected writes before node texts are read otherwise.
+ *
+ * @param <N> XML model nodes type
+ */
+final class TextBatchingNavigator<N extends Node> extends ForwardingNavigator<N>
+    implements IdentityNavigator<N> {
+
+  private final Map<Object, Integer> positions = new IdentityHashMap<Object, Integer>();
+  private final List<N> nodes = new ArrayList<N>();
+  private final List<String> texts = new ArrayList<String>();
+
+  TextBatchingNavigator(IdentityNavigator<N> navigator) {
+    super(navigator);
+  }
+
+  /**
+   * Collects text write into given node.
+   *
+   * @param node XML node to set text to
+   * @param text text content to set
+   */
+  void setTextLater(N node, String text) {
+    final Integer position = positions.put(modelOf(node), nodes.size());
+    if (null != position) {
+      nodes.set(position, null);
+    }
+    nodes.add(node);
+    texts.add(text);
+  }
+
+  /**
+   * Applies all collected text writes.
+   *
+   * @throws XmlBuilderException if failure occur during setting the text content
+   */
+  void flush() throws XmlBuilderException {
+    if (positions.isEmpty()) {
+      return;
+    }
+    try {
+      for (int i = 0; i < nodes.size(); i++) {
+        final N node = nodes.get(i);
+        if (null != node) {
+          navigator.setText(node, texts.get(i));
+        }
+      }
+    } finally {
+      positions.clear();
+      nodes.clear();
+      texts.clear();
+    }
+  }
+
+  @Override
+  public Iterable<? extends N> elementsOf(N parent) {
+    flushIfWritten(parent);
+    return super.elementsOf(parent);
+  }
+
+  @Override
+  public Iterable<? extends N> elementsOf(N parent, QName name) {
+    flushIfWritten(parent);
+    return super.elementsOf(parent, name);
+  }
+
+  @Override
+  public Iterable<? extends N> descendantsOf(N parent, QName name) {
+    flush();
+    return super.descendantsOf(parent, name);
+  }
+
+  @Override
+  public Iterable<? extends N> attributesOf(N parent) {
+    flushIfWritten(parent);
+    return super.attributesOf(parent);
+  }
+
+  @Override
+  public Iterable<? extends N> attributesOf(N parent, QName name) {
+    flushIfWritten(parent);
+    return super.attributesOf(parent, name);
+  }
+
+  @Override
+  public double numberOf(N node) {
+    flush();
+    return super.numberOf(node);
+  }
+
+  @Override
+  public N createAttribute(N parent, QName attribute) throws XmlBuilderException {
+    flushIfWritten(parent);
+    return super.createAttribute(parent, attribute);
+  }
+
+  @Override
+  public N createElement(N parent, QName element) throws XmlBuilderException {
+    flushIfWritten(parent);
+    return super.createElement(parent, element);
+  }
+
+  @Override
+  public void setText(N node, String text) throws XmlBuilderException {
+    flush();
+    super.setText(node, text);
+  }
+
+  @Override
+  public void prependCopy(N node) throws XmlBuilderException {
+    flush();
+    super.prependCopy(node);
+  }
+
+  @Override
+  public void prependCopies(N node, int count) throws XmlBuilderException {
+    flush();
+    super.prependCopies(node, count);
+  }
+
+  @Override
+  public void remove(N node) throws XmlBuilderException {
+    flush();
+    super.remove(node);
+  }
+
+  private void flushIfWritten(N node) throws XmlBuilderException {
+    if (!positions.isEmpty() && positions.containsKey(modelOf(node))) {
+      flush();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.view.BooleanView;
+import com.github.simy4.xpath.view.NodeView;
+
+import java.io.Serializable;
+
+/**
+ * Base of logical {@code and} and {@code or} expressions. Operands are resolved one by one until
+ * the result is known. Non-greedy resolution starts with the cheaper operand, while greedy
+ * resolution keeps the written order, so that nodes are created in the same order as they appear
+ * in the expression.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+abstract class AbstractLogicalExpr implements Expr, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final Expr leftExpr;
+  private final Expr rightExpr;
+  private final boolean rightFirst;
+
+  protected AbstractLogicalExpr(Expr leftExpr, Expr rightExpr) {
+    this.leftExpr = leftExpr;
+    this.rightExpr = rightExpr;
+    this.rightFirst = ExprCost.of(rightExpr) < ExprCost.of(leftExpr);
+  }
+
+  @Override
+  public final <N extends Node> BooleanView<N> resolve(
+      Navigator<N> navigator, NodeView<N> view, boolean greedy) throws XmlBuilderException {
+    return BooleanView.of(test(navigator, view, !view.hasNext() && greedy));
+  }
+
+  protected abstract <N extends Node> boolean test(
+      Navigator<N> navigator, NodeView<N> view, boolean greedy) throws XmlBuilderException;
+
+  protected abstract String operator();
+
+  static <N extends Node> boolean test(
+      Expr expr, Navigator<N> navigator, NodeView<N> view, boolean greedy)
+      throws XmlBuilderException {
+    return expr.resolve(navigator, view, greedy).toBoolean();
+  }
+
+  final Expr getLeftExpr() {
+    return leftExpr;
+  }
+
+  final Expr getRightExpr() {
+    return rightExpr;
+  }
+
+  /**
+   * Returns operand to resolve first when resolution is not greedy.
+   *
+   * @return cheaper operand
+   */
+  final Expr getFirstExpr() {
+    return rightFirst ? rightExpr : leftExpr;
+  }
+
+  /**
+   * Returns operand to resolve second when resolution is not greedy.
+   *
+   * @return more expensive operand
+   */
+  final Expr getSecondExpr() {
+    return rightFirst ? leftExpr : rightExpr;
+  }
+
+  @Override
+  public final String toString() {
+    return leftExpr.toString() + operator() + rightExpr.toString();
+  }
+}
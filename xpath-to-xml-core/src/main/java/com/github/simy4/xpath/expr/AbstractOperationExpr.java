@@ -18,10 +18,13 @@ package com.github.simy4.xpath.expr;
 import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.view.IterableNodeView;
 import com.github.simy4.xpath.view.NodeView;
 import com.github.simy4.xpath.view.View;
 
 import java.io.Serializable;
+import java.util.Iterator;
 
 abstract class AbstractOperationExpr implements Expr, Serializable {
 
@@ -50,6 +53,38 @@ abstract class AbstractOperationExpr implements Expr, Serializable {
 
   protected abstract String operator();
 
+  /**
+   * Converts given view to a numeric value, using number values of nodes that navigator may have
+   * cached.
+   *
+   * @param navigator XML navigator
+   * @param view view to convert
+   * @param <N> XML model type
+   * @return numeric value
+   */
+  static <N extends Node> double toNumber(Navigator<N> navigator, View<N> view) {
+    if (navigator instanceof NumberValueNavigator) {
+      final NumberValueNavigator<N> numberValueNavigator = (NumberValueNavigator<N>) navigator;
+      if (view instanceof NodeView) {
+        return numberValueNavigator.numberOf(((NodeView<N>) view).getNode());
+      } else if (view instanceof IterableNodeView) {
+        final Iterator<NodeView<N>> iterator = ((IterableNodeView<N>) view).iterator();
+        return iterator.hasNext()
+            ? numberValueNavigator.numberOf(iterator.next().getNode())
+            : Double.NaN;
+      }
+    }
+    return view.toNumber();
+  }
+
+  final Expr getLeftExpr() {
+    return leftExpr;
+  }
+
+  final Expr getRightExpr() {
+    return rightExpr;
+  }
+
   @Override
   public final String toString() {
     return leftExpr.toString() + operator() + rightExpr.toString();
@@ -33,10 +33,12 @@ public class AxisStepExpr implements StepExpr, Serializable {
 
   private final AxisResolver axisResolver;
   private final Collection<Expr> predicates;
+  private final Collection<Expr> orderedPredicates;
 
   public AxisStepExpr(AxisResolver axisResolver, Collection<Expr> predicates) {
     this.axisResolver = axisResolver;
     this.predicates = predicates;
+    this.orderedPredicates = ExprCost.orderPredicates(predicates);
   }
 
   @Override
@@ -44,26 +46,85 @@ public class AxisStepExpr implements StepExpr, Serializable {
       Navigator<N> navigator, NodeView<N> view, boolean greedy) throws XmlBuilderException {
     final boolean newGreedy = !view.hasNext() && greedy;
     final IterableNodeView<N> result = axisResolver.resolveAxis(navigator, view, newGreedy);
-    return resolvePredicates(navigator, view, result, newGreedy);
+    // nodes are only created in written order, but filters may be applied in any order
+    return resolvePredicates(
+        navigator, view, result, newGreedy ? predicates : orderedPredicates, newGreedy);
   }
 
   private <N extends Node> IterableNodeView<N> resolvePredicates(
-      Navigator<N> navigator, NodeView<N> view, IterableNodeView<N> axis, boolean greedy)
+      Navigator<N> navigator,
+      NodeView<N> view,
+      IterableNodeView<N> axis,
+      Collection<Expr> predicateList,
+      boolean greedy)
       throws XmlBuilderException {
     IterableNodeView<N> result = axis;
-    if (!predicates.isEmpty()) {
+    if (!predicateList.isEmpty()) {
       NodeSupplier<N> nodeSupplier = new AxisNodeSupplier<N>(navigator, axisResolver, view);
-      for (Expr predicate : predicates) {
+      for (Expr predicate : predicateList) {
         final PredicateExpr predicateExpr = new PredicateExpr(predicate);
         final PredicateResolver<N> predicateResolver =
             new PredicateResolver<N>(navigator, nodeSupplier, predicateExpr, greedy);
-        result = result.flatMap(predicateResolver);
+        final int position = result == axis ? positionOf(predicate) : 0;
+        result =
+            0 < position
+                ? resolvePosition(navigator, axis, nodeSupplier, position, greedy)
+                : result.flatMap(predicateResolver);
         nodeSupplier = predicateResolver;
       }
     }
     return result;
   }
 
+  /**
+   * Resolves constant positional predicate directly against axis nodes: iteration stops at the
+   * requested position and missing nodes are created the same way {@link PredicateResolver} would.
+   */
+  private static <N extends Node> IterableNodeView<N> resolvePosition(
+      Navigator<N> navigator,
+      IterableNodeView<N> axis,
+      NodeSupplier<N> nodeSupplier,
+      int position,
+      boolean greedy)
+      throws XmlBuilderException {
+    NodeView<N> last = null;
+    for (NodeView<N> node : axis) {
+      if (position == node.getPosition()) {
+        final NodeView<N> result = new NodeView<N>(node.getNode());
+        result.mark();
+        return result;
+      }
+      last = node;
+    }
+    if (!greedy || null == last) {
+      return NodeSetView.empty();
+    }
+    final NodeView<N> node =
+        last.isNew() || last.isMarked()
+            ? last
+            : nodeSupplier.apply(last.getPosition() + 1);
+    PredicateExpr.prependCopies(navigator, node.getNode(), position - node.getPosition());
+    return new NodeView<N>(node.getNode(), 1);
+  }
+
+  private static int positionOf(Expr predicate) {
+    if (predicate instanceof NumberExpr) {
+      final double number = ((NumberExpr) predicate).getNumber();
+      if (1.0 <= number && number <= Integer.MAX_VALUE && number == Math.rint(number)) {
+        return (int) number;
+      }
+    }
+    return 0;
+  }
+
+  AxisResolver getAxisResolver() {
+    return axisResolver;
+  }
+
+  Collection<Expr> getPredicates() {
+    return predicates;
+  }
+
   @Override
   public String toString() {
     final StringBuilder stringBuilder = new StringBuilder(axisResolver.toString());
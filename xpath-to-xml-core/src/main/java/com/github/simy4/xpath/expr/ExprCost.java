@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
+import com.github.simy4.xpath.expr.axis.AxisResolver;
+import com.github.simy4.xpath.expr.axis.ChildAxisResolver;
+import com.github.simy4.xpath.expr.axis.DescendantOrSelfAxisResolver;
+import com.github.simy4.xpath.expr.axis.ParentAxisResolver;
+import com.github.simy4.xpath.expr.axis.SelfAxisResolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Static estimate of how expensive it is to resolve an expression against a single context node.
+ * Constants are free, attribute lookups are cheap, child and text reads cost more and descendant
+ * traversals cost the most. Estimates are only used to pick an order of evaluation where the order
+ * does not change the result.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+final class ExprCost {
+
+  private static final int UNKNOWN = 16;
+  private static final int TEXT = 4;
+
+  private ExprCost() {
+    throw new UnsupportedOperationException("new");
+  }
+
+  static int of(Expr expr) {
+    if (expr instanceof LiteralExpr || expr instanceof NumberExpr) {
+      return 0;
+    } else if (expr instanceof AbstractOperationExpr) {
+      final AbstractOperationExpr operation = (AbstractOperationExpr) expr;
+      return 1 + ofOperand(operation.getLeftExpr()) + ofOperand(operation.getRightExpr());
+    } else if (expr instanceof AbstractLogicalExpr) {
+      final AbstractLogicalExpr logical = (AbstractLogicalExpr) expr;
+      return 1 + of(logical.getLeftExpr()) + of(logical.getRightExpr());
+    } else if (expr instanceof PathExpr) {
+      int cost = 0;
+      for (StepExpr stepExpr : ((PathExpr) expr).getLookupSteps()) {
+        cost += of(stepExpr);
+      }
+      return cost;
+    } else if (expr instanceof UnionExpr) {
+      int cost = 0;
+      for (PathExpr branch : ((UnionExpr) expr).getBranches()) {
+        cost += of(branch);
+      }
+      return cost;
+    } else {
+      return UNKNOWN;
+    }
+  }
+
+  /**
+   * Orders predicates of a step so that cheaper ones are resolved first. Predicates are only moved
+   * within runs of predicates that can never resolve to a number, since a numeric predicate selects
+   * a node by its position, and the position depends on all the predicates in front of it.
+   *
+   * @param predicates step predicates in written order
+   * @return predicates in order of resolution
+   */
+  static Collection<Expr> orderPredicates(Collection<Expr> predicates) {
+    if (predicates.size() < 2) {
+      return predicates;
+    }
+    final List<Expr> ordered = new ArrayList<Expr>(predicates);
+    final Comparator<Expr> byCost =
+        new Comparator<Expr>() {
+          @Override
+          public int compare(Expr left, Expr right) {
+            final int leftCost = of(left);
+            final int rightCost = of(right);
+            return leftCost < rightCost ? -1 : (leftCost == rightCost ? 0 : 1);
+          }
+        };
+    int from = 0;
+    for (int i = 0; i <= ordered.size(); i++) {
+      if (i == ordered.size() || !isFilter(ordered.get(i))) {
+        if (i - from > 1) {
+          Collections.sort(ordered.subList(from, i), byCost);
+        }
+        from = i + 1;
+      }
+    }
+    final Iterator<Expr> written = predicates.iterator();
+    for (Expr predicate : ordered) {
+      if (predicate != written.next()) {
+        return ordered;
+      }
+    }
+    return predicates;
+  }
+
+  /**
+   * Whether given predicate can never resolve to a number, so that it keeps or drops nodes
+   * regardless of their positions.
+   *
+   * @param predicate predicate to check
+   * @return {@code true} if predicate does not depend on node positions
+   */
+  static boolean isFilter(Expr predicate) {
+    return predicate instanceof PathExpr
+        || predicate instanceof UnionExpr
+        || predicate instanceof LiteralExpr
+        || predicate instanceof AbstractLogicalExpr
+        || predicate instanceof EqualsExpr
+        || predicate instanceof NotEqualsExpr
+        || predicate instanceof LessThanExpr
+        || predicate instanceof LessThanOrEqualsExpr
+        || predicate instanceof GreaterThanExpr
+        || predicate instanceof GreaterThanOrEqualsExpr;
+  }
+
+  private static int ofOperand(Expr operand) {
+    final int cost = of(operand);
+    if (operand instanceof PathExpr) {
+      final List<StepExpr> steps = ((PathExpr) operand).getSteps();
+      final StepExpr last = steps.isEmpty() ? null : steps.get(steps.size() - 1);
+      if (!(last instanceof AxisStepExpr)
+          || !(((AxisStepExpr) last).getAxisResolver() instanceof AttributeAxisResolver)) {
+        // text of an element is the text of all its descendants
+        return cost + TEXT;
+      }
+    }
+    return cost;
+  }
+
+  private static int of(StepExpr stepExpr) {
+    if (!(stepExpr instanceof AxisStepExpr)) {
+      return 1;
+    }
+    final AxisStepExpr axisStepExpr = (AxisStepExpr) stepExpr;
+    final AxisResolver axisResolver = axisStepExpr.getAxisResolver();
+    int cost;
+    if (axisResolver instanceof SelfAxisResolver || axisResolver instanceof ParentAxisResolver) {
+      cost = 1;
+    } else if (axisResolver instanceof AttributeAxisResolver) {
+      cost = 2;
+    } else if (axisResolver instanceof ChildAxisResolver) {
+      cost = 4;
+    } else if (axisResolver instanceof DescendantOrSelfAxisResolver) {
+      cost = 32;
+    } else {
+      cost = 8;
+    }
+    for (Expr predicate : axisStepExpr.getPredicates()) {
+      cost += of(predicate);
+    }
+    return cost;
+  }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.expr.axis.AxisResolver;
+import com.github.simy4.xpath.expr.axis.ChildAxisResolver;
+import com.github.simy4.xpath.expr.axis.DescendantOrSelfAxisResolver;
+import com.github.simy4.xpath.expr.axis.SelfAxisResolver;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.view.BooleanView;
+import com.github.simy4.xpath.view.NodeView;
+import com.github.simy4.xpath.view.NumberView;
+import com.github.simy4.xpath.view.View;
+
+import javax.xml.namespace.QName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Rewrites parsed expressions into equivalent expressions that are cheaper to resolve.
+ *
+ * <ul>
+ *   <li>Arithmetic on constants is folded into {@link NumberExpr}, so that predicates like {@code
+ *       [1 + 1]} select nodes by their positions directly.
+ *   <li>Comparisons of constants that are only tested for truth, such as predicates and operands
+ *       of {@code and} and {@code or}, are folded into a {@link LiteralExpr} of the same truth.
+ *   <li>{@code self::*} steps without predicates are skipped.
+ *   <li>{@code //name} is traversed as a single {@code descendant::name} step wherever the order of
+ *       resolved nodes does not matter and predicates of {@code name} do not select by position.
+ * </ul>
+ *
+ * <p>Steps are rewritten for looking nodes up only. Missing nodes are created by the steps as
+ * written, so that optimized expressions modify XML models exactly the way parsed ones do.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class ExprOptimizer {
+
+  private static final NodeView<Node> CONSTANT_CONTEXT = new NodeView<Node>(null);
+
+  private ExprOptimizer() {
+    throw new UnsupportedOperationException("new");
+  }
+
+  /**
+   * Optimizes given expression.
+   *
+   * @param expr expression to optimize
+   * @return optimized expression or given expression if there is nothing to optimize
+   */
+  public static Expr optimize(Expr expr) {
+    return optimize(expr, false, true);
+  }
+
+  /**
+   * Optimizes given expression.
+   *
+   * @param expr expression to optimize
+   * @param truth whether only truth of expression is tested
+   * @param unordered whether order of resolved nodes does not matter
+   * @return optimized expression
+   */
+  private static Expr optimize(Expr expr, boolean truth, boolean unordered) {
+    if (expr instanceof PathExpr) {
+      return optimize((PathExpr) expr, unordered);
+    } else if (expr instanceof UnionExpr) {
+      final List<PathExpr> branches = ((UnionExpr) expr).getBranches();
+      final List<PathExpr> optimizedBranches = new ArrayList<PathExpr>(branches.size());
+      for (PathExpr branch : branches) {
+        optimizedBranches.add(optimize(branch, unordered));
+      }
+      return optimizedBranches.equals(branches) ? expr : new UnionExpr(optimizedBranches);
+    } else if (expr instanceof AbstractLogicalExpr) {
+      final AbstractLogicalExpr logical = (AbstractLogicalExpr) expr;
+      final Expr left = optimize(logical.getLeftExpr(), true, true);
+      final Expr right = optimize(logical.getRightExpr(), true, true);
+      final Expr optimized =
+          left == logical.getLeftExpr() && right == logical.getRightExpr()
+              ? expr
+              : expr instanceof AndExpr ? new AndExpr(left, right) : new OrExpr(left, right);
+      return isConstant(left) && isConstant(right) ? fold(optimized, truth) : optimized;
+    } else if (expr instanceof AbstractOperationExpr) {
+      final AbstractOperationExpr operation = (AbstractOperationExpr) expr;
+      final Expr left = optimize(operation.getLeftExpr(), false, false);
+      final Expr right = optimize(operation.getRightExpr(), false, false);
+      final Expr optimized =
+          left == operation.getLeftExpr() && right == operation.getRightExpr()
+              ? expr
+              : operation(operation, left, right);
+      return isConstant(left) && isConstant(right) ? fold(optimized, truth) : optimized;
+    } else if (expr instanceof UnaryExpr) {
+      final Expr valueExpr = ((UnaryExpr) expr).getValueExpr();
+      final Expr value = optimize(valueExpr, false, false);
+      final Expr optimized = value == valueExpr ? expr : new UnaryExpr(value);
+      return isConstant(value) ? fold(optimized, truth) : optimized;
+    } else {
+      return expr;
+    }
+  }
+
+  private static PathExpr optimize(PathExpr pathExpr, boolean unordered) {
+    final List<StepExpr> stepExprs = pathExpr.getSteps();
+    final List<StepExpr> steps = new ArrayList<StepExpr>(stepExprs.size());
+    final List<StepExpr> lookupSteps = new ArrayList<StepExpr>(stepExprs.size());
+    for (int i = 0; i < stepExprs.size(); i++) {
+      final StepExpr stepExpr = optimize(stepExprs.get(i));
+      steps.add(stepExpr);
+      final int last = lookupSteps.size() - 1;
+      if (isAnySelf(stepExpr) && (i < stepExprs.size() - 1 || 0 <= last)) {
+        // self::* resolves to the very node it is resolved against
+        continue;
+      }
+      if (unordered && 0 <= last && isAnyDescendantOrSelf(lookupSteps.get(last))) {
+        final StepExpr descendantStep = descendantOf(stepExpr);
+        if (null != descendantStep) {
+          lookupSteps.set(last, descendantStep);
+          continue;
+        }
+      }
+      lookupSteps.add(stepExpr);
+    }
+    return steps.equals(stepExprs) && lookupSteps.equals(stepExprs)
+        ? pathExpr
+        : new PathExpr(steps, lookupSteps);
+  }
+
+  private static StepExpr optimize(StepExpr stepExpr) {
+    if (!(stepExpr instanceof AxisStepExpr)) {
+      return stepExpr;
+    }
+    final AxisStepExpr axisStepExpr = (AxisStepExpr) stepExpr;
+    final Collection<Expr> predicates = axisStepExpr.getPredicates();
+    final List<Expr> optimizedPredicates = new ArrayList<Expr>(predicates.size());
+    boolean optimized = false;
+    for (Expr predicate : predicates) {
+      final Expr optimizedPredicate = optimize(predicate, true, true);
+      optimizedPredicates.add(optimizedPredicate);
+      optimized |= optimizedPredicate != predicate;
+    }
+    return optimized
+        ? new AxisStepExpr(axisStepExpr.getAxisResolver(), optimizedPredicates)
+        : stepExpr;
+  }
+
+  /**
+   * Fuses {@code descendant-or-self::*} step with a given child step into a descendant step. Both
+   * resolve to the same nodes as long as predicates of given step do not select by position, since
+   * positions are counted among siblings and among all descendants respectively.
+   */
+  private static StepExpr descendantOf(StepExpr stepExpr) {
+    if (!(stepExpr instanceof AxisStepExpr)) {
+      return null;
+    }
+    final AxisStepExpr axisStepExpr = (AxisStepExpr) stepExpr;
+    final AxisResolver axisResolver = axisStepExpr.getAxisResolver();
+    if (!(axisResolver instanceof ChildAxisResolver)) {
+      return null;
+    }
+    for (Expr predicate : axisStepExpr.getPredicates()) {
+      if (!ExprCost.isFilter(predicate)) {
+        return null;
+      }
+    }
+    return new AxisStepExpr(
+        new DescendantOrSelfAxisResolver(((ChildAxisResolver) axisResolver).getName(), false),
+        axisStepExpr.getPredicates());
+  }
+
+  private static boolean isAnySelf(StepExpr stepExpr) {
+    if (!(stepExpr instanceof AxisStepExpr)) {
+      return false;
+    }
+    final AxisStepExpr axisStepExpr = (AxisStepExpr) stepExpr;
+    final AxisResolver axisResolver = axisStepExpr.getAxisResolver();
+    return axisResolver instanceof SelfAxisResolver
+        && isAny(((SelfAxisResolver) axisResolver).getName())
+        && axisStepExpr.getPredicates().isEmpty();
+  }
+
+  private static boolean isAnyDescendantOrSelf(StepExpr stepExpr) {
+    if (!(stepExpr instanceof AxisStepExpr)) {
+      return false;
+    }
+    final AxisStepExpr axisStepExpr = (AxisStepExpr) stepExpr;
+    final AxisResolver axisResolver = axisStepExpr.getAxisResolver();
+    return axisResolver instanceof DescendantOrSelfAxisResolver
+        && ((DescendantOrSelfAxisResolver) axisResolver).isSelf()
+        && isAny(((DescendantOrSelfAxisResolver) axisResolver).getName())
+        && axisStepExpr.getPredicates().isEmpty();
+  }
+
+  private static boolean isAny(QName name) {
+    return "*".equals(name.getNamespaceURI()) && "*".equals(name.getLocalPart());
+  }
+
+  private static boolean isConstant(Expr expr) {
+    return expr instanceof NumberExpr || expr instanceof LiteralExpr;
+  }
+
+  /**
+   * Resolves given expression of constants. Numbers are kept, while booleans can only be kept where
+   * just their truth is tested, since there is no boolean constant expression.
+   */
+  private static Expr fold(Expr expr, boolean truth) {
+    final View<Node> view = expr.resolve(null, CONSTANT_CONTEXT, false);
+    if (view instanceof NumberView) {
+      return new NumberExpr(view.toNumber());
+    } else if (view instanceof BooleanView && truth) {
+      return new LiteralExpr(view.toBoolean() ? "true" : "");
+    } else {
+      return expr;
+    }
+  }
+
+  private static Expr operation(AbstractOperationExpr operation, Expr left, Expr right) {
+    if (operation instanceof AdditionExpr) {
+      return new AdditionExpr(left, right);
+    } else if (operation instanceof SubtractionExpr) {
+      return new SubtractionExpr(left, right);
+    } else if (operation instanceof MultiplicationExpr) {
+      return new MultiplicationExpr(left, right);
+    } else if (operation instanceof EqualsExpr) {
+      return new EqualsExpr(left, right);
+    } else if (operation instanceof NotEqualsExpr) {
+      return new NotEqualsExpr(left, right);
+    } else if (operation instanceof LessThanExpr) {
+      return new LessThanExpr(left, right);
+    } else if (operation instanceof LessThanOrEqualsExpr) {
+      return new LessThanOrEqualsExpr(left, right);
+    } else if (operation instanceof GreaterThanExpr) {
+      return new GreaterThanExpr(left, right);
+    } else if (operation instanceof GreaterThanOrEqualsExpr) {
+      return new GreaterThanOrEqualsExpr(left, right);
+    } else {
+      return operation;
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.expr.axis.DescendantOrSelfAxisResolver;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.InstrumentedNavigator;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import com.github.simy4.xpath.util.Numbers;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Navigator that forwards all calls to a given navigator. Optional capabilities are forwarded if
+ * given navigator has them and fall back to the plain {@link Navigator} contract otherwise, so
+ * subclasses only need to override calls they are interested in.
+ *
+ * <p>Subclasses that implement {@link IdentityNavigator} should only wrap identity navigators.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public abstract class ForwardingNavigator<N extends Node>
+    implements InstrumentedNavigator<N>,
+        NameLookupNavigator<N>,
+        DescendantNavigator<N>,
+        BulkCopyNavigator<N>,
+        NumberValueNavigator<N> {
+
+  protected final Navigator<N> navigator;
+
+  protected ForwardingNavigator(Navigator<N> navigator) {
+    this.navigator = navigator;
+  }
+
+  /**
+   * Underlying model object of given XML node.
+   *
+   * @param node XML node to unwrap
+   * @return underlying model object
+   * @throws ClassCastException if given navigator is not an {@link IdentityNavigator}
+   * @see IdentityNavigator#modelOf(Node)
+   */
+  public Object modelOf(N node) {
+    return ((IdentityNavigator<N>) navigator).modelOf(node);
+  }
+
+  @Override
+  public EvaluationListener getListener() {
+    return navigator instanceof InstrumentedNavigator
+        ? ((InstrumentedNavigator<N>) navigator).getListener()
+        : null;
+  }
+
+  @Override
+  public long getNodesVisited() {
+    return navigator instanceof InstrumentedNavigator
+        ? ((InstrumentedNavigator<N>) navigator).getNodesVisited()
+        : 0;
+  }
+
+  @Override
+  public long getNodesCreated() {
+    return navigator instanceof InstrumentedNavigator
+        ? ((InstrumentedNavigator<N>) navigator).getNodesCreated()
+        : 0;
+  }
+
+  @Override
+  public N root() {
+    return navigator.root();
+  }
+
+  @Override
+  public N parentOf(N node) {
+    return navigator.parentOf(node);
+  }
+
+  @Override
+  public Iterable<? extends N> elementsOf(N parent) {
+    return navigator.elementsOf(parent);
+  }
+
+  @Override
+  public Iterable<? extends N> elementsOf(N parent, QName name) {
+    return navigator instanceof NameLookupNavigator
+        ? ((NameLookupNavigator<N>) navigator).elementsOf(parent, name)
+        : navigator.elementsOf(parent);
+  }
+
+  @Override
+  public Iterable<? extends N> descendantsOf(N parent, QName name) {
+    return navigator instanceof DescendantNavigator
+        ? ((DescendantNavigator<N>) navigator).descendantsOf(parent, name)
+        : DescendantOrSelfAxisResolver.descendantsOf(navigator, parent);
+  }
+
+  @Override
+  public Iterable<? extends N> attributesOf(N parent) {
+    return navigator.attributesOf(parent);
+  }
+
+  @Override
+  public Iterable<? extends N> attributesOf(N parent, QName name) {
+    return navigator instanceof NameLookupNavigator
+        ? ((NameLookupNavigator<N>) navigator).attributesOf(parent, name)
+        : navigator.attributesOf(parent);
+  }
+
+  @Override
+  public double numberOf(N node) {
+    return navigator instanceof NumberValueNavigator
+        ? ((NumberValueNavigator<N>) navigator).numberOf(node)
+        : Numbers.parseDouble(node.getText());
+  }
+
+  @Override
+  public N createAttribute(N parent, QName attribute) throws XmlBuilderException {
+    return navigator.createAttribute(parent, attribute);
+  }
+
+  @Override
+  public N createElement(N parent, QName element) throws XmlBuilderException {
+    return navigator.createElement(parent, element);
+  }
+
+  @Override
+  public void setText(N node, String text) throws XmlBuilderException {
+    navigator.setText(node, text);
+  }
+
+  @Override
+  public void prependCopy(N node) throws XmlBuilderException {
+    navigator.prependCopy(node);
+  }
+
+  @Override
+  public void prependCopies(N node, int count) throws XmlBuilderException {
+    PredicateExpr.prependCopies(navigator, node, count);
+  }
+
+  @Override
+  public void remove(N node) throws XmlBuilderException {
+    navigator.remove(node);
+  }
+}
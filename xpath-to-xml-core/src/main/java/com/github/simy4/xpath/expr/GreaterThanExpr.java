@@ -33,7 +33,7 @@ public class GreaterThanExpr extends AbstractOperationExpr {
   public <N extends Node> View<N> resolve(
       Navigator<N> navigator, View<N> left, View<N> right, boolean greedy)
       throws XmlBuilderException {
-    final boolean gt = 0 < Double.compare(left.toNumber(), right.toNumber());
+    final boolean gt = 0 < Double.compare(toNumber(navigator, left), toNumber(navigator, right));
     if (!gt && greedy) {
       throw new XmlBuilderException(
           "Can not apply a 'greater than' operator to: " + left + " and: " + right);
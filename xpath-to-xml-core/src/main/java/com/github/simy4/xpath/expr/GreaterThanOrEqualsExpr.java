@@ -33,7 +33,7 @@ public class GreaterThanOrEqualsExpr extends AbstractOperationExpr {
   public <N extends Node> View<N> resolve(
       Navigator<N> navigator, View<N> left, View<N> right, boolean greedy)
       throws XmlBuilderException {
-    boolean ge = 0 <= Double.compare(left.toNumber(), right.toNumber());
+    boolean ge = 0 <= Double.compare(toNumber(navigator, left), toNumber(navigator, right));
     if (!ge && greedy) {
       ge = left.visit(new EqualsExpr.EqualsVisitor<N>(navigator, right));
     }
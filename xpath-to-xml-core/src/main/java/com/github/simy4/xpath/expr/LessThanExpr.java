@@ -33,7 +33,7 @@ public class LessThanExpr extends AbstractOperationExpr {
   public <N extends Node> View<N> resolve(
       Navigator<N> navigator, View<N> left, View<N> right, boolean greedy)
       throws XmlBuilderException {
-    final boolean lt = 0 > Double.compare(left.toNumber(), right.toNumber());
+    final boolean lt = 0 > Double.compare(toNumber(navigator, left), toNumber(navigator, right));
     if (!lt && greedy) {
       throw new XmlBuilderException(
           "Can not apply a 'less than' operator to: " + left + " and: " + right);
@@ -31,7 +31,7 @@ public class MultiplicationExpr extends AbstractOperationExpr {
   @Override
   protected <N extends Node> View<N> resolve(
       Navigator<N> navigator, View<N> left, View<N> right, boolean greedy) {
-    return new NumberView<N>(left.toNumber() * right.toNumber());
+    return new NumberView<N>(toNumber(navigator, left) * toNumber(navigator, right));
   }
 
   @Override
@@ -39,6 +39,10 @@ public class NumberExpr implements Expr, Serializable {
     return (NumberView<N>) number;
   }
 
+  double getNumber() {
+    return number.toNumber();
+  }
+
   @Override
   public String toString() {
     return number.toString();
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.view.NodeView;
+
+/**
+ * Logical {@code or} expression. Greedy resolution leaves nodes untouched if any of operands is
+ * already true. Otherwise it makes the left operand true, or the right one if the left one still
+ * resolves to false.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public class OrExpr extends AbstractLogicalExpr {
+
+  private static final long serialVersionUID = 1L;
+
+  public OrExpr(Expr leftExpr, Expr rightExpr) {
+    super(leftExpr, rightExpr);
+  }
+
+  @Override
+  protected <N extends Node> boolean test(Navigator<N> navigator, NodeView<N> view, boolean greedy)
+      throws XmlBuilderException {
+    if (test(getFirstExpr(), navigator, view, false)
+        || test(getSecondExpr(), navigator, view, false)) {
+      return true;
+    }
+    return greedy
+        && (test(getLeftExpr(), navigator, view, true)
+            || test(getRightExpr(), navigator, view, true));
+  }
+
+  @Override
+  protected String operator() {
+    return " or ";
+  }
+}
@@ -31,9 +31,21 @@ public class PathExpr implements Expr, Serializable {
   private static final long serialVersionUID = 1L;
 
   private final List<StepExpr> pathExpr;
+  private final List<StepExpr> lookupSteps;
 
   public PathExpr(List<StepExpr> pathExpr) {
+    this(pathExpr, pathExpr);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param pathExpr steps to resolve greedily
+   * @param lookupSteps steps to resolve non greedily, that look up the same nodes as given steps
+   */
+  PathExpr(List<StepExpr> pathExpr, List<StepExpr> lookupSteps) {
     this.pathExpr = pathExpr;
+    this.lookupSteps = lookupSteps;
   }
 
   @Override
@@ -41,12 +53,21 @@ public class PathExpr implements Expr, Serializable {
       Navigator<N> navigator, NodeView<N> view, boolean greedy) throws XmlBuilderException {
     final boolean newGreedy = !view.hasNext() && greedy;
     IterableNodeView<N> children = view;
-    for (final StepExpr stepExpr : pathExpr) {
+    // nodes are only created by steps as written, but may be looked up by any equivalent steps
+    for (final StepExpr stepExpr : newGreedy ? pathExpr : lookupSteps) {
       children = children.flatMap(new StepResolver<N>(navigator, stepExpr, newGreedy));
     }
     return children;
   }
 
+  List<StepExpr> getSteps() {
+    return pathExpr;
+  }
+
+  List<StepExpr> getLookupSteps() {
+    return lookupSteps;
+  }
+
   @Override
   public String toString() {
     final Iterator<StepExpr> pathExprIterator = pathExpr.iterator();
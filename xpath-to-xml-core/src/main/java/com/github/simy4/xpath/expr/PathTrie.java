@@ -0,0 +1,605 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
+import com.github.simy4.xpath.expr.axis.AxisResolver;
+import com.github.simy4.xpath.expr.axis.ChildAxisResolver;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.util.Function;
+import com.github.simy4.xpath.view.IterableNodeView;
+import com.github.simy4.xpath.view.NodeView;
+import com.github.simy4.xpath.view.View;
+
+import javax.xml.namespace.QName;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Prefix tree of greedily resolved {@link PathExpr} steps.
+ *
+ * <p>Expressions that share leading steps resolve these steps only once and reuse the resulting
+ * node sets afterwards. Expressions are still resolved one after another in the given order, and
+ * a shared node set is reused only while none of the preceding expressions could have modified
+ * the nodes it was derived from. Expressions that cannot be analyzed are resolved as is.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class PathTrie implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final List<Expr> exprs;
+  private final List<StepExpr> steps;
+  private final int[] parents;
+  private final int[] leaves;
+  private final boolean[] textReads;
+
+  /**
+   * Constructor.
+   *
+   * @param exprs expressions to merge
+   * @param putValue whether resolved nodes are going to get their text content set
+   */
+  public PathTrie(List<Expr> exprs, boolean putValue) {
+    final Builder builder = new Builder(putValue);
+    final int[] leaves = new int[exprs.size()];
+    final boolean[] textReads = new boolean[leaves.length];
+    for (int i = 0; i < leaves.length; i++) {
+      leaves[i] = builder.add(exprs.get(i));
+      textReads[i] = builder.readsText;
+    }
+    this.exprs = exprs;
+    this.steps = builder.steps;
+    this.parents = builder.toParents();
+    this.leaves = leaves;
+    this.textReads = textReads;
+  }
+
+  /**
+   * Number of merged expressions.
+   *
+   * @return number of expressions
+   */
+  public int size() {
+    return exprs.size();
+  }
+
+  /**
+   * Number of distinct steps to resolve.
+   *
+   * @return number of steps
+   */
+  public int steps() {
+    return steps.size();
+  }
+
+  /**
+   * Whether resolution of expression at given index may read text content of XML nodes. Only
+   * expressions with name steps and no predicates that compare node paths are known not to.
+   *
+   * @param index expression index
+   * @return {@code false} if expression resolution depends on node names and positions only
+   */
+  public boolean readsText(int index) {
+    return textReads[index];
+  }
+
+  /**
+   * Creates a new resolution context. Expressions have to be resolved in order using the same
+   * context.
+   *
+   * @param navigator XML navigator
+   * @param xml XML model
+   * @param <N> XML model type
+   * @return expressions resolver
+   */
+  public <N extends Node> Resolver<N> resolver(Navigator<N> navigator, N xml) {
+    return new Resolver<N>(navigator, xml);
+  }
+
+  /**
+   * Greedy resolver of merged expressions.
+   *
+   * @param <N> XML model type
+   */
+  public final class Resolver<N extends Node> {
+
+    private final Navigator<N> navigator;
+    private final N xml;
+    private final NodeView<N> view;
+    private final List<IterableNodeView<N>> resolved;
+    private int modCount;
+
+    Resolver(Navigator<N> navigator, N xml) {
+      this.navigator =
+          navigator instanceof IdentityNavigator
+              ? new IdentityTrackingNavigator((IdentityNavigator<N>) navigator)
+              : new TrackingNavigator(navigator);
+      this.xml = xml;
+      this.view = new NodeView<N>(xml);
+      this.resolved = new ArrayList<IterableNodeView<N>>(steps.size());
+      for (int i = 0; i < steps.size(); i++) {
+        resolved.add(null);
+      }
+    }
+
+    /**
+     * Greedily resolves expression at given index.
+     *
+     * @param index expression index
+     * @return evaluated XML view
+     * @throws XmlBuilderException if error occur during XML model modification
+     */
+    public View<N> resolve(int index) throws XmlBuilderException {
+      final int leaf = leaves[index];
+      return leaf < 0
+          ? exprs.get(index).resolve(navigator, new NodeView<N>(xml), true)
+          : resolveStep(leaf);
+    }
+
+    private IterableNodeView<N> resolveStep(int step) {
+      IterableNodeView<N> result = resolved.get(step);
+      if (null == result) {
+        final int modCount = this.modCount;
+        final int parent = parents[step];
+        final IterableNodeView<N> context = parent < 0 ? view : resolveStep(parent);
+        result = context.flatMap(new StepResolver<N>(navigator, steps.get(step)));
+        if (modCount == this.modCount) {
+          resolved.set(step, result);
+        }
+      }
+      return result;
+    }
+
+    private void invalidateAll() {
+      modCount++;
+      Collections.fill(resolved, null);
+    }
+
+    /**
+     * Navigator that drops all resolved steps whenever a node gets a sibling with the same name,
+     * gets copied or removed. Some models restructure their neighbourhood on such modifications,
+     * so these cannot be accounted for upfront.
+     */
+    private class TrackingNavigator extends ForwardingNavigator<N> {
+
+      TrackingNavigator(Navigator<N> navigator) {
+        super(navigator);
+      }
+
+      @Override
+      public N createAttribute(N parent, QName attribute) throws XmlBuilderException {
+        if (contains(navigator.attributesOf(parent), attribute)
+            || contains(navigator.elementsOf(parent), attribute)) {
+          invalidateAll();
+        }
+        return super.createAttribute(parent, attribute);
+      }
+
+      @Override
+      public N createElement(N parent, QName element) throws XmlBuilderException {
+        // document nodes cannot be asked for attributes
+        if (contains(navigator.elementsOf(parent), element)
+            || (!parent.equals(navigator.root())
+                && contains(navigator.attributesOf(parent), element))) {
+          invalidateAll();
+        }
+        return super.createElement(parent, element);
+      }
+
+      @Override
+      public void prependCopy(N node) throws XmlBuilderException {
+        invalidateAll();
+        super.prependCopy(node);
+      }
+
+      @Override
+      public void prependCopies(N node, int count) throws XmlBuilderException {
+        invalidateAll();
+        super.prependCopies(node, count);
+      }
+
+      @Override
+      public void remove(N node) throws XmlBuilderException {
+        invalidateAll();
+        super.remove(node);
+      }
+
+      private boolean contains(Iterable<? extends N> nodes, QName name) {
+        final String localPart = name.getLocalPart();
+        for (N node : nodes) {
+          if (node instanceof NameMatchingNode
+              ? ((NameMatchingNode) node).hasName(null, localPart)
+              : localPart.equals(node.getName().getLocalPart())) {
+            return true;
+          }
+        }
+        return false;
+      }
+    }
+
+    private final class IdentityTrackingNavigator extends TrackingNavigator
+        implements IdentityNavigator<N> {
+
+      IdentityTrackingNavigator(IdentityNavigator<N> navigator) {
+        super(navigator);
+      }
+    }
+  }
+
+  private static final class StepResolver<T extends Node>
+      implements Function<NodeView<T>, IterableNodeView<T>> {
+
+    private final Navigator<T> navigator;
+    private final StepExpr stepExpr;
+
+    StepResolver(Navigator<T> navigator, StepExpr stepExpr) {
+      this.navigator = navigator;
+      this.stepExpr = stepExpr;
+    }
+
+    @Override
+    public IterableNodeView<T> apply(NodeView<T> view) {
+      return stepExpr.resolve(navigator, view, true);
+    }
+  }
+
+  /**
+   * Single analyzed step. Element and attribute names are reduced to their local parts, so that
+   * models that do not distinguish between them (or between namespaces) are handled as well.
+   */
+  private static final class Step {
+
+    final StepExpr expr;
+    final String key;
+    final String name;
+    final List<List<String>> reads;
+
+    Step(StepExpr expr, String key, String name, List<List<String>> reads) {
+      this.expr = expr;
+      this.key = key;
+      this.name = name;
+      this.reads = reads;
+    }
+
+    static List<Step> analyze(Expr expr) {
+      if (!(expr instanceof PathExpr)) {
+        return null;
+      }
+      final List<StepExpr> stepExprs = ((PathExpr) expr).getSteps();
+      final List<Step> path = new ArrayList<Step>(stepExprs.size());
+      for (StepExpr stepExpr : stepExprs) {
+        if (stepExpr instanceof Root && path.isEmpty()) {
+          path.add(new Step(stepExpr, "/", null, Collections.<List<String>>emptyList()));
+          continue;
+        }
+        final QName name = nameOf(stepExpr);
+        if (null == name) {
+          return null;
+        }
+        final Collection<Expr> predicates = ((AxisStepExpr) stepExpr).getPredicates();
+        final StringBuilder key = new StringBuilder(stepExpr.getClass().getName());
+        key.append(((AxisStepExpr) stepExpr).getAxisResolver());
+        final List<List<String>> reads = new ArrayList<List<String>>();
+        for (Expr predicate : predicates) {
+          key.append('[');
+          if (!analyzePredicate(predicate, key, reads)) {
+            return null;
+          }
+          key.append(']');
+        }
+        path.add(new Step(stepExpr, key.toString(), name.getLocalPart(), reads));
+      }
+      return path.isEmpty() ? null : path;
+    }
+
+    private static boolean analyzePredicate(
+        Expr predicate, StringBuilder key, List<List<String>> reads) {
+      if (predicate instanceof NumberExpr) {
+        key.append(predicate);
+        return true;
+      } else if (predicate instanceof LiteralExpr) {
+        final String literal = predicate.toString();
+        key.append(literal);
+        return literal.indexOf('\'', 1) == literal.length() - 1;
+      } else if (predicate instanceof AbstractOperationExpr) {
+        final AbstractOperationExpr operation = (AbstractOperationExpr) predicate;
+        return analyzeOperation(
+            operation.getLeftExpr(), operation.operator(), operation.getRightExpr(), key, reads);
+      } else if (predicate instanceof AbstractLogicalExpr) {
+        final AbstractLogicalExpr logical = (AbstractLogicalExpr) predicate;
+        return analyzeOperation(
+            logical.getLeftExpr(), logical.operator(), logical.getRightExpr(), key, reads);
+      } else if (predicate instanceof PathExpr) {
+        final List<String> read = new ArrayList<String>();
+        for (StepExpr stepExpr : ((PathExpr) predicate).getSteps()) {
+          final QName name = nameOf(stepExpr);
+          if (null == name || !((AxisStepExpr) stepExpr).getPredicates().isEmpty()) {
+            return false;
+          }
+          key.append('/').append(((AxisStepExpr) stepExpr).getAxisResolver());
+          read.add(name.getLocalPart());
+        }
+        reads.add(read);
+        return !read.isEmpty();
+      } else {
+        return false;
+      }
+    }
+
+    private static boolean analyzeOperation(
+        Expr left, String operator, Expr right, StringBuilder key, List<List<String>> reads) {
+      key.append('(');
+      if (!analyzePredicate(left, key, reads)) {
+        return false;
+      }
+      key.append(operator);
+      if (!analyzePredicate(right, key, reads)) {
+        return false;
+      }
+      key.append(')');
+      return true;
+    }
+
+    private static QName nameOf(StepExpr stepExpr) {
+      if (!(stepExpr instanceof AxisStepExpr)) {
+        return null;
+      }
+      final AxisResolver axisResolver = ((AxisStepExpr) stepExpr).getAxisResolver();
+      final QName name;
+      if (axisResolver instanceof ChildAxisResolver) {
+        name = ((ChildAxisResolver) axisResolver).getName();
+      } else if (axisResolver instanceof AttributeAxisResolver) {
+        name = ((AttributeAxisResolver) axisResolver).getName();
+      } else {
+        return null;
+      }
+      return "*".equals(name.getNamespaceURI()) || "*".equals(name.getLocalPart()) ? null : name;
+    }
+  }
+
+  /**
+   * Builds the prefix tree by simulating expression resolution in order.
+   *
+   * <p>Every node of the tree reads the set of nodes at its name path and, if it has predicates,
+   * the text of nodes at predicate paths below. Every expression may write whatever its unshared
+   * steps could create, and trie nodes that have read anything such write could affect are
+   * detached from the tree, so that following expressions resolve these steps again.
+   */
+  private static final class Builder {
+
+    private static final int CREATE = 0;
+    private static final int SET_TEXT = 1;
+
+    final List<StepExpr> steps = new ArrayList<StepExpr>();
+    boolean readsText;
+    private final List<TrieNode> nodes = new ArrayList<TrieNode>();
+    private final boolean putValue;
+    private TrieNode root;
+    private NameNode names;
+    private boolean absolute;
+
+    Builder(boolean putValue) {
+      this.putValue = putValue;
+      reset();
+    }
+
+    int add(Expr expr) {
+      final List<Step> path = Step.analyze(expr);
+      readsText = null == path;
+      if (readsText) {
+        reset();
+        return -1;
+      }
+      final boolean absolute = null == path.get(0).name;
+      if (absolute != this.absolute) {
+        reset();
+        this.absolute = absolute;
+      }
+
+      final TrieNode[] chain = new TrieNode[path.size()];
+      TrieNode current = root;
+      int shared = 0;
+      for (int i = 0; i < chain.length; i++) {
+        final Step step = path.get(i);
+        readsText |= !step.reads.isEmpty();
+        TrieNode next = shared == i ? current.children.get(step.key) : null;
+        if (null == next) {
+          final NameNode name = null == step.name ? names : current.name.child(step.name);
+          next = new TrieNode(steps.size(), current, step.key, name);
+          steps.add(step.expr);
+          nodes.add(next);
+          current.children.put(step.key, next);
+          if (null != step.name) {
+            register(next, step);
+          }
+        } else {
+          shared = i + 1;
+        }
+        chain[i] = next;
+        current = next;
+      }
+
+      for (int i = shared; i < chain.length; i++) {
+        final Step step = path.get(i);
+        if (null != step.name) {
+          write(CREATE, chain[i].name, chain, i);
+          for (List<String> read : step.reads) {
+            NameNode name = chain[i].name;
+            for (String segment : read) {
+              name = name.child(segment);
+              write(CREATE, name, chain, i);
+            }
+            write(SET_TEXT, name, chain, i);
+          }
+        }
+      }
+      if (putValue) {
+        write(SET_TEXT, current.name, chain, chain.length);
+      }
+      return current.id;
+    }
+
+    int[] toParents() {
+      final int[] parents = new int[nodes.size()];
+      for (int i = 0; i < parents.length; i++) {
+        parents[i] = nodes.get(i).parent.id;
+      }
+      return parents;
+    }
+
+    private void reset() {
+      names = new NameNode(null);
+      root = new TrieNode(-1, null, null, names);
+    }
+
+    private void register(TrieNode node, Step step) {
+      node.name.setReaders.add(node);
+      for (NameNode name = node.name; null != name; name = name.parent) {
+        name.setReadCount++;
+      }
+      for (List<String> read : step.reads) {
+        NameNode name = node.name;
+        for (String segment : read) {
+          name = name.child(segment);
+        }
+        if (name.textReaders.add(node)) {
+          node.textReads.add(name);
+          for (; null != name; name = name.parent) {
+            name.textReadCount++;
+          }
+        }
+      }
+    }
+
+    private void unregister(TrieNode node) {
+      node.parent.children.remove(node.key);
+      node.name.setReaders.remove(node);
+      for (NameNode name = node.name; null != name; name = name.parent) {
+        name.setReadCount--;
+      }
+      for (NameNode textRead : node.textReads) {
+        textRead.textReaders.remove(node);
+        for (NameNode name = textRead; null != name; name = name.parent) {
+          name.textReadCount--;
+        }
+      }
+      for (TrieNode child : new ArrayList<TrieNode>(node.children.values())) {
+        unregister(child);
+      }
+    }
+
+    private void write(int kind, NameNode written, TrieNode[] chain, int from) {
+      for (NameNode name = written.parent; null != name; name = name.parent) {
+        invalidate(name.textReaders, chain, from);
+      }
+      if (SET_TEXT != kind) {
+        invalidate(written.setReaders, chain, from);
+      }
+      invalidate(written.textReaders, chain, from);
+      for (NameNode child : written.children.values()) {
+        invalidateBelow(child, CREATE != kind, chain, from);
+      }
+    }
+
+    private void invalidateBelow(NameNode name, boolean sets, TrieNode[] chain, int from) {
+      if (0 == name.textReadCount && (!sets || 0 == name.setReadCount)) {
+        return;
+      }
+      if (sets) {
+        invalidate(name.setReaders, chain, from);
+      }
+      invalidate(name.textReaders, chain, from);
+      for (NameNode child : name.children.values()) {
+        invalidateBelow(child, sets, chain, from);
+      }
+    }
+
+    private void invalidate(Set<TrieNode> readers, TrieNode[] chain, int from) {
+      if (readers.isEmpty()) {
+        return;
+      }
+      for (TrieNode reader : new ArrayList<TrieNode>(readers)) {
+        if (reader.parent.children.get(reader.key) == reader && !isOwn(reader, chain, from)) {
+          unregister(reader);
+        }
+      }
+    }
+
+    private static boolean isOwn(TrieNode node, TrieNode[] chain, int from) {
+      for (int i = from; i < chain.length; i++) {
+        if (chain[i] == node) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private static final class TrieNode {
+
+    final int id;
+    final TrieNode parent;
+    final String key;
+    final Map<String, TrieNode> children = new HashMap<String, TrieNode>();
+    final List<NameNode> textReads = new ArrayList<NameNode>();
+    final NameNode name;
+
+    TrieNode(int id, TrieNode parent, String key, NameNode name) {
+      this.id = id;
+      this.parent = parent;
+      this.key = key;
+      this.name = name;
+    }
+  }
+
+  private static final class NameNode {
+
+    final NameNode parent;
+    final Map<String, NameNode> children = new HashMap<String, NameNode>();
+    final Set<TrieNode> setReaders = new LinkedHashSet<TrieNode>();
+    final Set<TrieNode> textReaders = new LinkedHashSet<TrieNode>();
+    int setReadCount;
+    int textReadCount;
+
+    NameNode(NameNode parent) {
+      this.parent = parent;
+    }
+
+    NameNode child(String segment) {
+      NameNode child = children.get(segment);
+      if (null == child) {
+        child = new NameNode(this);
+        children.put(segment, child);
+      }
+      return child;
+    }
+  }
+}
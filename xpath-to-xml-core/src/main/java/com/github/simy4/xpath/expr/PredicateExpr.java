@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.expr;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.view.AbstractViewVisitor;
@@ -49,6 +50,29 @@ public class PredicateExpr implements Expr, Serializable {
     return "[" + predicate + "]";
   }
 
+  /**
+   * Prepends given number of copies of given node, all at once if navigator supports it.
+   *
+   * @param navigator XML navigator
+   * @param node XML node to copy and prepend
+   * @param count number of copies to prepend
+   * @param <N> XML model nodes type
+   * @throws XmlBuilderException if failure occur during node appending
+   */
+  static <N extends Node> void prependCopies(Navigator<N> navigator, N node, long count)
+      throws XmlBuilderException {
+    if (navigator instanceof BulkCopyNavigator) {
+      final BulkCopyNavigator<N> bulkCopyNavigator = (BulkCopyNavigator<N>) navigator;
+      for (; count > 0; count -= Integer.MAX_VALUE) {
+        bulkCopyNavigator.prependCopies(node, (int) Math.min(count, Integer.MAX_VALUE));
+      }
+    } else {
+      for (; count > 0; count--) {
+        navigator.prependCopy(node);
+      }
+    }
+  }
+
   private static final class PredicateVisitor<T extends Node>
       extends AbstractViewVisitor<T, BooleanView<T>> {
 
@@ -69,11 +93,8 @@ public class PredicateExpr implements Expr, Serializable {
         view.mark();
         return BooleanView.of(true);
       } else if (greedy && number > view.getPosition()) {
-        final T node = view.getNode();
-        long numberOfNodesToCreate = (long) number - view.getPosition();
-        do {
-          navigator.prependCopy(node);
-        } while (--numberOfNodesToCreate > 0);
+        final long numberOfNodesToCreate = (long) number - view.getPosition();
+        prependCopies(navigator, view.getNode(), Math.max(1L, numberOfNodesToCreate));
         return BooleanView.of(true);
       } else {
         return BooleanView.of(false);
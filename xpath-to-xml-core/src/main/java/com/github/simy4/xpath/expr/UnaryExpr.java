@@ -37,7 +37,12 @@ public class UnaryExpr implements Expr, Serializable {
   public <N extends Node> NumberView<N> resolve(
       Navigator<N> navigator, NodeView<N> view, boolean greedy) throws XmlBuilderException {
     return new NumberView<N>(
-        -valueExpr.resolve(navigator, view, !view.hasNext() && greedy).toNumber());
+        -AbstractOperationExpr.toNumber(
+            navigator, valueExpr.resolve(navigator, view, !view.hasNext() && greedy)));
+  }
+
+  Expr getValueExpr() {
+    return valueExpr;
   }
 
   @Override
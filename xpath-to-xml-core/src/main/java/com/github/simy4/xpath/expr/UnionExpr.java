@@ -0,0 +1,369 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
+import com.github.simy4.xpath.expr.axis.AxisResolver;
+import com.github.simy4.xpath.expr.axis.ChildAxisResolver;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.util.Function;
+import com.github.simy4.xpath.util.Predicate;
+import com.github.simy4.xpath.util.ReadOnlyIterator;
+import com.github.simy4.xpath.view.IterableNodeView;
+import com.github.simy4.xpath.view.NodeSetView;
+import com.github.simy4.xpath.view.NodeView;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Union of path expressions.
+ *
+ * <p>Leading steps that all branches share are resolved once, and the rest of every branch is
+ * resolved from each node found. If the rest of every branch is a single child or attribute step
+ * without predicates, children of each node are traversed once and tested against all names, so
+ * that siblings come out in document order. Otherwise, branches are resolved one after another
+ * and nodes found by them are merged in document order. During greedy resolution, branches are
+ * resolved lazily in written order instead, so that missing nodes are only created as needed.
+ * Nodes found by several branches are returned once.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public class UnionExpr implements Expr, Serializable {
+
+  private static final long serialVersionUID = 1L;
+  private static final Predicate<Node> ANY_NODE =
+      new Predicate<Node>() {
+        @Override
+        public boolean test(Node node) {
+          return true;
+        }
+      };
+
+  private final List<PathExpr> branches;
+  private final List<StepExpr> prefix;
+  private final List<PathExpr> suffixes;
+  private final List<Predicate<Node>> attributeTests;
+  private final List<Predicate<Node>> elementTests;
+
+  /**
+   * Constructor.
+   *
+   * @param branches union branches in written order
+   */
+  public UnionExpr(List<PathExpr> branches) {
+    this.branches = branches;
+    final int shared = sharedSteps(branches);
+    this.prefix = new ArrayList<StepExpr>(branches.get(0).getSteps().subList(0, shared));
+    this.suffixes = new ArrayList<PathExpr>(branches.size());
+    final List<Predicate<Node>> attributeTests = new ArrayList<Predicate<Node>>();
+    final List<Predicate<Node>> elementTests = new ArrayList<Predicate<Node>>();
+    boolean merged = true;
+    for (PathExpr branch : branches) {
+      final List<StepExpr> steps = branch.getSteps();
+      final List<StepExpr> suffix = new ArrayList<StepExpr>(steps.subList(shared, steps.size()));
+      suffixes.add(new PathExpr(suffix));
+      AxisResolver axisResolver = null;
+      if (1 == suffix.size() && suffix.get(0) instanceof AxisStepExpr) {
+        final AxisStepExpr axisStepExpr = (AxisStepExpr) suffix.get(0);
+        if (axisStepExpr.getPredicates().isEmpty()) {
+          axisResolver = axisStepExpr.getAxisResolver();
+        }
+      }
+      if (axisResolver instanceof AttributeAxisResolver) {
+        attributeTests.add((AttributeAxisResolver) axisResolver);
+      } else if (axisResolver instanceof ChildAxisResolver) {
+        elementTests.add((ChildAxisResolver) axisResolver);
+      } else {
+        merged = false;
+      }
+    }
+    this.attributeTests = merged ? attributeTests : null;
+    this.elementTests = merged ? elementTests : null;
+  }
+
+  @Override
+  public <N extends Node> IterableNodeView<N> resolve(
+      Navigator<N> navigator, NodeView<N> view, boolean greedy) throws XmlBuilderException {
+    final boolean newGreedy = !view.hasNext() && greedy;
+    final BranchesResolver<N> branchesResolver = new BranchesResolver<N>(navigator, newGreedy);
+    if (prefix.isEmpty()) {
+      return branchesResolver.apply(view);
+    }
+    return new PathExpr(prefix).resolve(navigator, view, newGreedy).flatMap(branchesResolver);
+  }
+
+  List<PathExpr> getBranches() {
+    return branches;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder stringBuilder = new StringBuilder();
+    for (PathExpr branch : branches) {
+      if (0 < stringBuilder.length()) {
+        stringBuilder.append(" | ");
+      }
+      stringBuilder.append(branch);
+    }
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Counts leading steps that are the same in all given branches. Only steps that select nodes by
+   * axis, name and constant position are compared, since they are identified by their string form.
+   */
+  private static int sharedSteps(List<PathExpr> branches) {
+    final List<StepExpr> first = branches.get(0).getSteps();
+    int shared = 0;
+    for (; shared < first.size(); shared++) {
+      final StepExpr step = first.get(shared);
+      if (!isComparable(step)) {
+        return shared;
+      }
+      for (PathExpr branch : branches) {
+        final List<StepExpr> steps = branch.getSteps();
+        if (steps.size() <= shared
+            || steps.get(shared).getClass() != step.getClass()
+            || !steps.get(shared).toString().equals(step.toString())) {
+          return shared;
+        }
+      }
+    }
+    return shared;
+  }
+
+  private static boolean isComparable(StepExpr step) {
+    if (step instanceof Root) {
+      return true;
+    } else if (step instanceof AxisStepExpr) {
+      for (Expr predicate : ((AxisStepExpr) step).getPredicates()) {
+        if (!(predicate instanceof NumberExpr)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean test(List<Predicate<Node>> tests, Node node) {
+    for (Predicate<Node> test : tests) {
+      if (test.test(node)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private final class BranchesResolver<T extends Node>
+      implements Function<NodeView<T>, IterableNodeView<T>> {
+
+    private final Navigator<T> navigator;
+    private final boolean greedy;
+
+    BranchesResolver(Navigator<T> navigator, boolean greedy) {
+      this.navigator = navigator;
+      this.greedy = greedy;
+    }
+
+    @Override
+    public IterableNodeView<T> apply(NodeView<T> parent) {
+      final Iterable<T> nodes =
+          greedy || null == elementTests
+              ? new BranchesIterable<T>(navigator, suffixes, parent, greedy)
+              : matchingChildren(parent.getNode());
+      return NodeSetView.of(navigator, nodes, ANY_NODE);
+    }
+
+    /**
+     * Collects matching attributes and elements in one pass. Nodes are collected before they are
+     * returned, so that callers may remove them while iterating.
+     */
+    private List<T> matchingChildren(T parent) {
+      final List<T> children = new ArrayList<T>();
+      if (!attributeTests.isEmpty()) {
+        for (T attribute : navigator.attributesOf(parent)) {
+          if (test(attributeTests, attribute)) {
+            children.add(attribute);
+          }
+        }
+      }
+      if (!elementTests.isEmpty()) {
+        for (T element : navigator.elementsOf(parent)) {
+          if (test(elementTests, element)) {
+            children.add(element);
+          }
+        }
+      }
+      return children;
+    }
+  }
+
+  private static final class BranchesIterable<T extends Node> implements Iterable<T> {
+
+    private final Navigator<T> navigator;
+    private final List<PathExpr> branches;
+    private final NodeView<T> parent;
+    private final boolean greedy;
+
+    BranchesIterable(
+        Navigator<T> navigator, List<PathExpr> branches, NodeView<T> parent, boolean greedy) {
+      this.navigator = navigator;
+      this.branches = branches;
+      this.parent = parent;
+      this.greedy = greedy;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return greedy ? new GreedyBranchesIterator() : documentOrderedNodes().iterator();
+    }
+
+    /**
+     * Resolves all branches and sorts their nodes in document order, unless only one branch found
+     * any. Nodes are collected before they are returned, so that callers may remove them while
+     * iterating.
+     */
+    private List<T> documentOrderedNodes() {
+      final List<T> nodes = new ArrayList<T>();
+      int matchedBranches = 0;
+      for (PathExpr branch : branches) {
+        final int size = nodes.size();
+        for (NodeView<T> node : branch.resolve(navigator, parent, false)) {
+          nodes.add(node.getNode());
+        }
+        if (size < nodes.size()) {
+          matchedBranches++;
+        }
+      }
+      if (1 < matchedBranches) {
+        Collections.sort(nodes, new DocumentOrder<T>(navigator));
+      }
+      return Collections.unmodifiableList(nodes);
+    }
+
+    private final class GreedyBranchesIterator extends ReadOnlyIterator<T> {
+      private final Iterator<PathExpr> branchIterator = branches.iterator();
+      private Iterator<NodeView<T>> current = Collections.<NodeView<T>>emptyList().iterator();
+
+      @Override
+      public boolean hasNext() {
+        boolean currentHasNext;
+        while (!(currentHasNext = current.hasNext()) && branchIterator.hasNext()) {
+          current = branchIterator.next().resolve(navigator, parent, true).iterator();
+        }
+        return currentHasNext;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException("No more nodes");
+        }
+        return current.next().getNode();
+      }
+    }
+  }
+
+  /**
+   * Orders nodes by their positions among ancestors, attributes of an element come before its
+   * children. Positions are computed by scanning children of every ancestor once per comparator.
+   */
+  private static final class DocumentOrder<T extends Node> implements Comparator<T> {
+
+    private final Navigator<T> navigator;
+    private final Map<Object, int[]> keys;
+    private final Map<Object, Integer> positions;
+    private final Map<Object, Boolean> indexedParents;
+
+    DocumentOrder(Navigator<T> navigator) {
+      this.navigator = navigator;
+      if (navigator instanceof IdentityNavigator) {
+        keys = new IdentityHashMap<Object, int[]>();
+        positions = new IdentityHashMap<Object, Integer>();
+        indexedParents = new IdentityHashMap<Object, Boolean>();
+      } else {
+        keys = new HashMap<Object, int[]>();
+        positions = new HashMap<Object, Integer>();
+        indexedParents = new HashMap<Object, Boolean>();
+      }
+    }
+
+    @Override
+    public int compare(T left, T right) {
+      final int[] leftKey = keyOf(left);
+      final int[] rightKey = keyOf(right);
+      final int length = Math.min(leftKey.length, rightKey.length);
+      for (int i = 0; i < length; i++) {
+        if (leftKey[i] != rightKey[i]) {
+          return leftKey[i] < rightKey[i] ? -1 : 1;
+        }
+      }
+      return leftKey.length - rightKey.length;
+    }
+
+    private int[] keyOf(T node) {
+      final Object model = modelOf(node);
+      int[] key = keys.get(model);
+      if (null == key) {
+        final T parent = navigator.parentOf(node);
+        if (null == parent) {
+          key = new int[0];
+        } else {
+          final int[] parentKey = keyOf(parent);
+          key = Arrays.copyOf(parentKey, parentKey.length + 1);
+          key[parentKey.length] = positionOf(parent, model);
+        }
+        keys.put(model, key);
+      }
+      return key;
+    }
+
+    private int positionOf(T parent, Object model) {
+      if (null == indexedParents.put(modelOf(parent), Boolean.TRUE)) {
+        int position = 0;
+        for (T attribute : navigator.attributesOf(parent)) {
+          positions.put(modelOf(attribute), position++);
+        }
+        for (T element : navigator.elementsOf(parent)) {
+          positions.put(modelOf(element), position++);
+        }
+      }
+      final Integer position = positions.get(model);
+      return null == position ? Integer.MAX_VALUE : position;
+    }
+
+    private Object modelOf(T node) {
+      return navigator instanceof IdentityNavigator
+          ? ((IdentityNavigator<T>) navigator).modelOf(node)
+          : node;
+    }
+  }
+}
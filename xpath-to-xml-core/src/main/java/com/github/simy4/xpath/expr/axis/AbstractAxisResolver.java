@@ -16,8 +16,11 @@
 package com.github.simy4.xpath.expr.axis;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.InstrumentedNavigator;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.spi.EvaluationListener;
 import com.github.simy4.xpath.util.Predicate;
 import com.github.simy4.xpath.view.IterableNodeView;
 import com.github.simy4.xpath.view.NodeSetView;
@@ -32,15 +35,42 @@ abstract class AbstractAxisResolver implements AxisResolver, Predicate<Node>, Se
   private static final long serialVersionUID = 1L;
 
   protected final QName name;
+  private final String namespaceUri;
+  private final String localPart;
 
   protected AbstractAxisResolver(QName name) {
     this.name = name;
+    this.namespaceUri = "*".equals(name.getNamespaceURI()) ? null : name.getNamespaceURI();
+    this.localPart = "*".equals(name.getLocalPart()) ? null : name.getLocalPart();
   }
 
   @Override
   public final <N extends Node> IterableNodeView<N> resolveAxis(
       Navigator<N> navigator, NodeView<N> parent, boolean greedy) throws XmlBuilderException {
-    IterableNodeView<N> result = NodeSetView.of(traverseAxis(navigator, parent), this);
+    if (navigator instanceof InstrumentedNavigator) {
+      final InstrumentedNavigator<N> instrumentedNavigator = (InstrumentedNavigator<N>) navigator;
+      final EvaluationListener listener = instrumentedNavigator.getListener();
+      if (null != listener) {
+        final long nodesVisited = instrumentedNavigator.getNodesVisited();
+        final long nodesCreated = instrumentedNavigator.getNodesCreated();
+        final long start = System.nanoTime();
+        final IterableNodeView<N> result = resolve(navigator, parent, greedy);
+        final long elapsed = System.nanoTime() - start;
+        listener.axisResolved(
+            toString(),
+            greedy,
+            instrumentedNavigator.getNodesVisited() - nodesVisited,
+            instrumentedNavigator.getNodesCreated() - nodesCreated,
+            elapsed);
+        return result;
+      }
+    }
+    return resolve(navigator, parent, greedy);
+  }
+
+  private <N extends Node> IterableNodeView<N> resolve(
+      Navigator<N> navigator, NodeView<N> parent, boolean greedy) throws XmlBuilderException {
+    IterableNodeView<N> result = NodeSetView.of(navigator, traverseAxis(navigator, parent), this);
     if (greedy && !result.toBoolean()) {
       result = createAxisNode(navigator, parent, 1);
     }
@@ -50,19 +80,27 @@ abstract class AbstractAxisResolver implements AxisResolver, Predicate<Node>, Se
   protected abstract <N extends Node> Iterable<? extends N> traverseAxis(
       Navigator<N> navigator, NodeView<N> view);
 
+  public final QName getName() {
+    return name;
+  }
+
   protected final boolean isWildcard() {
-    return "*".equals(name.getNamespaceURI()) || "*".equals(name.getLocalPart());
+    return null == namespaceUri || null == localPart;
   }
 
   @Override
   public boolean test(Node t) {
+    if (null == namespaceUri && null == localPart) {
+      return true;
+    } else if (t instanceof NameMatchingNode) {
+      return ((NameMatchingNode) t).hasName(namespaceUri, localPart);
+    }
     final QName actual = t.getName();
-    return test(name.getNamespaceURI(), actual.getNamespaceURI())
-        && test(name.getLocalPart(), actual.getLocalPart());
+    return test(namespaceUri, actual.getNamespaceURI()) && test(localPart, actual.getLocalPart());
   }
 
-  private boolean test(String expected, String actual) {
-    return "*".equals(expected) || "*".equals(actual) || expected.equals(actual);
+  private static boolean test(String expected, String actual) {
+    return null == expected || expected.equals(actual) || "*".equals(actual);
   }
 
   @Override
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.expr.axis;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.view.NodeView;
@@ -33,6 +34,9 @@ public class AttributeAxisResolver extends AbstractAxisResolver {
   @Override
   protected <N extends Node> Iterable<? extends N> traverseAxis(
       Navigator<N> navigator, NodeView<N> parent) {
+    if (navigator instanceof NameLookupNavigator && !isWildcard()) {
+      return ((NameLookupNavigator<N>) navigator).attributesOf(parent.getNode(), name);
+    }
     return navigator.attributesOf(parent.getNode());
   }
 
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.expr.axis;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.util.ReadOnlyIterator;
@@ -39,8 +40,37 @@ public class DescendantOrSelfAxisResolver extends AbstractAxisResolver {
     this.self = self;
   }
 
+  /**
+   * Descendant element nodes of given XML node visited breadth first through {@link
+   * Navigator#elementsOf(Node)}.
+   *
+   * @param navigator XML navigator
+   * @param parent XML node to traverse
+   * @param <N> XML model nodes type
+   * @return descendant element nodes
+   */
+  public static <N extends Node> Iterable<N> descendantsOf(Navigator<N> navigator, N parent) {
+    return new DescendantOrSelfIterable<N>(navigator, parent, false);
+  }
+
+  /**
+   * Whether this axis includes the node it is resolved against.
+   *
+   * @return {@code true} for descendant-or-self axis or {@code false} for descendant axis
+   * @since 2.4
+   */
+  public boolean isSelf() {
+    return self;
+  }
+
   @Override
-  protected <N extends Node> Iterable<N> traverseAxis(Navigator<N> navigator, NodeView<N> view) {
+  protected <N extends Node> Iterable<? extends N> traverseAxis(
+      Navigator<N> navigator, NodeView<N> view) {
+    if (navigator instanceof DescendantNavigator) {
+      final Iterable<? extends N> descendants =
+          ((DescendantNavigator<N>) navigator).descendantsOf(view.getNode(), name);
+      return self ? new SelfAndDescendantsIterable<N>(view.getNode(), descendants) : descendants;
+    }
     return new DescendantOrSelfIterable<N>(navigator, view.getNode(), self);
   }
 
@@ -81,6 +111,48 @@ public class DescendantOrSelfAxisResolver extends AbstractAxisResolver {
     }
   }
 
+  private static final class SelfAndDescendantsIterable<T extends Node> implements Iterable<T> {
+
+    private final T node;
+    private final Iterable<? extends T> descendants;
+
+    SelfAndDescendantsIterable(T node, Iterable<? extends T> descendants) {
+      this.node = node;
+      this.descendants = descendants;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return new SelfAndDescendants<T>(node, descendants.iterator());
+    }
+  }
+
+  private static final class SelfAndDescendants<T extends Node> extends ReadOnlyIterator<T> {
+
+    private final Iterator<? extends T> descendants;
+    private T self;
+
+    SelfAndDescendants(T self, Iterator<? extends T> descendants) {
+      this.self = self;
+      this.descendants = descendants;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return null != self || descendants.hasNext();
+    }
+
+    @Override
+    public T next() {
+      if (null == self) {
+        return descendants.next();
+      }
+      final T next = self;
+      self = null;
+      return next;
+    }
+  }
+
   static final class DescendantOrSelf<T extends Node> extends ReadOnlyIterator<T> {
 
     private final Navigator<T> navigator;
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+import com.github.simy4.xpath.XmlBuilderException;
+
+/**
+ * Optional navigator capability for XML models that can prepend several copies of a node at once.
+ * Greedy positional predicates, such as {@code item[100]}, create all missing siblings with a
+ * single call instead of shifting the siblings once per every created copy.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface BulkCopyNavigator<N extends Node> extends Navigator<N> {
+
+  /**
+   * Prepends given number of copies of given node to this node. Result should be the same as of
+   * calling {@link #prependCopy(Node)} given number of times.
+   *
+   * @param node XML node to copy and prepend
+   * @param count number of copies to prepend
+   * @throws XmlBuilderException if failure occur during node appending
+   */
+  void prependCopies(N node, int count) throws XmlBuilderException;
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Optional navigator capability to traverse descendant elements by walking the underlying model
+ * directly, so that no intermediate iterables are allocated per visited node and only matching
+ * nodes are wrapped.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface DescendantNavigator<N extends Node> extends Navigator<N> {
+
+  /**
+   * Descendant element nodes of given XML node with given name. Nodes are returned level by level,
+   * in the same order as visiting {@link #elementsOf(Node)} of every element breadth first.
+   *
+   * @param parent XML node to traverse
+   * @param name name of descendant elements to look up, may use {@code *} as wildcard namespace URI
+   *     or local part
+   * @return descendant element nodes with given name
+   */
+  Iterable<? extends N> descendantsOf(N parent, QName name);
+}
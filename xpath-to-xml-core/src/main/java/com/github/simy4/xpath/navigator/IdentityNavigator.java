@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+/**
+ * Optional navigator capability for XML models whose nodes are identified by identity of underlying
+ * model objects. Node sets of such navigators de-duplicate nodes with an identity set instead of
+ * relying on {@link Object#equals(Object)} and {@link Object#hashCode()} of node wrappers.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface IdentityNavigator<N extends Node> extends Navigator<N> {
+
+  /**
+   * Underlying model object of given XML node. Two nodes are the same node if and only if their
+   * model objects are identical.
+   *
+   * @param node XML node to unwrap
+   * @return underlying model object
+   */
+  Object modelOf(N node);
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+import com.github.simy4.xpath.spi.EvaluationListener;
+
+/**
+ * Optional navigator capability for navigators that count nodes they visit and create, so that
+ * expressions can report their own metrics to an {@link EvaluationListener}. Navigators that wrap
+ * other navigators should delegate to them.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface InstrumentedNavigator<N extends Node> extends Navigator<N> {
+
+  /**
+   * Listener to report metrics to.
+   *
+   * @return listener or {@code null} if metrics are not collected
+   */
+  EvaluationListener getListener();
+
+  /**
+   * Number of nodes this navigator has traversed so far.
+   *
+   * @return visited nodes count
+   */
+  long getNodesVisited();
+
+  /**
+   * Number of nodes this navigator has created so far.
+   *
+   * @return created nodes count
+   */
+  long getNodesCreated();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+import javax.xml.namespace.QName;
+
+/**
+ * Optional navigator capability to look up child elements and attributes by name without scanning
+ * every child.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface NameLookupNavigator<N extends Node> extends Navigator<N> {
+
+  /**
+   * Child element nodes of given XML node with given name in document order.
+   *
+   * @param parent XML node to scan
+   * @param name non-wildcard name of child elements to look up
+   * @return child element nodes with given name
+   */
+  Iterable<? extends N> elementsOf(N parent, QName name);
+
+  /**
+   * Attribute nodes of given XML node with given name.
+   *
+   * @param parent XML node to scan
+   * @param name non-wildcard name of attributes to look up
+   * @return attribute nodes with given name
+   */
+  Iterable<? extends N> attributesOf(N parent, QName name);
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+/**
+ * Optional node capability for XML models that can test their names without creating a {@link
+ * javax.xml.namespace.QName} first. Name tests of axis steps use it for every visited node.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface NameMatchingNode extends Node {
+
+  /**
+   * Checks whether name of this node matches given name. Result should be the same as of comparing
+   * given name parts with parts of {@link #getName()}, where wildcard parts of either name match
+   * anything.
+   *
+   * @param namespaceUri namespace URI to match or {@code null} to match any namespace
+   * @param localPart local part to match or {@code null} to match any local part
+   * @return {@code true} if name of this node matches given name or {@code false} otherwise
+   */
+  boolean hasName(String namespaceUri, String localPart);
+}
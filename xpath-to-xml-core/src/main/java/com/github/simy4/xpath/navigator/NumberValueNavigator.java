@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+/**
+ * Optional navigator capability to look up number values of nodes. Navigators live as long as a
+ * single build, so they may cache number values of nodes between modifications, which saves
+ * re-parsing the same text content when numeric predicates, such as {@code [price > 5]}, are
+ * evaluated by several effects.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public interface NumberValueNavigator<N extends Node> extends Navigator<N> {
+
+  /**
+   * Number value of text content of given XML node.
+   *
+   * @param node XML node to convert
+   * @return number value or {@link Double#NaN} if text content is not a number
+   */
+  double numberOf(N node);
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.navigator;
+
+/**
+ * Optional node capability for XML models whose text content is assembled from the whole subtree.
+ * Such nodes compare their text content with a string incrementally, so that a predicate like
+ * {@code [name='x']} stops at the first differing character instead of concatenating every
+ * descendant text node first.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ * @see com.github.simy4.xpath.util.TextComparison
+ */
+public interface TextComparableNode extends Node {
+
+  /**
+   * Compares text content of this node with given text lexicographically. Result should have the
+   * same sign as of {@code getText().compareTo(text)}.
+   *
+   * @param text text to compare with
+   * @return negative, zero or positive value if text content is less than, equal to or greater
+   *     than given text
+   */
+  int compareText(String text);
+}
@@ -71,6 +71,7 @@ final class Token {
     static final short IDENTIFIER = 16;
 
     static final short AT = 17;
+    static final short PIPE = 18;
     static final short COLON = 19;
     static final short DOUBLE_COLON = 20;
 
@@ -103,6 +104,7 @@ final class Token {
       lookupMap.put(DOUBLE_DOT, "'..'");
       lookupMap.put(IDENTIFIER, "<identifier>");
       lookupMap.put(AT, "'@'");
+      lookupMap.put(PIPE, "'|'");
       lookupMap.put(COLON, "':'");
       lookupMap.put(DOUBLE_COLON, "'::'");
       lookupMap.put(LEFT_BRACKET, "'['");
@@ -18,11 +18,20 @@ package com.github.simy4.xpath.parser;
 import com.github.simy4.xpath.parser.Token.Type;
 import com.github.simy4.xpath.util.ReadOnlyIterator;
 
+/**
+ * XPath lexer. Tokens are scanned by {@link #advance()} into primitive type and offset fields, so
+ * that the parser can keep its lookahead without allocating a {@link Token} per scanned token.
+ * {@link Token} instances are only created when the lexer is consumed as an iterator.
+ */
 @SuppressWarnings("BadImport")
 class XPathLexer extends ReadOnlyIterator<Token> {
 
+  private static final short NONE = 0;
+
   private final String xpath;
   private int cursor;
+  private int begin;
+  private int end;
 
   XPathLexer(String xpath) {
     this.xpath = xpath;
@@ -35,7 +44,16 @@ class XPathLexer extends ReadOnlyIterator<Token> {
 
   @Override
   public Token next() {
-    Token token;
+    return new Token(advance(), xpath, begin, end);
+  }
+
+  /**
+   * Scans next token.
+   *
+   * @return type of scanned token
+   */
+  short advance() {
+    short token;
     do {
       final char ch = charAt(1);
       switch (ch) {
@@ -47,47 +65,40 @@ class XPathLexer extends ReadOnlyIterator<Token> {
           token = token2('/', Type.SLASH, Type.DOUBLE_SLASH);
           break;
         case '[':
-          token = new Token(Type.LEFT_BRACKET, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.LEFT_BRACKET, 1);
           break;
         case ']':
-          token = new Token(Type.RIGHT_BRACKET, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.RIGHT_BRACKET, 1);
           break;
         case '+':
-          token = new Token(Type.PLUS, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.PLUS, 1);
           break;
         case '-':
-          token = new Token(Type.MINUS, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.MINUS, 1);
           break;
         case '<':
+          token = token2('=', Type.LESS_THAN, Type.LESS_THAN_OR_EQUALS);
+          break;
         case '>':
-          token = relationalOperator();
+          token = token2('=', Type.GREATER_THAN, Type.GREATER_THAN_OR_EQUALS);
           break;
         case '=':
-          token = new Token(Type.EQUALS, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.EQUALS, 1);
           break;
         case '!':
-          if ('=' == charAt(2)) {
-            token = new Token(Type.NOT_EQUALS, xpath, cursor, cursor + 2);
-            cursor += 2;
-          } else {
-            token = null;
-          }
+          token = '=' == charAt(2) ? token(Type.NOT_EQUALS, 2) : NONE;
           break;
         case '@':
-          token = new Token(Type.AT, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.AT, 1);
+          break;
+        case '|':
+          token = token(Type.PIPE, 1);
           break;
         case ':':
           token = token2(':', Type.COLON, Type.DOUBLE_COLON);
           break;
         case '*':
-          token = new Token(Type.STAR, xpath, cursor, cursor + 1);
-          cursor += 1;
+          token = token(Type.STAR, 1);
           break;
         case '.':
           final char next = charAt(2);
@@ -115,38 +126,59 @@ class XPathLexer extends ReadOnlyIterator<Token> {
           token = whitespace();
           break;
         default:
-          if (isXmlStartCharacter(ch)) {
-            token = identifier();
-          } else {
-            token = null;
-          }
+          token = isXmlStartCharacter(ch) ? identifier() : NONE;
           break;
       }
-      if (token == null) {
-        token =
-            hasNext()
-                ? new Token(Type.ERROR, xpath, cursor, xpath.length())
-                : new Token(Type.EOF, xpath, 0, 0);
+      if (NONE == token) {
+        if (hasNext()) {
+          token = Type.ERROR;
+          begin = cursor;
+          end = xpath.length();
+        } else {
+          token = Type.EOF;
+          begin = 0;
+          end = 0;
+        }
       }
-    } while (token.getType() == Type.SKIP);
+    } while (Type.SKIP == token);
     return token;
   }
 
-  private Token literal() {
+  /**
+   * Begin index of last scanned token, inclusive.
+   *
+   * @return begin index
+   */
+  int begin() {
+    return begin;
+  }
+
+  /**
+   * End index of last scanned token, exclusive.
+   *
+   * @return end index
+   */
+  int end() {
+    return end;
+  }
+
+  private short literal() {
     final char match = charAt(1);
     final int start = cursor += 1;
-    Token token = null;
-    while (null == token && hasNext()) {
+    while (hasNext()) {
       if (match == charAt(1)) {
-        token = new Token(Type.LITERAL, xpath, start, cursor);
+        begin = start;
+        end = cursor;
+        cursor += 1;
+        return Type.LITERAL;
       }
       cursor += 1;
     }
-    return token;
+    return NONE;
   }
 
-  private Token identifier() {
-    final int start = cursor;
+  private short identifier() {
+    begin = cursor;
     while (hasNext()) {
       if (isXmlCharacter(charAt(1))) {
         cursor += 1;
@@ -154,11 +186,12 @@ class XPathLexer extends ReadOnlyIterator<Token> {
         break;
       }
     }
-    return new Token(Type.IDENTIFIER, xpath, start, cursor);
+    end = cursor;
+    return Type.IDENTIFIER;
   }
 
-  private Token number() {
-    final int start = cursor;
+  private short number() {
+    begin = cursor;
     boolean periodAllowed = true;
     while (true) {
       final char ch = charAt(1);
@@ -171,38 +204,11 @@ class XPathLexer extends ReadOnlyIterator<Token> {
         break;
       }
     }
-    return new Token(Type.DOUBLE, xpath, start, cursor);
-  }
-
-  private Token relationalOperator() {
-    final Token token;
-    switch (charAt(1)) {
-      case '<':
-        if ('=' == charAt(2)) {
-          token = new Token(Type.LESS_THAN_OR_EQUALS, xpath, cursor, cursor + 2);
-          cursor += 1;
-        } else {
-          token = new Token(Type.LESS_THAN, xpath, cursor, cursor + 1);
-        }
-        cursor += 1;
-        break;
-      case '>':
-        if ('=' == charAt(2)) {
-          token = new Token(Type.GREATER_THAN_OR_EQUALS, xpath, cursor, cursor + 2);
-          cursor += 1;
-        } else {
-          token = new Token(Type.GREATER_THAN, xpath, cursor, cursor + 1);
-        }
-        cursor += 1;
-        break;
-      default:
-        token = null;
-        break;
-    }
-    return token;
+    end = cursor;
+    return Type.DOUBLE;
   }
 
-  private Token whitespace() {
+  private short whitespace() {
     loop:
     while (true) {
       switch (charAt(1)) {
@@ -216,21 +222,21 @@ class XPathLexer extends ReadOnlyIterator<Token> {
           break loop;
       }
     }
-    return new Token(Type.SKIP, xpath, 0, 0);
+    begin = 0;
+    end = 0;
+    return Type.SKIP;
   }
 
-  private Token token2(char ch, short if1, short if2) {
-    final Token token;
-    if (charAt(2) == ch) {
-      token = new Token(if2, xpath, cursor, cursor + 2);
-      cursor += 2;
-    } else {
-      token = new Token(if1, xpath, cursor, cursor + 1);
-      cursor += 1;
-    }
+  private short token(short token, int length) {
+    begin = cursor;
+    end = cursor += length;
     return token;
   }
 
+  private short token2(char ch, short if1, short if2) {
+    return charAt(2) == ch ? token(if2, 2) : token(if1, 1);
+  }
+
   @SuppressWarnings("NegativeCharLiteral")
   private char charAt(int i) {
     final int pos = cursor + i - 1;
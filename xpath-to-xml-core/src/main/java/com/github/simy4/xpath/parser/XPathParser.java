@@ -15,10 +15,13 @@
  */
 package com.github.simy4.xpath.parser;
 
+import com.github.simy4.xpath.ParseCache;
 import com.github.simy4.xpath.expr.AdditionExpr;
+import com.github.simy4.xpath.expr.AndExpr;
 import com.github.simy4.xpath.expr.AxisStepExpr;
 import com.github.simy4.xpath.expr.EqualsExpr;
 import com.github.simy4.xpath.expr.Expr;
+import com.github.simy4.xpath.expr.ExprOptimizer;
 import com.github.simy4.xpath.expr.GreaterThanExpr;
 import com.github.simy4.xpath.expr.GreaterThanOrEqualsExpr;
 import com.github.simy4.xpath.expr.LessThanExpr;
@@ -27,11 +30,13 @@ import com.github.simy4.xpath.expr.LiteralExpr;
 import com.github.simy4.xpath.expr.MultiplicationExpr;
 import com.github.simy4.xpath.expr.NotEqualsExpr;
 import com.github.simy4.xpath.expr.NumberExpr;
+import com.github.simy4.xpath.expr.OrExpr;
 import com.github.simy4.xpath.expr.PathExpr;
 import com.github.simy4.xpath.expr.Root;
 import com.github.simy4.xpath.expr.StepExpr;
 import com.github.simy4.xpath.expr.SubtractionExpr;
 import com.github.simy4.xpath.expr.UnaryExpr;
+import com.github.simy4.xpath.expr.UnionExpr;
 import com.github.simy4.xpath.expr.axis.AncestorOrSelfAxisResolver;
 import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
 import com.github.simy4.xpath.expr.axis.AxisResolver;
@@ -41,6 +46,7 @@ import com.github.simy4.xpath.expr.axis.FollowingSiblingAxisResolver;
 import com.github.simy4.xpath.expr.axis.ParentAxisResolver;
 import com.github.simy4.xpath.expr.axis.SelfAxisResolver;
 import com.github.simy4.xpath.parser.Token.Type;
+import com.github.simy4.xpath.spi.EvaluationListener;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
@@ -50,9 +56,7 @@ import javax.xml.xpath.XPathExpressionException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * XPath parser.
@@ -67,9 +71,69 @@ public class XPathParser implements Serializable {
   private static final QName ANY = new QName("*", "*");
 
   private final NamespaceContext namespaceContext;
+  private final transient ParseCache cache;
+  private final boolean optimize;
+  private final transient EvaluationListener listener;
 
   public XPathParser(NamespaceContext namespaceContext) {
+    this(namespaceContext, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param namespaceContext namespace context to resolve prefixes with
+   * @param cache cache of parsed expressions that can be shared between parsers or {@code null}
+   */
+  public XPathParser(NamespaceContext namespaceContext, ParseCache cache) {
+    this(namespaceContext, cache, false);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param namespaceContext namespace context to resolve prefixes with
+   * @param cache cache of parsed expressions that can be shared between parsers or {@code null}
+   * @param optimize whether parsed expressions should be rewritten with {@link ExprOptimizer}
+   * @since 2.4
+   */
+  public XPathParser(NamespaceContext namespaceContext, ParseCache cache, boolean optimize) {
+    this(namespaceContext, cache, optimize, null);
+  }
+
+  private XPathParser(
+      NamespaceContext namespaceContext,
+      ParseCache cache,
+      boolean optimize,
+      EvaluationListener listener) {
     this.namespaceContext = namespaceContext;
+    this.cache = cache;
+    this.optimize = optimize;
+    this.listener = listener;
+  }
+
+  /**
+   * Creates a parser with the same namespace context, cache and listener, that either optimizes
+   * parsed expressions or not.
+   *
+   * @param optimize whether parsed expressions should be rewritten with {@link ExprOptimizer}
+   * @return {@link XPathParser} instance
+   * @since 2.4
+   */
+  public XPathParser withOptimization(boolean optimize) {
+    return new XPathParser(namespaceContext, cache, optimize, listener);
+  }
+
+  /**
+   * Creates a parser with the same settings, that reports every parsed XPath to a given listener.
+   * Listener is not serialized.
+   *
+   * @param listener listener to report to or {@code null} to stop reporting
+   * @return {@link XPathParser} instance
+   * @since 2.4
+   */
+  public XPathParser withListener(EvaluationListener listener) {
+    return new XPathParser(namespaceContext, cache, optimize, listener);
   }
 
   /**
@@ -80,22 +144,61 @@ public class XPathParser implements Serializable {
    * @throws XPathExpressionException if xpath cannot be parsed
    */
   public Expr parse(String xpath) throws XPathExpressionException {
+    if (null == listener) {
+      return parseCached(xpath);
+    }
+    final long start = System.nanoTime();
+    final Expr expr = parseCached(xpath);
+    listener.xpathParsed(xpath, System.nanoTime() - start);
+    return expr;
+  }
+
+  private Expr parseCached(String xpath) throws XPathExpressionException {
+    if (null == cache) {
+      return parseExpr(xpath);
+    }
+    Expr expr = cache.get(xpath, namespaceContext, optimize);
+    if (null == expr) {
+      expr = cache.putIfAbsent(xpath, namespaceContext, optimize, parseExpr(xpath));
+    }
+    return expr;
+  }
+
+  private Expr parseExpr(String xpath) throws XPathExpressionException {
     final Context context = new Context(xpath);
     final Expr expr = Expr(context);
     if (context.hasMoreElements()) {
       throw new XPathParserException(context.tokenAt(1));
     }
-    return expr;
+    return optimize ? ExprOptimizer.optimize(expr) : expr;
   }
 
   private Expr Expr(Context context) throws XPathExpressionException {
-    return ComparisonExpr(context);
+    return OrExpr(context);
+  }
+
+  private Expr OrExpr(Context context) throws XPathExpressionException {
+    Expr left = AndExpr(context);
+    while (context.keywordAt(1, "or")) {
+      context.match(Type.IDENTIFIER);
+      left = new OrExpr(left, AndExpr(context));
+    }
+    return left;
+  }
+
+  private Expr AndExpr(Context context) throws XPathExpressionException {
+    Expr left = ComparisonExpr(context);
+    while (context.keywordAt(1, "and")) {
+      context.match(Type.IDENTIFIER);
+      left = new AndExpr(left, ComparisonExpr(context));
+    }
+    return left;
   }
 
   private Expr ComparisonExpr(Context context) throws XPathExpressionException {
     final Expr left = AdditiveExpr(context);
     final Expr right;
-    switch (context.tokenAt(1).getType()) {
+    switch (context.typeAt(1)) {
       case Type.EQUALS:
         context.match(Type.EQUALS);
         right = AdditiveExpr(context);
@@ -127,7 +230,7 @@ public class XPathParser implements Serializable {
 
   private Expr AdditiveExpr(Context context) throws XPathExpressionException {
     Expr left = MultiplicativeExpr(context);
-    short type = context.tokenAt(1).getType();
+    short type = context.typeAt(1);
     while (Type.PLUS == type || Type.MINUS == type) {
       Expr right;
       switch (type) {
@@ -144,14 +247,14 @@ public class XPathParser implements Serializable {
         default:
           throw new XPathParserException(context.tokenAt(1), Type.lookup(Type.PLUS, Type.MINUS));
       }
-      type = context.tokenAt(1).getType();
+      type = context.typeAt(1);
     }
     return left;
   }
 
   private Expr MultiplicativeExpr(Context context) throws XPathExpressionException {
     Expr left = UnaryExpr(context);
-    short type = context.tokenAt(1).getType();
+    short type = context.typeAt(1);
     while (Type.STAR == type) {
       Expr right;
       switch (type) {
@@ -163,13 +266,13 @@ public class XPathParser implements Serializable {
         default:
           throw new XPathParserException(context.tokenAt(1), Type.lookup(Type.STAR));
       }
-      type = context.tokenAt(1).getType();
+      type = context.typeAt(1);
     }
     return left;
   }
 
   private Expr UnaryExpr(Context context) throws XPathExpressionException {
-    switch (context.tokenAt(1).getType()) {
+    switch (context.typeAt(1)) {
       case Type.MINUS:
         context.match(Type.MINUS);
         return new UnaryExpr(UnaryExpr(context));
@@ -179,26 +282,37 @@ public class XPathParser implements Serializable {
   }
 
   private Expr ValueExpr(Context context) throws XPathExpressionException {
-    final String token;
-    switch (context.tokenAt(1).getType()) {
+    switch (context.typeAt(1)) {
       case Type.LITERAL:
-        token = context.match(Type.LITERAL).getToken();
-        return new LiteralExpr(token);
+        return new LiteralExpr(context.matchText(Type.LITERAL));
       case Type.DOUBLE:
-        token = context.match(Type.DOUBLE).getToken();
-        return new NumberExpr(Double.parseDouble(token));
+        return new NumberExpr(context.matchNumber());
       default:
-        return PathExpr(context);
+        return UnionExpr(context);
     }
   }
 
-  private Expr PathExpr(Context context) throws XPathExpressionException {
+  private Expr UnionExpr(Context context) throws XPathExpressionException {
+    final PathExpr pathExpr = PathExpr(context);
+    if (Type.PIPE != context.typeAt(1)) {
+      return pathExpr;
+    }
+    final List<PathExpr> branches = new ArrayList<PathExpr>();
+    branches.add(pathExpr);
+    while (Type.PIPE == context.typeAt(1)) {
+      context.match(Type.PIPE);
+      branches.add(PathExpr(context));
+    }
+    return new UnionExpr(branches);
+  }
+
+  private PathExpr PathExpr(Context context) throws XPathExpressionException {
     final List<StepExpr> pathExpr = new ArrayList<StepExpr>();
-    switch (context.tokenAt(1).getType()) {
+    switch (context.typeAt(1)) {
       case Type.SLASH:
         context.match(Type.SLASH);
         pathExpr.add(new Root());
-        switch (context.tokenAt(1).getType()) {
+        switch (context.typeAt(1)) {
           case Type.DOT:
           case Type.DOUBLE_DOT:
           case Type.AT:
@@ -227,7 +341,7 @@ public class XPathParser implements Serializable {
   private void RelativePathExpr(Context context, List<StepExpr> pathExpr)
       throws XPathExpressionException {
     pathExpr.add(StepExpr(context));
-    short type = context.tokenAt(1).getType();
+    short type = context.typeAt(1);
     while (Type.SLASH == type || Type.DOUBLE_SLASH == type) {
       switch (type) {
         case Type.SLASH:
@@ -245,14 +359,14 @@ public class XPathParser implements Serializable {
           throw new XPathParserException(
               context.tokenAt(1), Type.lookup(Type.SLASH, Type.DOUBLE_SLASH));
       }
-      type = context.tokenAt(1).getType();
+      type = context.typeAt(1);
     }
   }
 
   private StepExpr StepExpr(Context context) throws XPathExpressionException {
     AxisResolver axisResolver;
     List<Expr> predicateList;
-    switch (context.tokenAt(1).getType()) {
+    switch (context.typeAt(1)) {
       case Type.DOT:
         context.match(Type.DOT);
         predicateList = PredicateList(context);
@@ -267,7 +381,7 @@ public class XPathParser implements Serializable {
         break;
       case Type.STAR:
       case Type.IDENTIFIER:
-        if (Type.DOUBLE_COLON == context.tokenAt(2).getType()) {
+        if (Type.DOUBLE_COLON == context.typeAt(2)) {
           axisResolver = AxisTest(context);
         } else {
           axisResolver = new ChildAxisResolver(NodeTest(context));
@@ -283,11 +397,12 @@ public class XPathParser implements Serializable {
   }
 
   private AxisResolver AxisTest(Context context) throws XPathExpressionException {
-    final Token axisToken = context.tokenAt(1);
+    final short axis = context.axisAt(1);
+    final Token axisToken = Axis.INVALID == axis ? context.tokenAt(1) : null;
     context.match(Type.IDENTIFIER);
     context.match(Type.DOUBLE_COLON);
     final AxisResolver axisResolver;
-    switch (Axis.lookup(axisToken)) {
+    switch (axis) {
       case Axis.CHILD:
         axisResolver = new ChildAxisResolver(NodeTest(context));
         break;
@@ -326,37 +441,38 @@ public class XPathParser implements Serializable {
 
   @SuppressWarnings("fallthrough")
   private QName NodeTest(Context context) throws XPathExpressionException {
-    switch (context.tokenAt(1).getType()) {
+    switch (context.typeAt(1)) {
       case Type.STAR:
-        final Token star = context.match(Type.STAR);
-        if (Type.COLON == context.tokenAt(1).getType()) {
+        context.match(Type.STAR);
+        if (Type.COLON == context.typeAt(1)) {
           context.match(Type.COLON);
-          return new QName(star.getToken(), context.match(Type.IDENTIFIER).getToken());
+          return new QName("*", context.matchText(Type.IDENTIFIER));
         } else {
-          return new QName(star.getToken());
+          return new QName("*");
         }
       case Type.IDENTIFIER:
-        final Token identifier = context.match(Type.IDENTIFIER);
-        if (Type.COLON == context.tokenAt(1).getType()) {
-          context.match(Type.COLON);
+        if (Type.COLON == context.typeAt(2)) {
           final String prefix;
           final String namespaceUri;
           if (null == namespaceContext) {
+            context.match(Type.IDENTIFIER);
             prefix = XMLConstants.DEFAULT_NS_PREFIX;
             namespaceUri = XMLConstants.NULL_NS_URI;
           } else {
-            prefix = identifier.getToken();
+            prefix = context.matchText(Type.IDENTIFIER);
             namespaceUri = namespaceContext.getNamespaceURI(prefix);
           }
-          switch (context.tokenAt(1).getType()) {
+          context.match(Type.COLON);
+          switch (context.typeAt(1)) {
             case Type.STAR:
-              return new QName(namespaceUri, context.match(Type.STAR).getToken(), prefix);
+              context.match(Type.STAR);
+              return new QName(namespaceUri, "*", prefix);
             case Type.IDENTIFIER:
-              return new QName(namespaceUri, context.match(Type.IDENTIFIER).getToken(), prefix);
+              return new QName(namespaceUri, context.matchText(Type.IDENTIFIER), prefix);
             default:
           }
         } else {
-          return new QName(identifier.getToken());
+          return new QName(context.matchText(Type.IDENTIFIER));
         }
         // fallthrough
       default:
@@ -366,10 +482,10 @@ public class XPathParser implements Serializable {
 
   @SuppressWarnings("MixedMutabilityReturnType")
   private List<Expr> PredicateList(Context context) throws XPathExpressionException {
-    if (Type.LEFT_BRACKET == context.tokenAt(1).getType()) {
+    if (Type.LEFT_BRACKET == context.typeAt(1)) {
       final List<Expr> predicateList = new ArrayList<Expr>();
       predicateList.add(Predicate(context));
-      while (Type.LEFT_BRACKET == context.tokenAt(1).getType()) {
+      while (Type.LEFT_BRACKET == context.typeAt(1)) {
         predicateList.add(Predicate(context));
       }
       return predicateList;
@@ -385,35 +501,101 @@ public class XPathParser implements Serializable {
     return predicate;
   }
 
+  /**
+   * Parsing context. Keeps lookahead tokens in a ring buffer of token types and offsets, so that no
+   * objects are allocated per token. Strings are only extracted for tokens that become part of the
+   * resulting expression.
+   */
   private static final class Context {
 
+    private static final int LOOKAHEAD = 4;
+
+    private final String xpath;
     private final XPathLexer lexer;
-    private final List<Token> tokens = new ArrayList<Token>(4);
+    private final short[] types = new short[LOOKAHEAD];
+    private final int[] begins = new int[LOOKAHEAD];
+    private final int[] ends = new int[LOOKAHEAD];
+    private int head;
+    private int size;
 
     Context(String xpath) {
+      this.xpath = xpath;
       this.lexer = new XPathLexer(xpath);
     }
 
     boolean hasMoreElements() {
-      return tokenAt(1).getType() != Type.EOF;
+      return typeAt(1) != Type.EOF;
+    }
+
+    short typeAt(int i) {
+      return types[slot(i)];
+    }
+
+    short axisAt(int i) {
+      final int slot = slot(i);
+      return Axis.lookup(xpath, begins[slot], ends[slot]);
+    }
+
+    /**
+     * Checks whether token at given position is an identifier with given text. Operator names are
+     * not reserved, so they are only recognized as operators right after a complete operand.
+     */
+    boolean keywordAt(int i, String keyword) {
+      final int slot = slot(i);
+      final int length = ends[slot] - begins[slot];
+      return Type.IDENTIFIER == types[slot]
+          && keyword.length() == length
+          && xpath.regionMatches(begins[slot], keyword, 0, length);
     }
 
     Token tokenAt(int i) {
-      if (tokens.size() <= i - 1) {
-        for (int j = 0; j < i; ++j) {
-          tokens.add(lexer.next());
+      final int slot = slot(i);
+      return new Token(types[slot], xpath, begins[slot], ends[slot]);
+    }
+
+    void match(short type) throws XPathExpressionException {
+      if (typeAt(1) != type) {
+        throw new XPathParserException(tokenAt(1), Type.lookup(type));
+      }
+      head = (head + 1) % LOOKAHEAD;
+      size -= 1;
+    }
+
+    String matchText(short type) throws XPathExpressionException {
+      final int slot = slot(1);
+      match(type);
+      return xpath.substring(begins[slot], ends[slot]);
+    }
+
+    double matchNumber() throws XPathExpressionException {
+      final int slot = slot(1);
+      match(Type.DOUBLE);
+      final int begin = begins[slot];
+      final int end = ends[slot];
+      if (end - begin > 15) {
+        return Double.parseDouble(xpath.substring(begin, end));
+      }
+      // up to 15 digits integer part is exactly representable by double
+      long number = 0L;
+      for (int i = begin; i < end; i++) {
+        final char ch = xpath.charAt(i);
+        if ('.' == ch) {
+          return Double.parseDouble(xpath.substring(begin, end));
         }
+        number = 10L * number + (ch - '0');
       }
-      return tokens.get(i - 1);
+      return number;
     }
 
-    Token match(short type) throws XPathExpressionException {
-      final Token token = tokenAt(1);
-      if (token.getType() == type) {
-        tokens.remove(0);
-        return token;
+    private int slot(int i) {
+      while (size < i) {
+        final int slot = (head + size) % LOOKAHEAD;
+        types[slot] = lexer.advance();
+        begins[slot] = lexer.begin();
+        ends[slot] = lexer.end();
+        size += 1;
       }
-      throw new XPathParserException(token, Type.lookup(type));
+      return (head + i - 1) % LOOKAHEAD;
     }
   }
 
@@ -430,26 +612,40 @@ public class XPathParser implements Serializable {
     private static final short DESCENDANT_OR_SELF = 12;
     private static final short ANCESTOR_OR_SELF = 13;
 
-    private static final Map<String, Short> LOOKUP_MAP;
-
-    static {
-      Map<String, Short> lookupMap = new HashMap<String, Short>();
-      lookupMap.put("child", CHILD);
-      lookupMap.put("descendant", DESCENDANT);
-      lookupMap.put("parent", PARENT);
-      lookupMap.put("ancestor", ANCESTOR);
-      lookupMap.put("following-sibling", FOLLOWING_SIBLING);
-      lookupMap.put("following", FOLLOWING);
-      lookupMap.put("attribute", ATTRIBUTE);
-      lookupMap.put("self", SELF);
-      lookupMap.put("descendant-or-self", DESCENDANT_OR_SELF);
-      lookupMap.put("ancestor-or-self", ANCESTOR_OR_SELF);
-      LOOKUP_MAP = Collections.unmodifiableMap(lookupMap);
-    }
-
-    static short lookup(Token axisToken) {
-      Short axis = LOOKUP_MAP.get(axisToken.getToken());
-      return null == axis ? INVALID : axis;
+    private static final String[] NAMES = {
+      "child",
+      "descendant",
+      "parent",
+      "ancestor",
+      "following-sibling",
+      "following",
+      "attribute",
+      "self",
+      "descendant-or-self",
+      "ancestor-or-self",
+    };
+    private static final short[] AXES = {
+      CHILD,
+      DESCENDANT,
+      PARENT,
+      ANCESTOR,
+      FOLLOWING_SIBLING,
+      FOLLOWING,
+      ATTRIBUTE,
+      SELF,
+      DESCENDANT_OR_SELF,
+      ANCESTOR_OR_SELF,
+    };
+
+    static short lookup(String xpath, int begin, int end) {
+      final int length = end - begin;
+      for (int i = 0; i < NAMES.length; i++) {
+        final String name = NAMES[i];
+        if (name.length() == length && xpath.regionMatches(begin, name, 0, length)) {
+          return AXES[i];
+        }
+      }
+      return INVALID;
     }
 
     private Axis() {
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.spi;
+
+/**
+ * Listener of XPath parsing and XML model processing. Listener is notified once an XPath is
+ * parsed, once an effect is performed, once an axis of an expression step is resolved and once an
+ * XML model is modified, so that it can collect metrics of these operations.
+ *
+ * <p>Nodes are traversed lazily, so nodes visited while iterating resolved axis nodes are counted
+ * towards the effect that iterates them rather than towards the axis itself. Listener is called
+ * from the thread performing the operation and should be thread-safe if builders it is registered
+ * with are used concurrently.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ * @see com.github.simy4.xpath.XmlBuilder#withListener(EvaluationListener)
+ */
+public interface EvaluationListener {
+
+  /**
+   * Notifies that given XPath was parsed or taken from a cache of parsed XPaths.
+   *
+   * @param xpath parsed XPath
+   * @param elapsedNanos time spent parsing in nanoseconds
+   */
+  void xpathParsed(String xpath, long elapsedNanos);
+
+  /**
+   * Notifies that given effect was performed on an XML model.
+   *
+   * @param effect performed effect
+   * @param nodesVisited number of nodes traversed by the effect
+   * @param nodesCreated number of nodes created by the effect
+   * @param elapsedNanos time spent performing the effect in nanoseconds
+   */
+  void effectPerformed(Effect effect, long nodesVisited, long nodesCreated, long elapsedNanos);
+
+  /**
+   * Notifies that given axis was resolved against a single context node.
+   *
+   * @param axis resolved axis with its node test, e.g. {@code child::name}
+   * @param greedy whether missing nodes were created
+   * @param nodesVisited number of nodes traversed during resolution
+   * @param nodesCreated number of nodes created during resolution
+   * @param elapsedNanos time spent resolving the axis in nanoseconds
+   */
+  void axisResolved(
+      String axis, boolean greedy, long nodesVisited, long nodesCreated, long elapsedNanos);
+
+  /**
+   * Notifies that an XML model was modified by a navigator.
+   *
+   * @param operation name of navigator method that modified the model, e.g. {@code createElement}
+   * @param nodesCreated number of nodes created by the modification
+   * @param elapsedNanos time spent modifying the model in nanoseconds
+   */
+  void navigatorModified(String operation, long nodesCreated, long elapsedNanos);
+}
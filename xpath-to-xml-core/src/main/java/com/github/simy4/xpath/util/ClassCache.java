@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Small thread safe cache of values associated with classes, meant for a handful of classes that
+ * are looked up very often. Lookups are lock free and only compare class identities.
+ *
+ * <p>Classes are weakly referenced, so that cached entries do not prevent class loaders from being
+ * collected. Once the maximum size is reached, no more entries are cached.
+ *
+ * @param <V> value type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class ClassCache<V> {
+
+  private final int maximumSize;
+  private volatile List<Entry<V>> entries = Collections.emptyList();
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize maximum number of cached entries
+   */
+  public ClassCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("Cache size should be positive");
+    }
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Looks up cached value.
+   *
+   * @param clazz class to look up value for
+   * @return cached value or {@code null} if there is none
+   */
+  public V get(Class<?> clazz) {
+    final List<Entry<V>> entries = this.entries;
+    for (int i = 0; i < entries.size(); i++) {
+      final Entry<V> entry = entries.get(i);
+      if (entry.get() == clazz) {
+        return entry.value;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Caches given value unless there is one cached already or the cache is full.
+   *
+   * @param clazz class to cache value for
+   * @param value value to cache
+   * @return value that is cached for given class after this call or given value if it could not
+   *     be cached
+   */
+  public synchronized V putIfAbsent(Class<?> clazz, V value) {
+    final V existing = get(clazz);
+    if (null != existing) {
+      return existing;
+    }
+    final List<Entry<V>> entries = new ArrayList<Entry<V>>(this.entries.size() + 1);
+    for (Entry<V> entry : this.entries) {
+      if (null != entry.get()) {
+        entries.add(entry);
+      }
+    }
+    if (entries.size() < maximumSize) {
+      entries.add(new Entry<V>(clazz, value));
+    }
+    this.entries = entries;
+    return value;
+  }
+
+  /**
+   * Current number of cached entries, including entries of classes that were collected already.
+   *
+   * @return cache size
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  private static final class Entry<V> extends WeakReference<Class<?>> {
+
+    final V value;
+
+    Entry(Class<?> clazz, V value) {
+      super(clazz);
+      this.value = value;
+    }
+  }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded thread safe cache with least recently used eviction.
+ *
+ * <p>Entries are spread between independently locked segments, each evicting its own least
+ * recently used entries, so the cache never holds more than its maximum size. Every segment holds
+ * at least {@value #MIN_SEGMENT_CAPACITY} entries, so that entries of small caches do not evict
+ * each other just because they fall into the same segment.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class LruCache<K, V> {
+
+  private static final int MIN_SEGMENT_CAPACITY = 8;
+
+  private final Segment<K, V>[] segments;
+  private final int maximumSize;
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  public LruCache(int maximumSize) {
+    this(maximumSize, 16);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param maximumSize maximum number of cached entries
+   * @param concurrencyLevel estimated number of concurrently accessing threads, caches smaller
+   *     than {@value #MIN_SEGMENT_CAPACITY} entries per thread use fewer segments
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public LruCache(int maximumSize, int concurrencyLevel) {
+    if (maximumSize <= 0 || concurrencyLevel <= 0) {
+      throw new IllegalArgumentException("Cache size and concurrency level should be positive");
+    }
+    int segmentCount = 1;
+    while (segmentCount < concurrencyLevel
+        && (segmentCount << 1) <= maximumSize / MIN_SEGMENT_CAPACITY) {
+      segmentCount <<= 1;
+    }
+    this.maximumSize = maximumSize;
+    this.segments = new Segment[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      final int capacity = maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0);
+      segments[i] = new Segment<K, V>(capacity, evictionCount);
+    }
+  }
+
+  /**
+   * Looks up cached value.
+   *
+   * @param key cache key
+   * @return cached value or {@code null} if there is none
+   */
+  public V get(K key) {
+    final Segment<K, V> segment = segmentFor(key);
+    final V value;
+    synchronized (segment) {
+      value = segment.get(key);
+    }
+    (null == value ? missCount : hitCount).incrementAndGet();
+    return value;
+  }
+
+  /**
+   * Caches given value unless there is one cached already.
+   *
+   * @param key cache key
+   * @param value value to cache
+   * @return value that is cached for given key after this call
+   */
+  public V putIfAbsent(K key, V value) {
+    final Segment<K, V> segment = segmentFor(key);
+    synchronized (segment) {
+      final V existing = segment.get(key);
+      if (null != existing) {
+        return existing;
+      }
+      segment.put(key, value);
+      return value;
+    }
+  }
+
+  /** Removes all cached entries. Statistics are kept. */
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  /**
+   * Current number of cached entries.
+   *
+   * @return cache size
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  public long getHitCount() {
+    return hitCount.get();
+  }
+
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  public long getEvictionCount() {
+    return evictionCount.get();
+  }
+
+  @Override
+  public String toString() {
+    return "LruCache{size="
+        + size()
+        + ", maximumSize="
+        + maximumSize
+        + ", hits="
+        + getHitCount()
+        + ", misses="
+        + getMissCount()
+        + ", evictions="
+        + getEvictionCount()
+        + '}';
+  }
+
+  private Segment<K, V> segmentFor(K key) {
+    final int hash = key.hashCode();
+    return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+  }
+
+  private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+    private final transient AtomicLong evictionCount;
+
+    Segment(int capacity, AtomicLong evictionCount) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+      this.evictionCount = evictionCount;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      final boolean evict = size() > capacity;
+      if (evict) {
+        evictionCount.incrementAndGet();
+      }
+      return evict;
+    }
+  }
+}
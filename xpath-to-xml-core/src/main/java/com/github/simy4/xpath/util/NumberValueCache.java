@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache of number values of XML nodes for {@link
+ * com.github.simy4.xpath.navigator.NumberValueNavigator} implementations. Text content of a node
+ * depends on all of its descendants, so any modification of a node has to invalidate the node
+ * itself and all of its ancestors.
+ *
+ * @param <N> XML model nodes type
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class NumberValueCache<N extends Node> {
+
+  private final Map<N, Double> numbers = new HashMap<N, Double>();
+
+  /**
+   * Number value of text content of given XML node.
+   *
+   * @param node XML node to convert
+   * @return number value or {@link Double#NaN} if text content is not a number
+   */
+  public double numberOf(N node) {
+    Double number = numbers.get(node);
+    if (null == number) {
+      number = Numbers.parseDouble(node.getText());
+      numbers.put(node, number);
+    }
+    return number;
+  }
+
+  /**
+   * Invalidates cached number values of given XML node and all of its ancestors.
+   *
+   * @param navigator XML navigator
+   * @param node modified XML node
+   */
+  public void invalidate(Navigator<N> navigator, N node) {
+    N current = node;
+    while (null != current && !numbers.isEmpty()) {
+      numbers.remove(current);
+      current = navigator.parentOf(current);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+/**
+ * Number conversions that do not throw on malformed input.
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class Numbers {
+
+  private Numbers() {}
+
+  /**
+   * Parses given text the same way as {@link Double#parseDouble(String)} does, but returns
+   * {@link Double#NaN} instead of throwing for text that is not a number. Text that obviously is
+   * not a number is rejected upfront without filling in an exception stack trace.
+   *
+   * @param text text to parse
+   * @return parsed number or {@link Double#NaN}
+   */
+  public static double parseDouble(String text) {
+    int begin = 0;
+    int end = text.length();
+    while (begin < end && text.charAt(begin) <= ' ') {
+      begin++;
+    }
+    while (begin < end && text.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (begin == end) {
+      return Double.NaN;
+    }
+    final char first = text.charAt(begin);
+    final char firstDigit =
+        ('+' == first || '-' == first) && begin + 1 < end ? text.charAt(begin + 1) : first;
+    if (!isDigit(firstDigit) && '.' != firstDigit && 'I' != firstDigit && 'N' != firstDigit) {
+      return Double.NaN;
+    }
+    final char last = text.charAt(end - 1);
+    if (!isDigit(last) && "dDfF.yN".indexOf(last) < 0) {
+      return Double.NaN;
+    }
+    try {
+      return Double.parseDouble(text);
+    } catch (NumberFormatException nfe) {
+      return Double.NaN;
+    }
+  }
+
+  private static boolean isDigit(char c) {
+    return '0' <= c && c <= '9';
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+/**
+ * Allocation free lexicographical comparison of a text, which comes in chunks, with a string.
+ *
+ * <p>Comparison state is a single {@code int}: number of already matched characters of a string or
+ * one of negative {@link #LESS} and {@link #GREATER} values once the first differing character is
+ * found. Typical usage is:
+ *
+ * <pre>
+ * int offset = 0;
+ * for (String chunk : chunks) {
+ *   offset = TextComparison.compare(chunk, text, offset);
+ *   if (offset &lt; 0) {
+ *     break;
+ *   }
+ * }
+ * return TextComparison.result(text, offset);
+ * </pre>
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class TextComparison {
+
+  /** Comparison state of a text that is less than a string. */
+  public static final int LESS = -1;
+
+  /** Comparison state of a text that is greater than a string. */
+  public static final int GREATER = -2;
+
+  private TextComparison() {}
+
+  /**
+   * Compares next chunk of a text with given string.
+   *
+   * @param chunk next chunk of a text
+   * @param text string to compare with
+   * @param offset comparison state after previous chunk or {@code 0} for the first one
+   * @return comparison state after given chunk
+   */
+  public static int compare(CharSequence chunk, String text, int offset) {
+    if (offset < 0) {
+      return offset;
+    }
+    final int length = chunk.length();
+    for (int i = 0; i < length; i++, offset++) {
+      if (offset == text.length()) {
+        return GREATER;
+      }
+      final char c1 = chunk.charAt(i);
+      final char c2 = text.charAt(offset);
+      if (c1 != c2) {
+        return c1 < c2 ? LESS : GREATER;
+      }
+    }
+    return offset;
+  }
+
+  /**
+   * Completes comparison of a text with given string.
+   *
+   * @param text string to compare with
+   * @param offset comparison state after the last chunk
+   * @return negative, zero or positive value if a text is less than, equal to or greater than given
+   *     string
+   */
+  public static int result(String text, int offset) {
+    switch (offset) {
+      case LESS:
+        return -1;
+      case GREATER:
+        return 1;
+      default:
+        return offset - text.length();
+    }
+  }
+}
@@ -17,6 +17,7 @@ package com.github.simy4.xpath.view;
 
 import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.util.Numbers;
 
 import java.io.Serializable;
 
@@ -32,6 +33,9 @@ public final class LiteralView<N extends Node> implements View<N>, Serializable
 
   @Override
   public int compareTo(View<N> other) {
+    if (other instanceof IterableNodeView) {
+      return -other.compareTo(this);
+    }
     return literal.compareTo(other.toString());
   }
 
@@ -42,11 +46,7 @@ public final class LiteralView<N extends Node> implements View<N>, Serializable
 
   @Override
   public double toNumber() {
-    try {
-      return Double.parseDouble(literal);
-    } catch (NumberFormatException nfe) {
-      return Double.NaN;
-    }
+    return Numbers.parseDouble(literal);
   }
 
   @Override
@@ -16,6 +16,8 @@
 package com.github.simy4.xpath.view;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.navigator.Node;
 import com.github.simy4.xpath.util.Function;
 import com.github.simy4.xpath.util.Predicate;
@@ -24,9 +26,12 @@ import com.github.simy4.xpath.util.ReadOnlyIterator;
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
@@ -43,7 +48,35 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
 
   public static <T extends Node> NodeSetView<T> of(
       Iterable<? extends T> iterable, Predicate<? super T> filter) {
-    return new IterableNodeSet<T>(iterable, filter);
+    return new IterableNodeSet<T>(iterable, filter, Deduplication.<T>byEquality(), true);
+  }
+
+  /**
+   * Creates node set that de-duplicates nodes the way given navigator chooses.
+   *
+   * @param navigator navigator that produced given nodes
+   * @param iterable nodes to filter
+   * @param filter nodes filter
+   * @param <T> XML model nodes type
+   * @return node set view
+   * @see IdentityNavigator
+   */
+  public static <T extends Node> NodeSetView<T> of(
+      Navigator<T> navigator, Iterable<? extends T> iterable, Predicate<? super T> filter) {
+    return new IterableNodeSet<T>(iterable, filter, Deduplication.of(navigator), true);
+  }
+
+  /**
+   * Prepares given view for a consumer that iterates it exactly once. Node sets that were not
+   * iterated yet, together with node sets they are derived from, stop memoizing visited nodes, so
+   * that intermediate results are not retained for the whole iteration.
+   *
+   * @param view view to iterate once
+   * @param <T> XML model nodes type
+   * @return single pass view
+   */
+  public static <T extends Node> IterableNodeView<T> singlePass(IterableNodeView<T> view) {
+    return view instanceof NodeSetView ? ((NodeSetView<T>) view).singlePass() : view;
   }
 
   @Override
@@ -81,7 +114,15 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
   @Override
   public IterableNodeView<N> flatMap(
       Function<? super NodeView<N>, ? extends IterableNodeView<N>> fmap) {
-    return new FlatMapNodeSet<N>(this, fmap);
+    return new FlatMapNodeSet<N>(this, fmap, deduplication(), true);
+  }
+
+  NodeSetView<N> singlePass() {
+    return this;
+  }
+
+  Deduplication<N> deduplication() {
+    return Deduplication.byEquality();
   }
 
   private static final class EmptyNodeSet<T extends Node> extends NodeSetView<T> {
@@ -97,25 +138,52 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
 
   private static final class IterableNodeSet<T extends Node> extends NodeSetView<T> {
 
-    private static final long serialVersionUID = 2L;
+    private static final long serialVersionUID = 3L;
 
-    final Set<T> cache = new LinkedHashSet<T>();
+    final List<T> cache = new ArrayList<T>();
     final transient Iterable<? extends T> nodeSet;
     final transient Predicate<? super T> filter;
+    final transient Deduplication<T> deduplication;
+    transient Set<Object> visited;
+    transient boolean iterated;
     volatile boolean exhausted;
+    boolean memoize;
 
-    IterableNodeSet(Iterable<? extends T> nodeSet, Predicate<? super T> filter) {
+    IterableNodeSet(
+        Iterable<? extends T> nodeSet,
+        Predicate<? super T> filter,
+        Deduplication<T> deduplication,
+        boolean memoize) {
       this.nodeSet = nodeSet;
       this.filter = filter;
+      this.deduplication = deduplication;
+      this.memoize = memoize;
     }
 
     @Override
     public Iterator<NodeView<T>> iterator() {
-      return new IteratorImpl();
+      if (memoize) {
+        iterated = true;
+        return new IteratorImpl();
+      }
+      return new SinglePassIterator<T>(new NodeSetIterator(false));
+    }
+
+    @Override
+    NodeSetView<T> singlePass() {
+      return memoize && !iterated && !exhausted
+          ? new IterableNodeSet<T>(nodeSet, filter, deduplication, false)
+          : this;
+    }
+
+    @Override
+    Deduplication<T> deduplication() {
+      return null == deduplication ? super.deduplication() : deduplication;
     }
 
     @SuppressWarnings({"StatementWithEmptyBody", "UnusedVariable"})
     private void writeObject(ObjectOutputStream out) throws IOException {
+      memoize = true;
       for (NodeView<T> ignored : this) {
         // eagerly consume this node set to populate cache
       }
@@ -124,41 +192,51 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
 
     private final class IteratorImpl extends PositionAwareIterator<NodeView<T>> {
 
-      private Iterator<? extends T> current = cache.iterator();
-      private boolean swapped;
+      private Iterator<? extends T> current;
+      private int index;
 
       IteratorImpl() {}
 
       @Override
       public boolean hasNext() {
-        boolean hasNext = current.hasNext();
-        if (!hasNext && !swapped && !exhausted) {
-          current = new NodeSetIterator();
-          swapped = true;
-          hasNext = current.hasNext();
+        if (null == current) {
+          if (index < cache.size()) {
+            return true;
+          } else if (exhausted) {
+            return false;
+          }
+          current = new NodeSetIterator(true);
         }
-        return hasNext;
+        return current.hasNext();
       }
 
       @Override
       public NodeView<T> next(int position) {
-        return new NodeView<T>(current.next(), position, hasNext());
+        final T next = null == current ? cache.get(index++) : current.next();
+        return new NodeView<T>(next, position, hasNext());
       }
     }
 
     private final class NodeSetIterator implements Iterator<T> {
 
       private final Iterator<? extends T> iterator = nodeSet.iterator();
+      private final boolean memoizing;
+      private final Set<Object> visited;
       private T nextElement;
       private boolean hasNext;
 
-      NodeSetIterator() {
+      NodeSetIterator(boolean memoizing) {
+        this.memoizing = memoizing;
+        this.visited = memoizing ? visited() : deduplication.newSinglePassVisitedSet();
         nextMatch();
       }
 
       @Override
       public boolean hasNext() {
-        return hasNext || !(exhausted = true);
+        if (!hasNext && memoizing) {
+          exhausted();
+        }
+        return hasNext;
       }
 
       @Override
@@ -175,7 +253,10 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
         final T oldMatch = nextElement;
         while (iterator.hasNext()) {
           final T next = iterator.next();
-          if (filter.test(next) && cache.add(next)) {
+          if (filter.test(next) && (null == visited || visited.add(deduplication.keyOf(next)))) {
+            if (memoizing) {
+              cache.add(next);
+            }
             hasNext = true;
             nextElement = next;
             return oldMatch;
@@ -185,31 +266,69 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
         return oldMatch;
       }
     }
+
+    private Set<Object> visited() {
+      if (null == visited) {
+        visited = deduplication.newVisitedSet();
+      }
+      return visited;
+    }
+
+    private void exhausted() {
+      exhausted = true;
+      // cache alone serves all further iterations
+      visited = null;
+    }
   }
 
   private static final class FlatMapNodeSet<T extends Node> extends NodeSetView<T> {
 
-    private static final long serialVersionUID = 2L;
+    private static final long serialVersionUID = 3L;
 
-    final Set<T> cache = new LinkedHashSet<T>();
+    final List<T> cache = new ArrayList<T>();
     final transient NodeSetView<T> nodeSetView;
     final transient Function<? super NodeView<T>, ? extends IterableNodeView<T>> fmap;
+    final transient Deduplication<T> deduplication;
+    transient Set<Object> visited;
+    transient boolean iterated;
     volatile boolean exhausted;
+    boolean memoize;
 
     FlatMapNodeSet(
         NodeSetView<T> nodeSetView,
-        Function<? super NodeView<T>, ? extends IterableNodeView<T>> fmap) {
+        Function<? super NodeView<T>, ? extends IterableNodeView<T>> fmap,
+        Deduplication<T> deduplication,
+        boolean memoize) {
       this.nodeSetView = nodeSetView;
       this.fmap = fmap;
+      this.deduplication = deduplication;
+      this.memoize = memoize;
     }
 
     @Override
     public Iterator<NodeView<T>> iterator() {
-      return new IteratorImpl();
+      if (memoize) {
+        iterated = true;
+        return new IteratorImpl();
+      }
+      return new SinglePassIterator<T>(new FlatMapIterator(false));
+    }
+
+    @Override
+    NodeSetView<T> singlePass() {
+      return memoize && !iterated && !exhausted
+          ? new FlatMapNodeSet<T>(nodeSetView.singlePass(), fmap, deduplication, false)
+          : this;
+    }
+
+    @Override
+    Deduplication<T> deduplication() {
+      return null == deduplication ? super.deduplication() : deduplication;
     }
 
     @SuppressWarnings({"StatementWithEmptyBody", "UnusedVariable"})
     private void writeObject(ObjectOutputStream out) throws IOException {
+      memoize = true;
       for (NodeView<T> ignored : this) {
         // eagerly consume this node set to populate cache
       }
@@ -218,46 +337,54 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
 
     private final class IteratorImpl extends PositionAwareIterator<NodeView<T>> {
 
-      private Iterator<?> current = cache.iterator();
-      private boolean swapped;
+      private Iterator<NodeView<T>> current;
+      private int index;
 
       IteratorImpl() {}
 
       @Override
       public boolean hasNext() {
-        boolean hasNext = current.hasNext();
-        if (!hasNext && !swapped && !exhausted) {
-          current = new FlatMapIterator();
-          swapped = true;
-          hasNext = current.hasNext();
+        if (null == current) {
+          if (index < cache.size()) {
+            return true;
+          } else if (exhausted) {
+            return false;
+          }
+          current = new FlatMapIterator(true);
         }
-        return hasNext;
+        return current.hasNext();
       }
 
       @Override
-      @SuppressWarnings("unchecked")
       public NodeView<T> next(int position) {
-        return swapped
-            ? ((NodeView<T>) current.next()).copy(position, hasNext())
-            : new NodeView<T>((T) current.next(), position, hasNext());
+        return null == current
+            ? new NodeView<T>(cache.get(index++), position, hasNext())
+            : current.next().copy(position, hasNext());
       }
     }
 
     private final class FlatMapIterator extends ReadOnlyIterator<NodeView<T>> {
 
       private final Iterator<? extends NodeView<T>> nodeSetIterator = nodeSetView.iterator();
+      private final boolean memoizing;
+      private final Set<Object> visited;
       private Iterator<? extends NodeView<T>> current =
           Collections.<NodeView<T>>emptyList().iterator();
       private NodeView<T> nextElement;
       private boolean hasNext;
 
-      FlatMapIterator() {
+      FlatMapIterator(boolean memoizing) {
+        this.memoizing = memoizing;
+        this.visited = memoizing ? visited() : deduplication.newVisitedSet();
         nextMatch();
       }
 
       @Override
       public boolean hasNext() {
-        return hasNext || !(exhausted = true);
+        if (!hasNext && memoizing) {
+          exhausted();
+        }
+        return hasNext;
       }
 
       @Override
@@ -269,7 +396,10 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
         final NodeView<T> oldMatch = nextElement;
         while (tryAdvance()) {
           final NodeView<T> next = current.next();
-          if (cache.add(next.getNode())) {
+          if (visited.add(deduplication.keyOf(next.getNode()))) {
+            if (memoizing) {
+              cache.add(next.getNode());
+            }
             hasNext = true;
             nextElement = next;
             return oldMatch;
@@ -282,11 +412,25 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
       private boolean tryAdvance() {
         boolean currentHasNext;
         while (!(currentHasNext = current.hasNext()) && nodeSetIterator.hasNext()) {
-          current = fmap.apply(nodeSetIterator.next()).iterator();
+          final IterableNodeView<T> next = fmap.apply(nodeSetIterator.next());
+          current = (memoizing ? next : singlePass(next)).iterator();
         }
         return currentHasNext;
       }
     }
+
+    private Set<Object> visited() {
+      if (null == visited) {
+        visited = deduplication.newVisitedSet();
+      }
+      return visited;
+    }
+
+    private void exhausted() {
+      exhausted = true;
+      // cache alone serves all further iterations
+      visited = null;
+    }
   }
 
   private abstract static class PositionAwareIterator<T> extends ReadOnlyIterator<T> {
@@ -303,4 +447,104 @@ public abstract class NodeSetView<N extends Node> implements IterableNodeView<N>
 
     protected abstract T next(int position);
   }
+
+  private static final class SinglePassIterator<T extends Node>
+      extends PositionAwareIterator<NodeView<T>> {
+
+    private final Iterator<?> iterator;
+
+    SinglePassIterator(Iterator<?> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected NodeView<T> next(int position) {
+      final Object next = iterator.next();
+      return next instanceof NodeView
+          ? ((NodeView<T>) next).copy(position, hasNext())
+          : new NodeView<T>((T) next, position, hasNext());
+    }
+  }
+
+  /**
+   * Strategy to recognize nodes that were already visited by a node set.
+   *
+   * @param <T> XML model nodes type
+   */
+  abstract static class Deduplication<T extends Node> {
+
+    private static final Deduplication<?> BY_EQUALITY = new ByEquality<Node>();
+
+    @SuppressWarnings("unchecked")
+    static <T extends Node> Deduplication<T> byEquality() {
+      return (Deduplication<T>) BY_EQUALITY;
+    }
+
+    static <T extends Node> Deduplication<T> of(Navigator<T> navigator) {
+      return navigator instanceof IdentityNavigator
+          ? new ByIdentity<T>((IdentityNavigator<T>) navigator)
+          : Deduplication.<T>byEquality();
+    }
+
+    abstract Set<Object> newVisitedSet();
+
+    /**
+     * Visited set for a single traversal of a single axis or {@code null} if such traversal cannot
+     * yield the same node twice.
+     */
+    abstract Set<Object> newSinglePassVisitedSet();
+
+    abstract Object keyOf(T node);
+  }
+
+  private static final class ByEquality<T extends Node> extends Deduplication<T> {
+
+    ByEquality() {}
+
+    @Override
+    Set<Object> newVisitedSet() {
+      return new HashSet<Object>();
+    }
+
+    @Override
+    Set<Object> newSinglePassVisitedSet() {
+      // equal nodes are collapsed even if they are distinct model nodes
+      return newVisitedSet();
+    }
+
+    @Override
+    Object keyOf(T node) {
+      return node;
+    }
+  }
+
+  private static final class ByIdentity<T extends Node> extends Deduplication<T> {
+
+    private final IdentityNavigator<T> navigator;
+
+    ByIdentity(IdentityNavigator<T> navigator) {
+      this.navigator = navigator;
+    }
+
+    @Override
+    Set<Object> newVisitedSet() {
+      return Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+    }
+
+    @Override
+    Set<Object> newSinglePassVisitedSet() {
+      return null;
+    }
+
+    @Override
+    Object keyOf(T node) {
+      return navigator.modelOf(node);
+    }
+  }
 }
@@ -17,7 +17,9 @@ package com.github.simy4.xpath.view;
 
 import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.navigator.TextComparableNode;
 import com.github.simy4.xpath.util.Function;
+import com.github.simy4.xpath.util.Numbers;
 
 import java.io.Serializable;
 import java.util.Collections;
@@ -55,6 +57,9 @@ public final class NodeView<N extends Node> implements IterableNodeView<N>, Seri
 
   @Override
   public int compareTo(View<N> other) {
+    if (node instanceof TextComparableNode && !(other instanceof IterableNodeView)) {
+      return ((TextComparableNode) node).compareText(other.toString());
+    }
     return toString().compareTo(other.toString());
   }
 
@@ -65,11 +70,7 @@ public final class NodeView<N extends Node> implements IterableNodeView<N>, Seri
 
   @Override
   public double toNumber() {
-    try {
-      return Double.parseDouble(node.getText());
-    } catch (NumberFormatException nfe) {
-      return Double.NaN;
-    }
+    return Numbers.parseDouble(node.getText());
   }
 
   @Override
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import com.github.simy4.xpath.helpers.SerializationHelper;
+import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import static java.util.Collections.singletonMap;
+
+class XmlBuilderTemplateTest {
+
+  private XmlBuilderTemplate template;
+
+  @BeforeEach
+  void setUp() throws XPathExpressionException {
+    template = new XmlBuilder(new SimpleNamespaceContext()).compile("/a/b", "/a/c", "/a/b");
+  }
+
+  @Test
+  @DisplayName("Should keep compiled XPaths in order")
+  void shouldKeepCompiledXPathsInOrder() {
+    assertThat(template.getXPaths()).containsExactly("/a/b", "/a/c", "/a/b");
+  }
+
+  @Test
+  @DisplayName("Should throw on parse error")
+  void shouldThrowOnParseError() {
+    assertThatThrownBy(() -> new XmlBuilder().compile("/a", "/a[b"))
+        .isInstanceOf(XPathExpressionException.class);
+  }
+
+  @Test
+  @DisplayName("Should throw when number of values differs from number of XPaths")
+  void shouldThrowWhenNumberOfValuesDiffers() {
+    assertThatThrownBy(() -> template.bind("b", "c"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Expected 3 values but got 2");
+  }
+
+  @Test
+  @DisplayName("Should throw when binding XPath that was not compiled")
+  void shouldThrowWhenBindingUnknownXPath() {
+    assertThatThrownBy(() -> template.bind(singletonMap("/a/d", "d")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("XPath is not part of this template: /a/d");
+  }
+
+  @Test
+  @DisplayName("Should serialize it and deserialize it back")
+  void shouldSerializeAndDeserializeTemplate() throws IOException, ClassNotFoundException {
+    // when
+    var deserializedTemplate = SerializationHelper.serializeAndDeserializeBack(template);
+    var deserializedBuilder =
+        SerializationHelper.serializeAndDeserializeBack(template.bind(1, 2, 3));
+
+    // then
+    assertThat(deserializedTemplate).usingRecursiveComparison().isEqualTo(template);
+    assertThat(deserializedBuilder).usingRecursiveComparison().isEqualTo(template.bind(1, 2, 3));
+  }
+}
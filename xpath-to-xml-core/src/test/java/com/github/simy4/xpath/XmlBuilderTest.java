@@ -16,16 +16,29 @@
 package com.github.simy4.xpath;
 
 import com.github.simy4.xpath.helpers.SerializationHelper;
+import com.github.simy4.xpath.effects.InstrumentedEffect;
 import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
+import com.github.simy4.xpath.spi.Effect;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import com.github.simy4.xpath.spi.NavigatorSpi;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import javax.xml.xpath.XPathExpressionException;
 
 import java.io.IOException;
+import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
@@ -53,6 +66,64 @@ class XmlBuilderTest {
     assertThatThrownBy(() -> xmlBuilder.build(null)).isInstanceOf(XmlBuilderException.class);
   }
 
+  @Test
+  @DisplayName("Should build all models in order and report failures separately")
+  void shouldBuildAllModelsInOrder() throws Exception {
+    // given
+    var o1 = new Object();
+    var o2 = new Object();
+
+    // when
+    var results = xmlBuilder.buildAll(asList(o1, null, o2), Runnable::run);
+
+    // then
+    assertThat(results).hasSize(3);
+    assertThat(results.get(0).get()).isSameAs(o1);
+    assertThatThrownBy(() -> results.get(1).get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(XmlBuilderException.class);
+    assertThat(results.get(2).get()).isSameAs(o2);
+  }
+
+  @Test
+  @DisplayName("Should process models with bound navigator SPI without looking it up")
+  void shouldBuildWithBoundNavigatorSpi() throws Exception {
+    // given
+    var navigatorSpi = mock(NavigatorSpi.class);
+    when(navigatorSpi.process(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+    var o = new Object();
+    var boundBuilder = xmlBuilder.withNavigatorSpi(navigatorSpi).put("test");
+
+    // when
+    var result = boundBuilder.build(o);
+    var results = boundBuilder.compile("test").bind("value").buildAll(asList(o, o), Runnable::run);
+
+    // then
+    assertThat(result).isSameAs(o);
+    assertThat(results.get(1).get()).isSameAs(o);
+    verify(navigatorSpi, never()).canHandle(any());
+  }
+
+  @Test
+  @DisplayName("Should report parsed XPaths and instrument effects only with registered listener")
+  void shouldInstrumentEffectsWithListener() throws Exception {
+    // given
+    var listener = mock(EvaluationListener.class);
+    var navigatorSpi = mock(NavigatorSpi.class);
+    var o = new Object();
+    var builder = xmlBuilder.withNavigatorSpi(navigatorSpi).withListener(listener).put("a");
+
+    // when
+    builder.compile("b").bind("value").build(o);
+    builder.withListener(null).build(o);
+
+    // then
+    verify(listener).xpathParsed(eq("a"), anyLong());
+    verify(listener).xpathParsed(eq("b"), anyLong());
+    verify(navigatorSpi).process(eq(o), argThat(effects -> countInstrumented(effects) == 2));
+    verify(navigatorSpi).process(eq(o), argThat(effects -> countInstrumented(effects) == 0));
+  }
+
   @Test
   @DisplayName("Should serialize it and deserialize it back")
   void shouldSerializeAndDeserializeBuilder()
@@ -75,4 +146,14 @@ class XmlBuilderTest {
     // then
     assertThat(deserializedBuild).usingRecursiveComparison().isEqualTo(builder);
   }
+
+  private static int countInstrumented(Iterable<Effect> effects) {
+    var count = 0;
+    for (var effect : effects) {
+      if (effect instanceof InstrumentedEffect) {
+        count++;
+      }
+    }
+    return count;
+  }
 }
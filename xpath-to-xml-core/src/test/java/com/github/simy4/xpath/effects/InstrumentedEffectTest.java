@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.effects;
+
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.parser.XPathParser;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import com.github.simy4.xpath.util.TestNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.xml.namespace.QName;
+import javax.xml.xpath.XPathExpressionException;
+
+import static com.github.simy4.xpath.util.TestNode.node;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentedEffectTest {
+
+  private static final XPathParser parser = new XPathParser(null);
+
+  @Mock private Navigator<TestNode> navigator;
+  @Mock private EvaluationListener listener;
+
+  @Test
+  @DisplayName("Should report visited and created nodes of every axis and of the whole effect")
+  void shouldReportEffectMetrics() throws XPathExpressionException {
+    // given
+    var xml = node("xml");
+    var a = node("a");
+    when(navigator.elementsOf(xml)).thenAnswer(invocation -> singletonList(a));
+    when(navigator.elementsOf(a)).thenAnswer(invocation -> emptyList());
+    when(navigator.createElement(a, new QName("b"))).thenReturn(node("b"));
+    var effect = new PutEffect(parser.parse("a/b"));
+
+    // when
+    new InstrumentedEffect(effect, listener).perform(navigator, xml);
+
+    // then
+    var inOrder = inOrder(listener);
+    inOrder.verify(listener).axisResolved(eq("child::a"), eq(true), eq(1L), eq(0L), anyLong());
+    inOrder.verify(listener).navigatorModified(eq("createElement"), eq(1L), anyLong());
+    inOrder.verify(listener).axisResolved(eq("child::b"), eq(true), eq(0L), eq(1L), anyLong());
+    // a is visited once to check that it exists and once more to resolve b against it
+    inOrder.verify(listener).effectPerformed(eq(effect), eq(2L), eq(1L), anyLong());
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  @DisplayName("Should report every navigator modification")
+  void shouldReportNavigatorModifications() throws XPathExpressionException {
+    // given
+    var xml = node("xml");
+    var a = node("a");
+    when(navigator.elementsOf(xml)).thenAnswer(invocation -> singletonList(a));
+    var effect = new RemoveEffect(parser.parse("a"));
+
+    // when
+    new InstrumentedEffect(effect, listener).perform(navigator, xml);
+
+    // then
+    verify(navigator).remove(a);
+    verify(listener).navigatorModified(eq("remove"), eq(0L), anyLong());
+    verify(listener).effectPerformed(eq(effect), eq(1L), eq(0L), anyLong());
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.effects;
+
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.util.TestNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.xml.namespace.QName;
+
+import static com.github.simy4.xpath.util.TestNode.node;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TextBatchingNavigatorTest {
+
+  @Mock private IdentityNavigator<TestNode> navigator;
+
+  private TextBatchingNavigator<TestNode> batch;
+
+  @BeforeEach
+  void setUp() {
+    when(navigator.modelOf(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    batch = new TextBatchingNavigator<>(navigator);
+  }
+
+  @Test
+  void shouldSetTextOfEveryNodeOnceInOrderOfLastWrites() {
+    var node1 = node("node1");
+    var node2 = node("node2");
+    batch.setTextLater(node1, "value1");
+    batch.setTextLater(node2, "value2");
+    batch.setTextLater(node1, "value3");
+
+    verify(navigator, never()).setText(any(), anyString());
+    batch.flush();
+    batch.flush();
+
+    var inOrder = inOrder(navigator);
+    inOrder.verify(navigator).setText(node2, "value2");
+    inOrder.verify(navigator).setText(node1, "value3");
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldApplyWritesBeforeTraversingWrittenNode() {
+    var node = node("node");
+    batch.setTextLater(node, "value");
+    batch.elementsOf(node("other"));
+
+    verify(navigator, never()).setText(any(), anyString());
+
+    batch.elementsOf(node);
+
+    var inOrder = inOrder(navigator);
+    inOrder.verify(navigator).setText(node, "value");
+    inOrder.verify(navigator).elementsOf(node);
+  }
+
+  @Test
+  void shouldApplyWritesBeforeModifications() {
+    var node = node("node");
+    var parent = node("parent");
+    batch.setTextLater(node, "value");
+    batch.createElement(parent, new QName("elem"));
+
+    verify(navigator, never()).setText(any(), anyString());
+
+    batch.remove(parent);
+
+    var inOrder = inOrder(navigator);
+    inOrder.verify(navigator).setText(node, "value");
+    inOrder.verify(navigator).remove(parent);
+  }
+}
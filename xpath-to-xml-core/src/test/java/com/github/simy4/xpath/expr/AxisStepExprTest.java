@@ -46,6 +46,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -210,6 +211,75 @@ class AxisStepExprTest {
         .isInstanceOf(XmlBuilderException.class);
   }
 
+  @Test
+  @DisplayName("When predicate is a constant position should return node at that position")
+  void shouldReturnNodeAtPositionWhenPredicateIsConstantPosition() {
+    // given
+    when(axisResolver.resolveAxis(any(), any(), anyBoolean()))
+        .thenReturn(NodeSetView.of(asList(node("one"), node("two"), node("three")), node -> true));
+    stepExpr = new AxisStepExpr(axisResolver, Collections.singletonList(new NumberExpr(2.0)));
+
+    // when
+    var result = stepExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("two"));
+    verify(navigator, never()).prependCopy(any());
+  }
+
+  @Test
+  @DisplayName("When constant position is out of range should create missing nodes")
+  void shouldCreateMissingNodesWhenConstantPositionIsOutOfRange() {
+    // given
+    when(axisResolver.resolveAxis(any(), any(), anyBoolean()))
+        .thenReturn(NodeSetView.of(asList(node("one"), node("two")), node -> true));
+    stepExpr = new AxisStepExpr(axisResolver, Collections.singletonList(new NumberExpr(5.0)));
+
+    // when
+    var result = stepExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("node"));
+    verify(axisResolver).createAxisNode(navigator, parentNode, 3);
+    verify(navigator, times(2)).prependCopy(node("node"));
+  }
+
+  @Test
+  @DisplayName("When not greedy should filter nodes with cheaper predicates first")
+  void shouldFilterWithCheaperPredicatesFirstWhenNotGreedy() {
+    // given
+    when(axisResolver.resolveAxis(any(), any(), anyBoolean()))
+        .thenReturn(new NodeView<>(node("node")));
+    stepExpr =
+        new AxisStepExpr(
+            axisResolver, asList(new AndExpr(predicate1, predicate2), new LiteralExpr("")));
+
+    // when
+    var result = stepExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).isEmpty();
+    verify(predicate1, never()).resolve(any(), any(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("When greedy should resolve predicates in written order")
+  void shouldResolvePredicatesInWrittenOrderWhenGreedy() {
+    // given
+    when(axisResolver.resolveAxis(any(), any(), anyBoolean()))
+        .thenReturn(new NodeView<>(node("node")));
+    stepExpr =
+        new AxisStepExpr(
+            axisResolver, asList(new AndExpr(predicate1, predicate2), new LiteralExpr("")));
+
+    // when
+    assertThatThrownBy(() -> stepExpr.resolve(navigator, parentNode, true))
+        .isInstanceOf(XmlBuilderException.class);
+
+    // then
+    verify(predicate1).resolve(eq(navigator), any(), eq(false));
+  }
+
   @Test
   @SuppressWarnings("DirectInvocationOnMock")
   void testToString() {
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
+import com.github.simy4.xpath.expr.axis.AxisResolver;
+import com.github.simy4.xpath.expr.axis.ChildAxisResolver;
+import com.github.simy4.xpath.expr.axis.DescendantOrSelfAxisResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.namespace.QName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+class ExprCostTest {
+
+  private static final Expr attributeEquality =
+      new EqualsExpr(path(new AttributeAxisResolver(new QName("id"))), new LiteralExpr("1"));
+  private static final Expr textComparison =
+      new EqualsExpr(path(new ChildAxisResolver(new QName("name"))), new LiteralExpr("Bob"));
+  private static final Expr descendantPath =
+      path(new DescendantOrSelfAxisResolver(new QName("author"), false));
+
+  @Test
+  @DisplayName("Should estimate attribute lookups cheaper than text reads and descendant paths")
+  void shouldEstimateCostsOfPredicates() {
+    assertThat(ExprCost.of(new NumberExpr(1.0))).isZero();
+    assertThat(ExprCost.of(attributeEquality)).isLessThan(ExprCost.of(textComparison));
+    assertThat(ExprCost.of(textComparison)).isLessThan(ExprCost.of(descendantPath));
+    assertThat(ExprCost.of(new AndExpr(attributeEquality, textComparison)))
+        .isGreaterThan(ExprCost.of(textComparison));
+  }
+
+  @Test
+  @DisplayName("Should move cheaper filters in front of expensive ones")
+  void shouldOrderFiltersByCost() {
+    var predicates = asList(descendantPath, textComparison, attributeEquality);
+
+    assertThat(ExprCost.orderPredicates(predicates))
+        .containsExactly(attributeEquality, textComparison, descendantPath);
+  }
+
+  @Test
+  @DisplayName("Should not move filters across positional predicates")
+  void shouldNotMoveFiltersAcrossPositionalPredicates() {
+    var position = new NumberExpr(2.0);
+    var predicates = asList(descendantPath, position, textComparison, attributeEquality);
+
+    assertThat(ExprCost.orderPredicates(predicates))
+        .containsExactly(descendantPath, position, attributeEquality, textComparison);
+  }
+
+  @Test
+  @DisplayName("Should keep predicates that are already in order")
+  void shouldKeepPredicatesThatAreAlreadyInOrder() {
+    var predicates = asList(attributeEquality, new NumberExpr(1.0), descendantPath);
+
+    assertThat(ExprCost.orderPredicates(predicates)).isSameAs(predicates);
+  }
+
+  private static Expr path(AxisResolver axisResolver) {
+    return new PathExpr(singletonList(new AxisStepExpr(axisResolver, emptyList())));
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.parser.XPathParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExprOptimizerTest {
+
+  private static final XPathParser parser = new XPathParser(null);
+
+  @Test
+  @DisplayName("Should fold arithmetic on constants into a number")
+  void shouldFoldConstantArithmetic() throws XPathExpressionException {
+    var optimized = ExprOptimizer.optimize(parser.parse("1 + 2 + 2 * 2 - -4"));
+
+    assertThat(optimized).isInstanceOf(NumberExpr.class);
+    assertThat(((NumberExpr) optimized).getNumber()).isEqualTo(11.0);
+  }
+
+  @Test
+  @DisplayName("Should turn constant arithmetic predicate into positional predicate")
+  void shouldFoldPositionalPredicates() throws XPathExpressionException {
+    var optimized = ExprOptimizer.optimize(parser.parse("/book[3 - 1]/author"));
+
+    var step = (AxisStepExpr) ((PathExpr) optimized).getSteps().get(1);
+
+    assertThat(optimized).hasToString(parser.parse("/book[2]/author").toString());
+    assertThat(step.getPredicates()).singleElement().isInstanceOf(NumberExpr.class);
+  }
+
+  @Test
+  @DisplayName("Should fold constant comparisons only where their truth is tested")
+  void shouldFoldConstantComparisonsInPredicates() throws XPathExpressionException {
+    var optimized = ExprOptimizer.optimize(parser.parse("book[1 = 1][1 = 2 or 'a' != 'a']"));
+
+    assertThat(optimized).hasToString(parser.parse("book['true']['']").toString());
+    assertThat(ExprOptimizer.optimize(parser.parse("1 = 1"))).isInstanceOf(EqualsExpr.class);
+  }
+
+  @Test
+  @DisplayName("Should look nodes up without self steps and with fused descendant steps")
+  void shouldRewriteLookupSteps() throws XPathExpressionException {
+    var expr = parser.parse("//book[@id = 1]/./author//last-name");
+    var optimized = (PathExpr) ExprOptimizer.optimize(expr);
+
+    assertThat(optimized).hasToString(expr.toString());
+    assertThat(optimized.getLookupSteps())
+        .hasToString(
+            ((PathExpr) parser.parse("/descendant::book[@id = 1]/author/descendant::last-name"))
+                .getSteps()
+                .toString());
+  }
+
+  @ParameterizedTest(name = "Given XPath {0} should keep its lookup steps")
+  @DisplayName("Should not fuse descendant steps where positions or order matter")
+  @ValueSource(strings = {"//book[1]", "//book[@id][2]", "book[//author = 'Bob']", "."})
+  void shouldKeepStepsWherePositionsOrOrderMatter(String xpath) throws XPathExpressionException {
+    var expr = parser.parse(xpath);
+
+    assertThat(ExprOptimizer.optimize(expr)).isSameAs(expr);
+  }
+
+  @Test
+  @DisplayName("Should fuse descendant steps in predicates that are only tested for truth")
+  void shouldFuseDescendantStepsInPredicates() throws XPathExpressionException {
+    var optimized = (PathExpr) ExprOptimizer.optimize(parser.parse("book[.//author]"));
+    var predicate =
+        (PathExpr) ((AxisStepExpr) optimized.getSteps().get(0)).getPredicates().iterator().next();
+
+    assertThat(predicate.getLookupSteps())
+        .hasToString(
+            ((PathExpr) parser.parse("descendant::author")).getLookupSteps().toString());
+  }
+}
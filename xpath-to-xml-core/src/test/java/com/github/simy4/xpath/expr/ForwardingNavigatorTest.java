@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.util.TestNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.xml.namespace.QName;
+
+import java.util.List;
+
+import static com.github.simy4.xpath.util.TestNode.node;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ForwardingNavigatorTest {
+
+  @Mock private Navigator<TestNode> navigator;
+  @Mock private NameLookupNavigator<TestNode> nameLookupNavigator;
+  @Mock private BulkCopyNavigator<TestNode> bulkCopyNavigator;
+  @Mock private NumberValueNavigator<TestNode> numberValueNavigator;
+
+  @Test
+  void shouldFallBackToPlainNavigator() {
+    var parent = node("parent");
+    var child = node("child");
+    var attr = node("attr");
+    doReturn(List.of(child)).when(navigator).elementsOf(parent);
+    doReturn(List.of(attr)).when(navigator).attributesOf(parent);
+    var forwarding = new ForwardingNavigator<TestNode>(navigator) {};
+
+    assertThat(forwarding.elementsOf(parent, new QName("child"))).singleElement().isSameAs(child);
+    assertThat(forwarding.attributesOf(parent, new QName("attr"))).singleElement().isSameAs(attr);
+    assertThat(forwarding.numberOf(node("2.5"))).isEqualTo(2.5);
+    assertThat(forwarding.getListener()).isNull();
+    assertThat(forwarding.getNodesVisited()).isZero();
+    assertThat(forwarding.getNodesCreated()).isZero();
+
+    forwarding.prependCopies(child, 3);
+    verify(navigator, times(3)).prependCopy(child);
+  }
+
+  @Test
+  void shouldForwardToNameLookupNavigator() {
+    var parent = node("parent");
+    var child = node("child");
+    var attr = node("attr");
+    doReturn(List.of(child)).when(nameLookupNavigator).elementsOf(parent, new QName("child"));
+    doReturn(List.of(attr)).when(nameLookupNavigator).attributesOf(parent, new QName("attr"));
+    var forwarding = new ForwardingNavigator<TestNode>(nameLookupNavigator) {};
+
+    assertThat(forwarding.elementsOf(parent, new QName("child"))).singleElement().isSameAs(child);
+    assertThat(forwarding.attributesOf(parent, new QName("attr"))).singleElement().isSameAs(attr);
+  }
+
+  @Test
+  void shouldForwardToBulkCopyNavigator() {
+    var node = node("node");
+    new ForwardingNavigator<TestNode>(bulkCopyNavigator) {}.prependCopies(node, 3);
+
+    verify(bulkCopyNavigator).prependCopies(node, 3);
+    verifyNoMoreInteractions(bulkCopyNavigator);
+  }
+
+  @Test
+  void shouldForwardToNumberValueNavigator() {
+    var node = node("node");
+    when(numberValueNavigator.numberOf(node)).thenReturn(42.0);
+
+    assertThat(new ForwardingNavigator<TestNode>(numberValueNavigator) {}.numberOf(node))
+        .isEqualTo(42.0);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.util.TestNode;
+import com.github.simy4.xpath.view.BooleanView;
+import com.github.simy4.xpath.view.NodeView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static com.github.simy4.xpath.util.TestNode.node;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrExprTest extends AbstractLogicalExprTest {
+
+  private static final NodeView<TestNode> parentNode = new NodeView<>(node("node"));
+
+  @Mock private Navigator<TestNode> navigator;
+
+  @BeforeEach
+  void setUp() {
+    logicalExpr = new OrExpr(leftExpr, rightExpr);
+  }
+
+  @Test
+  @DisplayName("Should resolve to false when both operands are false")
+  void shouldResolveToFalseWhenBothOperandsAreFalse() {
+    // given
+    when(leftExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(false));
+    when(rightExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(false));
+
+    // when
+    var result = logicalExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat(result).isEqualTo(BooleanView.of(false));
+  }
+
+  @Test
+  @DisplayName("Should not resolve right operand when left one is true")
+  void shouldShortCircuitOnTrueLeftOperand() {
+    // given
+    when(leftExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(true));
+
+    // when
+    var result = logicalExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat(result).isEqualTo(BooleanView.of(true));
+    verify(leftExpr, never()).resolve(any(), any(), eq(true));
+    verify(rightExpr, never()).resolve(any(), any(), anyBoolean());
+  }
+
+  @Test
+  @DisplayName("When greedy context should not modify anything if right operand is true")
+  void shouldNotResolveGreedilyWhenRightOperandIsTrue() {
+    // given
+    when(leftExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(false));
+    when(rightExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(true));
+
+    // when
+    var result = logicalExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat(result).isEqualTo(BooleanView.of(true));
+    verify(leftExpr, never()).resolve(any(), any(), eq(true));
+    verify(rightExpr, never()).resolve(any(), any(), eq(true));
+  }
+
+  @Test
+  @DisplayName("When greedy context and both operands false should make left operand true")
+  void shouldMakeLeftOperandTrue() {
+    // given
+    when(leftExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(false));
+    when(rightExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(false));
+    when(leftExpr.resolve(any(), any(), eq(true))).thenReturn(BooleanView.of(true));
+
+    // when
+    var result = logicalExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat(result).isEqualTo(BooleanView.of(true));
+    verify(rightExpr, never()).resolve(any(), any(), eq(true));
+  }
+
+  @Test
+  @DisplayName("When greedy context and left operand cannot be made true should try right one")
+  void shouldMakeRightOperandTrueWhenLeftOneIsStillFalse() {
+    // given
+    when(leftExpr.resolve(any(), any(), anyBoolean())).thenReturn(BooleanView.of(false));
+    when(rightExpr.resolve(any(), any(), eq(false))).thenReturn(BooleanView.of(false));
+    when(rightExpr.resolve(any(), any(), eq(true))).thenReturn(BooleanView.of(true));
+
+    // when
+    var result = logicalExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat(result).isEqualTo(BooleanView.of(true));
+  }
+}
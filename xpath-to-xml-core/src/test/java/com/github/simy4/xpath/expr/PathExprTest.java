@@ -39,6 +39,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 
 @ExtendWith(MockitoExtension.class)
 class PathExprTest {
@@ -110,6 +111,28 @@ class PathExprTest {
     verify(stepExpr3, never()).resolve(any(), any(), anyBoolean());
   }
 
+  @Test
+  @DisplayName("Should look nodes up with lookup steps and create them with written steps")
+  void shouldResolveLookupStepsUnlessGreedy() {
+    // given
+    var optimizedPathExpr = new PathExpr(asList(stepExpr1, stepExpr2), singletonList(stepExpr3));
+    when(stepExpr1.resolve(eq(navigator), any(), eq(true)))
+        .thenReturn(new NodeView<>(node("node1")));
+    when(stepExpr2.resolve(eq(navigator), any(), eq(true)))
+        .thenReturn(new NodeView<>(node("node21")));
+    when(stepExpr3.resolve(eq(navigator), any(), eq(false)))
+        .thenReturn(new NodeView<>(node("node31")));
+
+    // when
+    var lookedUp = optimizedPathExpr.resolve(navigator, parentNode, false);
+    var created = optimizedPathExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat((Iterable<?>) lookedUp).extracting("node").containsExactly(node("node31"));
+    assertThat((Iterable<?>) created).extracting("node").containsExactly(node("node21"));
+    assertThat(optimizedPathExpr).hasToString(stepExpr1 + "/" + stepExpr2);
+  }
+
   @Test
   void testToString() {
     assertThat(pathExpr).hasToString(stepExpr1 + "/" + stepExpr2 + "/" + stepExpr3);
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.parser.XPathParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathTrieTest {
+
+  private final XPathParser parser = new XPathParser(null);
+
+  @Test
+  @DisplayName("Should resolve common leading steps only once")
+  void shouldShareCommonLeadingSteps() throws XPathExpressionException {
+    var pathTrie = pathTrie(true, "/a/b/c", "/a/b/d", "/a/e", "/f");
+
+    assertThat(pathTrie.size()).isEqualTo(4);
+    assertThat(pathTrie.steps()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("Should share predicated steps that cannot be affected by previous puts")
+  void shouldSharePredicatedSteps() throws XPathExpressionException {
+    var pathTrie = pathTrie(true, "/a/b[@name='x']/@c", "/a/b[@name='x']/@d", "/a/b[1]/e");
+
+    assertThat(pathTrie.steps()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("Should resolve steps again once a previous put could have changed their result")
+  void shouldNotShareStepsAffectedByPreviousPuts() throws XPathExpressionException {
+    assertThat(pathTrie(false, "/a/b[c]/d", "/a/b/c", "/a/b[c]/e").steps()).isEqualTo(8);
+    assertThat(pathTrie(true, "/a/b[c='x']", "/a/b/c", "/a/b[c='x']/e").steps()).isEqualTo(7);
+    assertThat(pathTrie(true, "/a/b/c", "/a/b", "/a/b/c").steps()).isEqualTo(5);
+    assertThat(pathTrie(false, "/a/b/c", "/a/b", "/a/b/c").steps()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("Should not share steps across expressions that cannot be analyzed")
+  void shouldNotShareAcrossUnsupportedExpressions() throws XPathExpressionException {
+    assertThat(pathTrie(true, "/a/b", "//c", "/a/d").steps()).isEqualTo(6);
+    assertThat(pathTrie(true, "/a/b", "a/b", "/a/d").steps()).isEqualTo(8);
+    assertThat(pathTrie(true, "/a/*/b", "/a/*/c").steps()).isEqualTo(0);
+  }
+
+  @Test
+  @DisplayName("Should tell expressions that may read node texts")
+  void shouldTellExpressionsThatReadTexts() throws XPathExpressionException {
+    var pathTrie = pathTrie(true, "/a/b[1]/c", "/a/b[c='x']/d", "//e", "/a/@f");
+
+    assertThat(pathTrie.readsText(0)).isFalse();
+    assertThat(pathTrie.readsText(1)).isTrue();
+    assertThat(pathTrie.readsText(2)).isTrue();
+    assertThat(pathTrie.readsText(3)).isFalse();
+  }
+
+  private PathTrie pathTrie(boolean putValue, String... xpaths) throws XPathExpressionException {
+    final List<Expr> exprs = new ArrayList<>();
+    for (var xpath : xpaths) {
+      exprs.add(parser.parse(xpath));
+    }
+    return new PathTrie(exprs, putValue);
+  }
+}
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.expr;
 
 import com.github.simy4.xpath.expr.axis.SelfAxisResolver;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.util.TestNode;
 import com.github.simy4.xpath.view.NodeView;
@@ -36,7 +37,9 @@ import java.util.stream.Stream;
 import static com.github.simy4.xpath.util.TestNode.node;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -102,6 +105,25 @@ class PredicateExprTest {
     verify(navigator, times(2)).prependCopy(node("node"));
   }
 
+  @Test
+  @DisplayName("When greedy context and bulk copy navigator should prepend missing nodes at once")
+  @SuppressWarnings("unchecked")
+  void shouldPrependMissingNodesAtOnceOnGreedyFalsePredicateAndBulkCopyNavigator() {
+    // given
+    BulkCopyNavigator<TestNode> bulkCopyNavigator = mock(BulkCopyNavigator.class);
+
+    // when
+    var result =
+        new PredicateExpr(new NumberExpr(3.0))
+            .resolve(bulkCopyNavigator, new NodeView<>(node("node"), 1), true)
+            .toBoolean();
+
+    // then
+    assertThat(result).isEqualTo(true);
+    verify(bulkCopyNavigator).prependCopies(node("node"), 2);
+    verify(bulkCopyNavigator, never()).prependCopy(any());
+  }
+
   @Test
   void testToString() {
     // given
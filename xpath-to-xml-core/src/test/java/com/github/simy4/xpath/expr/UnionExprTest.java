@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.expr;
+
+import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
+import com.github.simy4.xpath.expr.axis.ChildAxisResolver;
+import com.github.simy4.xpath.helpers.SerializationHelper;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.util.TestNode;
+import com.github.simy4.xpath.view.NodeView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.xml.namespace.QName;
+
+import java.io.IOException;
+
+import static com.github.simy4.xpath.util.TestNode.node;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+@ExtendWith(MockitoExtension.class)
+class UnionExprTest {
+
+  private static final NodeView<TestNode> parentNode = new NodeView<>(node("node"));
+
+  @Mock private Navigator<TestNode> navigator;
+
+  @Test
+  @DisplayName("Should traverse children once and return them in document order")
+  void shouldMergeSiblingsInDocumentOrder() {
+    // given
+    doReturn(asList(node("c"), node("x"), node("b")))
+        .when(navigator)
+        .elementsOf(parentNode.getNode());
+    doReturn(singletonList(node("id"))).when(navigator).attributesOf(parentNode.getNode());
+    var unionExpr = new UnionExpr(asList(path(child("b")), path(child("c")), path(attr("id"))));
+
+    // when
+    var result = unionExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result)
+        .extracting("node")
+        .containsExactly(node("id"), node("c"), node("b"));
+    verify(navigator).elementsOf(parentNode.getNode());
+  }
+
+  @Test
+  @DisplayName("Should resolve shared leading steps once")
+  void shouldResolveSharedPrefixOnce() {
+    // given
+    doReturn(singletonList(node("a"))).when(navigator).elementsOf(parentNode.getNode());
+    doReturn(asList(node("b"), node("c"))).when(navigator).elementsOf(node("a"));
+    var unionExpr =
+        new UnionExpr(asList(path(child("a"), child("b")), path(child("a"), child("c"))));
+
+    // when
+    var result = unionExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("b"), node("c"));
+    verify(navigator).elementsOf(parentNode.getNode());
+    verify(navigator).elementsOf(node("a"));
+  }
+
+  @Test
+  @DisplayName("Should return nodes found by several branches once")
+  void shouldDeduplicateNodes() {
+    // given
+    doReturn(asList(node("c"), node("b"))).when(navigator).elementsOf(parentNode.getNode());
+    doReturn(emptyList()).when(navigator).attributesOf(parentNode.getNode());
+    doReturn(parentNode.getNode()).when(navigator).parentOf(node("b"));
+    doReturn(parentNode.getNode()).when(navigator).parentOf(node("c"));
+    doReturn(null).when(navigator).parentOf(parentNode.getNode());
+    var unionExpr =
+        new UnionExpr(
+            asList(
+                path(
+                    new AxisStepExpr(
+                        new ChildAxisResolver(new QName("b")), singletonList(new NumberExpr(1.0)))),
+                path(child("*")),
+                path(child("b"))));
+
+    // when
+    var result = unionExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("c"), node("b"));
+  }
+
+  @Test
+  @DisplayName("Should merge nodes of branches written out of order in document order")
+  void shouldMergeBranchesInDocumentOrder() {
+    // given
+    doReturn(asList(node("a"), node("b"))).when(navigator).elementsOf(parentNode.getNode());
+    doReturn(singletonList(node("x"))).when(navigator).elementsOf(node("a"));
+    doReturn(singletonList(node("y"))).when(navigator).elementsOf(node("b"));
+    doReturn(emptyList()).when(navigator).attributesOf(any());
+    doReturn(parentNode.getNode()).when(navigator).parentOf(node("a"));
+    doReturn(parentNode.getNode()).when(navigator).parentOf(node("b"));
+    doReturn(node("a")).when(navigator).parentOf(node("x"));
+    doReturn(node("b")).when(navigator).parentOf(node("y"));
+    doReturn(null).when(navigator).parentOf(parentNode.getNode());
+    var unionExpr =
+        new UnionExpr(asList(path(child("b"), child("y")), path(child("a"), child("x"))));
+
+    // when
+    var result = unionExpr.resolve(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("x"), node("y"));
+  }
+
+  @Test
+  @DisplayName("When greedy context should create missing branches in written order")
+  void shouldCreateMissingBranchesInWrittenOrder() {
+    // given
+    doReturn(emptyList()).when(navigator).elementsOf(any());
+    when(navigator.createElement(parentNode.getNode(), new QName("b"))).thenReturn(node("b"));
+    when(navigator.createElement(parentNode.getNode(), new QName("c"))).thenReturn(node("c"));
+    var unionExpr = new UnionExpr(asList(path(child("b")), path(child("c"))));
+
+    // when
+    var result = unionExpr.resolve(navigator, parentNode, true);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("b"), node("c"));
+    var inOrder = inOrder(navigator);
+    inOrder.verify(navigator).createElement(parentNode.getNode(), new QName("b"));
+    inOrder.verify(navigator).createElement(parentNode.getNode(), new QName("c"));
+    verify(navigator, never()).attributesOf(any());
+  }
+
+  @Test
+  @DisplayName("Should serialize and deserialize expr")
+  void shouldSerializeAndDeserializeExpr() throws IOException, ClassNotFoundException {
+    // given
+    var unionExpr =
+        new UnionExpr(asList(path(new Root(), child("a")), path(new Root(), child("b"))));
+
+    // when
+    Expr deserializedExpr = SerializationHelper.serializeAndDeserializeBack(unionExpr);
+
+    // then
+    assertThat(deserializedExpr).hasToString(unionExpr.toString());
+  }
+
+  @Test
+  void testToString() {
+    var branch1 = path(child("a"));
+    var branch2 = path(attr("b"));
+
+    assertThat(new UnionExpr(asList(branch1, branch2))).hasToString(branch1 + " | " + branch2);
+  }
+
+  private static PathExpr path(StepExpr... steps) {
+    return new PathExpr(asList(steps));
+  }
+
+  private static StepExpr child(String name) {
+    return new AxisStepExpr(new ChildAxisResolver(new QName(name)), emptyList());
+  }
+
+  private static StepExpr attr(String name) {
+    return new AxisStepExpr(new AttributeAxisResolver(new QName(name)), emptyList());
+  }
+}
@@ -16,10 +16,12 @@
 package com.github.simy4.xpath.expr.axis;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
 import com.github.simy4.xpath.util.TestNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -33,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +45,8 @@ import static java.util.stream.StreamSupport.stream;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class AttributeAxisResolverTest extends AbstractAxisResolverTest {
 
+  @Mock private NameLookupNavigator<TestNode> nameLookupNavigator;
+
   @BeforeEach
   void setUp() {
     when(navigator.createAttribute(any(TestNode.class), eq(name)))
@@ -107,6 +112,22 @@ class AttributeAxisResolverTest extends AbstractAxisResolverTest {
         .isInstanceOf(XmlBuilderException.class);
   }
 
+  @Test
+  @DisplayName("When navigator looks up names should not scan all attributes")
+  void shouldLookUpAttributesByName() {
+    // given
+    doReturn(asList(node("name")))
+        .when(nameLookupNavigator)
+        .attributesOf(parentNode.getNode(), name);
+
+    // when
+    var result = axisResolver.resolveAxis(nameLookupNavigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node("name"));
+    verify(nameLookupNavigator, never()).attributesOf(parentNode.getNode());
+  }
+
   @Test
   void testToString() {
     assertThat(axisResolver).hasToString("attribute::" + name);
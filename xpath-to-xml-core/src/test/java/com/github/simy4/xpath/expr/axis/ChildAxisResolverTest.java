@@ -16,10 +16,12 @@
 package com.github.simy4.xpath.expr.axis;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import com.github.simy4.xpath.util.TestNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -33,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,6 +45,8 @@ import static java.util.stream.StreamSupport.stream;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class ChildAxisResolverTest extends AbstractAxisResolverTest {
 
+  @Mock private NameMatchingNode nameMatchingNode;
+
   @BeforeEach
   void setUp() {
     when(navigator.createElement(any(TestNode.class), eq(name)))
@@ -107,6 +112,42 @@ class ChildAxisResolverTest extends AbstractAxisResolverTest {
         .isInstanceOf(XmlBuilderException.class);
   }
 
+  @Test
+  @DisplayName("When node matches names should not resolve its name")
+  void shouldMatchNamesWithoutResolvingThem() {
+    // given
+    when(nameMatchingNode.hasName("", "name")).thenReturn(true);
+    doReturn(asList(node("another-name"), nameMatchingNode))
+        .when(navigator)
+        .elementsOf(parentNode.getNode());
+
+    // when
+    var result = axisResolver.resolveAxis(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(nameMatchingNode);
+    verify(nameMatchingNode, never()).getName();
+  }
+
+  @Test
+  @DisplayName("When wildcard name should not match names")
+  void shouldNotMatchNamesForWildcardName() {
+    // given
+    axisResolver = new ChildAxisResolver(new QName("*", "*"));
+    doReturn(asList(node("another-name"), nameMatchingNode))
+        .when(navigator)
+        .elementsOf(parentNode.getNode());
+
+    // when
+    var result = axisResolver.resolveAxis(navigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result)
+        .extracting("node")
+        .containsExactly(node("another-name"), nameMatchingNode);
+    verify(nameMatchingNode, never()).hasName(any(), any());
+  }
+
   @Test
   void testToString() {
     assertThat(axisResolver).hasToString("child::" + name);
@@ -16,10 +16,12 @@
 package com.github.simy4.xpath.expr.axis;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
 import com.github.simy4.xpath.util.TestNode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
@@ -33,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,6 +46,8 @@ import static java.util.stream.StreamSupport.stream;
 @MockitoSettings(strictness = Strictness.LENIENT)
 class DescendantOrSelfAxisResolverTest extends AbstractAxisResolverTest {
 
+  @Mock private DescendantNavigator<TestNode> descendantNavigator;
+
   @BeforeEach
   void setUp() {
     when(navigator.createElement(any(TestNode.class), eq(name)))
@@ -98,6 +103,22 @@ class DescendantOrSelfAxisResolverTest extends AbstractAxisResolverTest {
             node(name));
   }
 
+  @Test
+  @DisplayName("When navigator traverses descendants should return self and these descendants")
+  void shouldReturnSelfWithDescendantsTraversedByNavigator() {
+    // given
+    doReturn(asList(node("node11"), node(name)))
+        .when(descendantNavigator)
+        .descendantsOf(parentNode.getNode(), name);
+
+    // when
+    var result = axisResolver.resolveAxis(descendantNavigator, parentNode, false);
+
+    // then
+    assertThat((Iterable<?>) result).extracting("node").containsExactly(node(name));
+    verify(descendantNavigator, never()).elementsOf(any());
+  }
+
   @Test
   @DisplayName("When descendant-or-self and there are no children should return self")
   void shouldReturnOnlySelfWhenThereAreNoChildren() {
@@ -204,6 +204,13 @@ class XPathLexerTest {
                 token(Type.SLASH, "/"),
                 token(Type.IDENTIFIER, "degree"),
                 token(Type.RIGHT_BRACKET, "]"))),
+        arguments(
+            "book|@style",
+            asList(
+                token(Type.IDENTIFIER, "book"),
+                token(Type.PIPE, "|"),
+                token(Type.AT, "@"),
+                token(Type.IDENTIFIER, "style"))),
         arguments(
             "author[degree][award]",
             asList(
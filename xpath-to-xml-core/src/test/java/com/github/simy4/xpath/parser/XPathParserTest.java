@@ -15,7 +15,9 @@
  */
 package com.github.simy4.xpath.parser;
 
+import com.github.simy4.xpath.ParseCache;
 import com.github.simy4.xpath.expr.AdditionExpr;
+import com.github.simy4.xpath.expr.AndExpr;
 import com.github.simy4.xpath.expr.AxisStepExpr;
 import com.github.simy4.xpath.expr.EqualsExpr;
 import com.github.simy4.xpath.expr.Expr;
@@ -23,11 +25,13 @@ import com.github.simy4.xpath.expr.LiteralExpr;
 import com.github.simy4.xpath.expr.MultiplicationExpr;
 import com.github.simy4.xpath.expr.NotEqualsExpr;
 import com.github.simy4.xpath.expr.NumberExpr;
+import com.github.simy4.xpath.expr.OrExpr;
 import com.github.simy4.xpath.expr.PathExpr;
 import com.github.simy4.xpath.expr.Root;
 import com.github.simy4.xpath.expr.StepExpr;
 import com.github.simy4.xpath.expr.SubtractionExpr;
 import com.github.simy4.xpath.expr.UnaryExpr;
+import com.github.simy4.xpath.expr.UnionExpr;
 import com.github.simy4.xpath.expr.axis.AncestorOrSelfAxisResolver;
 import com.github.simy4.xpath.expr.axis.AttributeAxisResolver;
 import com.github.simy4.xpath.expr.axis.AxisResolver;
@@ -36,7 +40,9 @@ import com.github.simy4.xpath.expr.axis.DescendantOrSelfAxisResolver;
 import com.github.simy4.xpath.expr.axis.ParentAxisResolver;
 import com.github.simy4.xpath.expr.axis.SelfAxisResolver;
 import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
+import com.github.simy4.xpath.spi.EvaluationListener;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -50,6 +56,11 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import static java.util.Arrays.asList;
 
@@ -329,6 +340,50 @@ class XPathParserTest {
                                     pathExpr(stepExpr(new ChildAxisResolver(new QName("*")))),
                                     new LiteralExpr("Bob")))),
                         namespaceContext),
+                    arguments(
+                        "author[@id = 1 and last-name = \"Bob\" or award]",
+                        pathExpr(
+                            stepExpr(
+                                new ChildAxisResolver(new QName("author")),
+                                new OrExpr(
+                                    new AndExpr(
+                                        new EqualsExpr(
+                                            pathExpr(
+                                                stepExpr(
+                                                    new AttributeAxisResolver(new QName("id")))),
+                                            new NumberExpr(1.0)),
+                                        new EqualsExpr(
+                                            pathExpr(
+                                                stepExpr(
+                                                    new ChildAxisResolver(
+                                                        new QName("last-name")))),
+                                            new LiteralExpr("Bob"))),
+                                    pathExpr(
+                                        stepExpr(new ChildAxisResolver(new QName("award"))))))),
+                        namespaceContext),
+                    arguments(
+                        "and[or and and]",
+                        pathExpr(
+                            stepExpr(
+                                new ChildAxisResolver(new QName("and")),
+                                new AndExpr(
+                                    pathExpr(stepExpr(new ChildAxisResolver(new QName("or")))),
+                                    pathExpr(
+                                        stepExpr(new ChildAxisResolver(new QName("and"))))))),
+                        namespaceContext),
+                    arguments(
+                        "/book/author | /book/@id",
+                        new UnionExpr(
+                            asList(
+                                pathExpr(
+                                    new Root(),
+                                    stepExpr(new ChildAxisResolver(new QName("book"))),
+                                    stepExpr(new ChildAxisResolver(new QName("author")))),
+                                pathExpr(
+                                    new Root(),
+                                    stepExpr(new ChildAxisResolver(new QName("book"))),
+                                    stepExpr(new AttributeAxisResolver(new QName("id")))))),
+                        namespaceContext),
                     arguments(
                         "ancestor::book[1]",
                         pathExpr(
@@ -393,6 +448,9 @@ class XPathParserTest {
                     arguments("my:book:com", namespaceContext),
                     arguments("bo@k", namespaceContext),
                     arguments("book[]", namespaceContext),
+                    arguments("book[@id and]", namespaceContext),
+                    arguments("book | 'title'", namespaceContext),
+                    arguments("book |", namespaceContext),
                     arguments("book[]]", namespaceContext),
                     arguments("book[[]", namespaceContext),
                     arguments("book[@style='value\"]", namespaceContext)));
@@ -435,7 +493,59 @@ class XPathParserTest {
         .hasMessageMatching("(Expected tokens.+|Expected no more tokens but was.+)");
   }
 
-  private static Expr pathExpr(StepExpr... steps) {
+  @Test
+  @DisplayName("Should reuse cached expressions across parsers with the same context")
+  void shouldReuseCachedExpressions() throws XPathExpressionException {
+    var cache = new ParseCache(16, 1);
+    var namespaceContext = new SimpleNamespaceContext();
+
+    var expr = new XPathParser(namespaceContext, cache).parse("/my:a/b");
+
+    assertThat(new XPathParser(namespaceContext, cache).parse("/my:a/b")).isSameAs(expr);
+    assertThat(new XPathParser(null, cache).parse("/my:a/b")).isNotSameAs(expr);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("Should optimize parsed expressions and cache them separately")
+  void shouldOptimizeParsedExpressions() throws XPathExpressionException {
+    var cache = new ParseCache(16, 1);
+    var parser = new XPathParser(null, cache);
+
+    var expr = parser.parse("book[1 + 1]");
+    var optimizedExpr = parser.withOptimization(true).parse("book[1 + 1]");
+
+    assertThat(optimizedExpr).hasToString(parser.parse("book[2]").toString());
+    assertThat(expr.toString()).isNotEqualTo(optimizedExpr.toString());
+    assertThat(cache.size()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("Should report every parsed XPath to listener including cached ones")
+  void shouldReportParsedXPaths() throws XPathExpressionException {
+    var listener = mock(EvaluationListener.class);
+    var parser = new XPathParser(null, new ParseCache(16)).withListener(listener);
+
+    parser.parse("book");
+    parser.withOptimization(true).parse("book");
+    parser.withListener(null).parse("book");
+
+    verify(listener, times(2)).xpathParsed(eq("book"), anyLong());
+  }
+
+  @Test
+  @DisplayName("Should not cache malformed XPath")
+  void shouldNotCacheMalformedXPath() {
+    var cache = new ParseCache(16, 1);
+
+    assertThatThrownBy(() -> new XPathParser(null, cache).parse("book[]"))
+        .isInstanceOf(XPathParserException.class);
+    assertThat(cache.size()).isZero();
+  }
+
+  private static PathExpr pathExpr(StepExpr... steps) {
     return new PathExpr(asList(steps));
   }
 
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassCacheTest {
+
+  @Test
+  void shouldCacheValuesByClass() {
+    var cache = new ClassCache<String>(16);
+
+    assertThat(cache.get(String.class)).isNull();
+    assertThat(cache.putIfAbsent(String.class, "string")).isEqualTo("string");
+    assertThat(cache.putIfAbsent(String.class, "another")).isEqualTo("string");
+    assertThat(cache.get(String.class)).isEqualTo("string");
+    assertThat(cache.get(Object.class)).isNull();
+  }
+
+  @Test
+  void shouldStopCachingOnceFull() {
+    var cache = new ClassCache<String>(1);
+    cache.putIfAbsent(String.class, "string");
+
+    assertThat(cache.putIfAbsent(Integer.class, "integer")).isEqualTo("integer");
+    assertThat(cache.get(Integer.class)).isNull();
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  void shouldRejectNonPositiveSize() {
+    assertThatThrownBy(() -> new ClassCache<String>(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LruCacheTest {
+
+  @Test
+  @DisplayName("Should count hits and misses")
+  void shouldCountHitsAndMisses() {
+    var cache = new LruCache<String, String>(4);
+
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.putIfAbsent("a", "1")).isEqualTo("1");
+    assertThat(cache.putIfAbsent("a", "2")).isEqualTo("1");
+    assertThat(cache.get("a")).isEqualTo("1");
+
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getEvictionCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should evict least recently used entries")
+  void shouldEvictLeastRecentlyUsedEntries() {
+    var cache = new LruCache<String, String>(2, 1);
+    cache.putIfAbsent("a", "1");
+    cache.putIfAbsent("b", "2");
+    cache.get("a");
+    cache.putIfAbsent("c", "3");
+
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.get("c")).isEqualTo("3");
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Should not split small caches into segments of a few entries")
+  void shouldKeepEntriesOfSmallCaches() {
+    var cache = new LruCache<Integer, Integer>(16);
+    for (var i = 0; i < 8; i++) {
+      cache.putIfAbsent(i * 16, i);
+    }
+
+    assertThat(cache.size()).isEqualTo(8);
+    assertThat(cache.getEvictionCount()).isZero();
+  }
+
+  @Test
+  @DisplayName("Should never exceed maximum size")
+  void shouldNeverExceedMaximumSize() throws InterruptedException, ExecutionException {
+    var cache = new LruCache<Integer, Integer>(100);
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var futures = new ArrayList<Future<?>>();
+      for (var t = 0; t < 4; t++) {
+        final var offset = t * 1000;
+        futures.add(
+            executor.submit(
+                (Callable<Void>)
+                    () -> {
+                      for (var i = 0; i < 1000; i++) {
+                        cache.putIfAbsent(offset + i, i);
+                      }
+                      return null;
+                    }));
+      }
+      for (var future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(cache.size()).isLessThanOrEqualTo(100);
+    assertThat(cache.getEvictionCount()).isEqualTo(4000 - cache.size());
+  }
+
+  @Test
+  @DisplayName("Should reject non positive sizes")
+  void shouldRejectNonPositiveSizes() {
+    assertThatThrownBy(() -> new LruCache<String, String>(0))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new LruCache<String, String>(10, 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
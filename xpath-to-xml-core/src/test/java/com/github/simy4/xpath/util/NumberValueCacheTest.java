@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NumberValueCacheTest {
+
+  @Mock private Navigator<Node> navigator;
+  @Mock private Node child;
+  @Mock private Node parent;
+  @Mock private Node sibling;
+
+  @Test
+  void shouldParseTextOfNodeOnlyOnce() {
+    var cache = new NumberValueCache<Node>();
+    when(child.getText()).thenReturn("42");
+
+    assertThat(cache.numberOf(child)).isEqualTo(42.0);
+    assertThat(cache.numberOf(child)).isEqualTo(42.0);
+    verify(child, times(1)).getText();
+  }
+
+  @Test
+  void shouldInvalidateNodeAndItsAncestors() {
+    var cache = new NumberValueCache<Node>();
+    when(child.getText()).thenReturn("1");
+    when(parent.getText()).thenReturn("2");
+    when(sibling.getText()).thenReturn("3");
+    when(navigator.parentOf(child)).thenReturn(parent);
+    cache.numberOf(child);
+    cache.numberOf(parent);
+    cache.numberOf(sibling);
+
+    cache.invalidate(navigator, child);
+    cache.numberOf(child);
+    cache.numberOf(parent);
+    cache.numberOf(sibling);
+
+    verify(child, times(2)).getText();
+    verify(parent, times(2)).getText();
+    verify(sibling, times(1)).getText();
+  }
+
+  @Test
+  void shouldNotWalkAncestorsOfEmptyCache() {
+    var cache = new NumberValueCache<Node>();
+
+    cache.invalidate(navigator, child);
+
+    verify(navigator, never()).parentOf(any());
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class NumbersTest {
+
+  static Stream<Arguments> texts() {
+    return Stream.of(
+        arguments(""),
+        arguments("   "),
+        arguments("123"),
+        arguments(" -1.5 "),
+        arguments("+.5"),
+        arguments("5."),
+        arguments("1e3"),
+        arguments("1.0d"),
+        arguments("2f"),
+        arguments("0x10"),
+        arguments("NaN"),
+        arguments("Infinity"),
+        arguments("-Infinity"),
+        arguments("abc"),
+        arguments("12abc"),
+        arguments("1 2"),
+        arguments("-"),
+        arguments("."));
+  }
+
+  @ParameterizedTest(name = "Given text \"{0}\"")
+  @MethodSource("texts")
+  void shouldParseNumbersLikeDoubleParseDouble(String text) {
+    Double expected;
+    try {
+      expected = Double.parseDouble(text);
+    } catch (NumberFormatException nfe) {
+      expected = Double.NaN;
+    }
+
+    assertThat((Double) Numbers.parseDouble(text)).isEqualTo(expected);
+  }
+}
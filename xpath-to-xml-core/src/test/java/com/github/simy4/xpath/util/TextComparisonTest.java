@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class TextComparisonTest {
+
+  static Stream<Arguments> chunks() {
+    return Stream.of(
+        arguments(new String[0], ""),
+        arguments(new String[0], "abc"),
+        arguments(new String[] {"abc"}, ""),
+        arguments(new String[] {"a", "b", "c"}, "abc"),
+        arguments(new String[] {"ab", "", "c"}, "abd"),
+        arguments(new String[] {"ab", "d"}, "abc"),
+        arguments(new String[] {"ab", "cd"}, "abc"),
+        arguments(new String[] {"a", "b"}, "abc"),
+        arguments(new String[] {"b", "a"}, "abc"));
+  }
+
+  @ParameterizedTest(name = "Given text {1}")
+  @MethodSource("chunks")
+  void shouldCompareChunkedTextLikeString(String[] chunks, String text) {
+    var offset = 0;
+    for (var chunk : chunks) {
+      offset = TextComparison.compare(chunk, text, offset);
+    }
+
+    assertThat(Integer.signum(TextComparison.result(text, offset)))
+        .isEqualTo(Integer.signum(String.join("", chunks).compareTo(text)));
+  }
+
+  @Test
+  void shouldStopAtFirstDifferingCharacter() {
+    var offset = TextComparison.compare("ax", "abc", 0);
+
+    assertThat(offset).isEqualTo(TextComparison.GREATER);
+    assertThat(TextComparison.compare("c", "abc", offset)).isEqualTo(TextComparison.GREATER);
+  }
+}
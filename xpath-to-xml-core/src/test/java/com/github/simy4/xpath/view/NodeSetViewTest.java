@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.view;
+
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.util.TestNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+
+import static com.github.simy4.xpath.util.TestNode.node;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import static java.util.Arrays.asList;
+
+@ExtendWith(MockitoExtension.class)
+class NodeSetViewTest {
+
+  @Mock private IdentityNavigator<TestNode> navigator;
+
+  @Test
+  void shouldDeduplicateEqualNodesByDefault() {
+    var nodeSet = NodeSetView.of(asList(node("node"), node("node")), node -> true);
+
+    assertThat((Iterable<?>) nodeSet).hasSize(1);
+  }
+
+  @Test
+  void shouldDeduplicateNodesByIdentityOfModelObjects() {
+    when(navigator.modelOf(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    var node = node("node");
+    var nodeSet = NodeSetView.of(navigator, asList(node, node("node"), node), n -> true);
+
+    assertThat((Iterable<?>) nodeSet).hasSize(2);
+    assertThat((Iterable<?>) nodeSet.flatMap(view -> nodeSet)).hasSize(2);
+  }
+
+  @Test
+  void shouldIterateSinglePassNodeSetWithoutMemoizing() {
+    var nodes = new ArrayList<>(asList(node("node1"), node("node2")));
+    var nodeSet = NodeSetView.singlePass(NodeSetView.of(nodes, node -> true));
+
+    assertThat((Iterable<?>) nodeSet)
+        .extracting("node", "position")
+        .containsExactly(tuple(node("node1"), 1), tuple(node("node2"), 2));
+    nodes.add(node("node3"));
+    assertThat((Iterable<?>) nodeSet).hasSize(3);
+  }
+
+  @Test
+  void shouldKeepMemoizingNodeSetThatWasAlreadyIterated() {
+    var nodeSet = NodeSetView.of(asList(node("node1"), node("node2")), node -> true);
+    nodeSet.iterator();
+
+    assertThat((Iterable<?>) NodeSetView.singlePass(nodeSet)).isSameAs(nodeSet);
+  }
+}
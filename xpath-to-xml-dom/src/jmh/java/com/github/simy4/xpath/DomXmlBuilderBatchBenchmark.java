@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import com.github.simy4.xpath.fixtures.GeneratedFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathExpressionException;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class DomXmlBuilderBatchBenchmark {
+
+  @Param({"1", "2", "4", "8"})
+  public int threads;
+
+  @Param({"1000"})
+  public int batchSize;
+
+  private DocumentBuilder documentBuilder;
+  private XmlBuilder xmlBuilder;
+  private ExecutorService executor;
+
+  @Setup
+  public void setUp() throws ParserConfigurationException, XPathExpressionException {
+    documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    xmlBuilder = new XmlBuilder().putAll(new GeneratedFixture(10, 2).getXmlProperties());
+    executor = Executors.newFixedThreadPool(threads);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Benchmark
+  public void shouldBuildBatchOfDocuments(Blackhole blackhole)
+      throws ExecutionException, InterruptedException {
+    var documents = new ArrayList<Document>(batchSize);
+    for (var i = 0; i < batchSize; i++) {
+      documents.add(documentBuilder.newDocument());
+    }
+    for (var result : xmlBuilder.buildAll(documents, executor)) {
+      blackhole.consume(result.get());
+    }
+  }
+}
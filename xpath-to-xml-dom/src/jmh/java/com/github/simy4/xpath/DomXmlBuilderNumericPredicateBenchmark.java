@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathExpressionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DomXmlBuilderNumericPredicateBenchmark {
+
+  private static final int[] THRESHOLDS = {10, 50, 90, 99};
+
+  @Param({"100000"})
+  public int items;
+
+  private Document document;
+  private XmlBuilder sharedBuilder;
+  private List<XmlBuilder> separateBuilders;
+
+  @Setup
+  public void setUp() throws ParserConfigurationException, XPathExpressionException {
+    document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var root = document.createElement("items");
+    document.appendChild(root);
+    for (var i = 0; i < items; i++) {
+      var item = document.createElement("item");
+      var price = document.createElement("price");
+      price.setTextContent(i % 10 == 0 ? "n/a" : Integer.toString(i % 100));
+      item.appendChild(price);
+      item.appendChild(document.createElement("name")).setTextContent("item" + i);
+      root.appendChild(item);
+    }
+    sharedBuilder = new XmlBuilder();
+    separateBuilders = new ArrayList<XmlBuilder>(THRESHOLDS.length);
+    for (var threshold : THRESHOLDS) {
+      var xpath = "/items/item[price > " + threshold + "]/flag" + threshold;
+      sharedBuilder.put(xpath, "true");
+      separateBuilders.add(new XmlBuilder().put(xpath, "true"));
+    }
+  }
+
+  @Benchmark
+  public Document shouldFilterByNumericPredicatesInOneBuild() {
+    return sharedBuilder.build(document);
+  }
+
+  @Benchmark
+  public Document shouldFilterByNumericPredicatesInSeparateBuilds() {
+    for (var xmlBuilder : separateBuilders) {
+      xmlBuilder.build(document);
+    }
+    return document;
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import com.github.simy4.xpath.benchmark.AbstractXmlBuilderBenchmark;
+import org.w3c.dom.Document;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+public class DomXmlBuilderPhaseBenchmark extends AbstractXmlBuilderBenchmark<Document> {
+
+  private final DocumentBuilder documentBuilder = newDocumentBuilder();
+
+  @Override
+  protected Document newDocument() {
+    return documentBuilder.newDocument();
+  }
+
+  private static DocumentBuilder newDocumentBuilder() {
+    try {
+      return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    } catch (ParserConfigurationException pce) {
+      throw new IllegalStateException(pce.getMessage(), pce);
+    }
+  }
+}
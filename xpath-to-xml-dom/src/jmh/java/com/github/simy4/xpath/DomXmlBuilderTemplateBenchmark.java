@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath;
+
+import com.github.simy4.xpath.fixtures.FixtureAccessor;
+import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathExpressionException;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@BenchmarkMode(Mode.Throughput)
+@State(Scope.Benchmark)
+public class DomXmlBuilderTemplateBenchmark {
+
+  private static final Map<String, NamespaceContext> NAMESPACE_CONTEXT_MAP;
+
+  static {
+    Map<String, NamespaceContext> namespaceContextMap = new HashMap<String, NamespaceContext>();
+    namespaceContextMap.put("null", null);
+    namespaceContextMap.put("simple", new SimpleNamespaceContext());
+    NAMESPACE_CONTEXT_MAP = Collections.unmodifiableMap(namespaceContextMap);
+  }
+
+  @Param({"simple", "ns-simple", "attr", "special"})
+  public String fixtureName;
+
+  @Param({"simple"})
+  public String nsContext;
+
+  private DocumentBuilder documentBuilder;
+  private NamespaceContext namespaceContext;
+  private Map<String, Object> xmlProperties;
+  private Object[] values;
+  private XmlBuilderTemplate template;
+
+  @Setup
+  public void setUp() throws ParserConfigurationException, XPathExpressionException {
+    var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    namespaceContext = NAMESPACE_CONTEXT_MAP.get(nsContext);
+    xmlProperties = new FixtureAccessor(fixtureName).getXmlProperties();
+    values = xmlProperties.values().toArray();
+    template = new XmlBuilder(namespaceContext).compile(xmlProperties.keySet());
+  }
+
+  @Benchmark
+  public void shouldBuildDocumentByParsingXPaths(Blackhole blackhole)
+      throws XPathExpressionException {
+    var document = documentBuilder.newDocument();
+    document.setXmlStandalone(true);
+    blackhole.consume(new XmlBuilder(namespaceContext).putAll(xmlProperties).build(document));
+  }
+
+  @Benchmark
+  public void shouldBuildDocumentFromTemplateBoundByXPath(Blackhole blackhole) {
+    var document = documentBuilder.newDocument();
+    document.setXmlStandalone(true);
+    blackhole.consume(template.bind(xmlProperties).build(document));
+  }
+
+  @Benchmark
+  public void shouldBuildDocumentFromTemplateBoundByPosition(Blackhole blackhole) {
+    var document = documentBuilder.newDocument();
+    document.setXmlStandalone(true);
+    blackhole.consume(template.bind(values).build(document));
+  }
+}
@@ -40,12 +40,13 @@ final class DomAttributesIterable implements Iterable<DomNode> {
     private int cursor;
 
     DomAttributesIterator(Node parent) {
+      // only element nodes have attributes
       attributes = parent.getAttributes();
     }
 
     @Override
     public boolean hasNext() {
-      return cursor < attributes.getLength();
+      return null != attributes && cursor < attributes.getLength();
     }
 
     @Override
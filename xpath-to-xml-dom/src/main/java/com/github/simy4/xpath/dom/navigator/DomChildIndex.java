@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.dom.navigator;
+
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.QName;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Index of child elements by name. Parents are indexed lazily on first lookup, and only if they
+ * have at least {@link #MIN_INDEXED_CHILDREN} child elements, so that small parents are scanned as
+ * before. Indexed parents are kept current by navigator modifications.
+ */
+final class DomChildIndex {
+
+  static final int MIN_INDEXED_CHILDREN = 16;
+
+  private final Map<Node, DomElementsByName> index = new IdentityHashMap<Node, DomElementsByName>();
+
+  /**
+   * Child elements of given parent with given name.
+   *
+   * @param parent parent node to look up
+   * @param name child elements name
+   * @return matching child elements or {@code null} if parent is too small to be indexed
+   */
+  Iterable<DomNode> elementsOf(Node parent, QName name) {
+    DomElementsByName children = index.get(parent);
+    if (null == children) {
+      children = index(parent);
+      if (null == children) {
+        return null;
+      }
+      index.put(parent, children);
+    }
+    return new DomIndexedIterable(children.elementsOf(name));
+  }
+
+  void appended(Node parent, Node child) {
+    final DomElementsByName children = index.get(parent);
+    if (null != children) {
+      children.elementsOf(child).add(child);
+    }
+  }
+
+  void insertedBefore(Node parent, Node child, Node reference) {
+    final DomElementsByName children = index.get(parent);
+    if (null != children && Node.ELEMENT_NODE == child.getNodeType()) {
+      final List<Node> elements = children.elementsOf(child);
+      final int position = indexOf(elements, reference, 0);
+      elements.add(position < 0 ? elements.size() : position, child);
+    }
+  }
+
+  void insertedBefore(Node parent, List<Node> copies, Node reference) {
+    final DomElementsByName children = index.get(parent);
+    if (null != children && Node.ELEMENT_NODE == reference.getNodeType()) {
+      final List<Node> elements = children.elementsOf(reference);
+      final int position = indexOf(elements, reference, 0);
+      elements.addAll(position < 0 ? elements.size() : position, copies);
+    }
+  }
+
+  void removed(Node parent, Node child) {
+    index.remove(child);
+    final DomElementsByName children = index.get(parent);
+    if (null != children && Node.ELEMENT_NODE == child.getNodeType()) {
+      final List<Node> elements = children.elementsOf(child);
+      final int position = indexOf(elements, child, 0);
+      if (position >= 0) {
+        elements.remove(position);
+      }
+    }
+  }
+
+  void childrenReplaced(Node parent) {
+    index.remove(parent);
+  }
+
+  private static DomElementsByName index(Node parent) {
+    int count = 0;
+    for (Node child = parent.getFirstChild();
+        null != child && count < MIN_INDEXED_CHILDREN;
+        child = child.getNextSibling()) {
+      if (Node.ELEMENT_NODE == child.getNodeType()) {
+        count += 1;
+      }
+    }
+    if (count < MIN_INDEXED_CHILDREN) {
+      return null;
+    }
+    final DomElementsByName children = new DomElementsByName();
+    for (Node child = parent.getFirstChild(); null != child; child = child.getNextSibling()) {
+      if (Node.ELEMENT_NODE == child.getNodeType()) {
+        children.elementsOf(child).add(child);
+      }
+    }
+    return children;
+  }
+
+  private static int indexOf(List<Node> elements, Node node, int hint) {
+    if (hint < elements.size() && elements.get(hint) == node) {
+      return hint;
+    }
+    for (int i = 0; i < elements.size(); i++) {
+      if (elements.get(i) == node) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  static final class DomIndexedIterable implements Iterable<DomNode> {
+
+    private final List<Node> elements;
+
+    DomIndexedIterable(List<Node> elements) {
+      this.elements = elements;
+    }
+
+    @Override
+    public Iterator<DomNode> iterator() {
+      return new DomIndexedIterator(elements);
+    }
+  }
+
+  /**
+   * Mirrors {@link DomElementsIterable} semantics for live DOM: next element is located when the
+   * previous one is returned, so modifications around already returned elements are tolerated.
+   */
+  private static final class DomIndexedIterator implements Iterator<DomNode> {
+
+    private final List<Node> elements;
+    private Node next;
+    private int cursor;
+
+    DomIndexedIterator(List<Node> elements) {
+      this.elements = elements;
+      this.next = elements.isEmpty() ? null : elements.get(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return null != next;
+    }
+
+    @Override
+    public DomNode next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more elements");
+      }
+      final Node current = next;
+      final int position = indexOf(elements, current, cursor);
+      cursor = position + 1;
+      next = position < 0 || cursor >= elements.size() ? null : elements.get(cursor);
+      return new DomNode(current);
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.dom.navigator;
+
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.QName;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Index of descendant elements of the document by name, in the level by level order of the
+ * descendant axis. The document is indexed lazily on first lookup with a single walk, so that
+ * repeated deep lookups within one build cost as much as their matches. Navigator modifications
+ * append new elements and mark names of added or removed elements, and lists of marked names are
+ * put back in order on their next lookup.
+ */
+final class DomDescendantIndex {
+
+  private final Set<List<Node>> modified =
+      Collections.newSetFromMap(new IdentityHashMap<List<Node>, Boolean>());
+  private DomElementsByName index;
+
+  /**
+   * Descendant elements of given document with given name.
+   *
+   * @param document document node to look up
+   * @param name non-wildcard descendant elements name
+   * @return matching descendant elements
+   */
+  Iterable<DomNode> descendantsOf(Node document, QName name) {
+    if (null == index) {
+      index = index(document);
+      modified.clear();
+    }
+    List<Node> elements = index.elementsOf(name);
+    if (modified.remove(elements)) {
+      elements = reorder(document, elements);
+      index.put(name, elements);
+    }
+    return new DomChildIndex.DomIndexedIterable(elements);
+  }
+
+  void appended(Node element) {
+    if (null != index) {
+      final List<Node> elements = index.elementsOf(element);
+      elements.add(element);
+      modified.add(elements);
+    }
+  }
+
+  void inserted(Node copy) {
+    if (null != index) {
+      final Queue<Node> elements = new ArrayDeque<Node>();
+      elements.offer(copy);
+      Node element;
+      while (null != (element = elements.poll())) {
+        appended(element);
+        offerChildElements(elements, element);
+      }
+    }
+  }
+
+  void removed(Node node) {
+    if (null != index && Node.ELEMENT_NODE == node.getNodeType()) {
+      final Queue<Node> elements = new ArrayDeque<Node>();
+      elements.offer(node);
+      Node element;
+      while (null != (element = elements.poll())) {
+        modified.add(index.elementsOf(element));
+        offerChildElements(elements, element);
+      }
+    }
+  }
+
+  void childrenRemoved(Node parent) {
+    if (null != index) {
+      for (Node child = parent.getFirstChild(); null != child; child = child.getNextSibling()) {
+        removed(child);
+      }
+    }
+  }
+
+  private static DomElementsByName index(Node document) {
+    final DomElementsByName descendants = new DomElementsByName();
+    final Queue<Node> elements = new ArrayDeque<Node>();
+    offerChildElements(elements, document);
+    Node element;
+    while (null != (element = elements.poll())) {
+      descendants.elementsOf(element).add(element);
+      offerChildElements(elements, element);
+    }
+    return descendants;
+  }
+
+  private static void offerChildElements(Queue<Node> elements, Node parent) {
+    for (Node child = parent.getFirstChild(); null != child; child = child.getNextSibling()) {
+      if (Node.ELEMENT_NODE == child.getNodeType()) {
+        elements.offer(child);
+      }
+    }
+  }
+
+  private static List<Node> reorder(Node document, List<Node> elements) {
+    final Map<Node, Integer> depths = new IdentityHashMap<Node, Integer>();
+    final List<Node> attached = new ArrayList<Node>(elements.size());
+    for (Node element : elements) {
+      final int depth = depthOf(document, element);
+      if (depth > 0 && null == depths.put(element, depth)) {
+        attached.add(element);
+      }
+    }
+    Collections.sort(attached, new LevelOrder(depths));
+    return attached;
+  }
+
+  private static int depthOf(Node document, Node element) {
+    int depth = 0;
+    for (Node node = element; null != node; node = node.getParentNode()) {
+      if (node == document) {
+        return depth;
+      }
+      depth += 1;
+    }
+    return -1;
+  }
+
+  private static final class LevelOrder implements Comparator<Node> {
+
+    private final Map<Node, Integer> depths;
+
+    LevelOrder(Map<Node, Integer> depths) {
+      this.depths = depths;
+    }
+
+    @Override
+    public int compare(Node left, Node right) {
+      final int depthComparison = depths.get(left).compareTo(depths.get(right));
+      if (0 != depthComparison || left == right) {
+        return depthComparison;
+      }
+      return 0 != (left.compareDocumentPosition(right) & Node.DOCUMENT_POSITION_FOLLOWING)
+          ? -1
+          : 1;
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.dom.navigator;
+
+import org.w3c.dom.Node;
+
+import javax.xml.namespace.QName;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+final class DomDescendantsIterable implements Iterable<DomNode> {
+
+  private final Node parent;
+  private final String namespaceUri;
+  private final String localPart;
+
+  DomDescendantsIterable(Node parent, QName name) {
+    this.parent = parent;
+    this.namespaceUri = wildcardToNull(name.getNamespaceURI());
+    this.localPart = wildcardToNull(name.getLocalPart());
+  }
+
+  @Override
+  public Iterator<DomNode> iterator() {
+    return new DomDescendantsIterator(parent, namespaceUri, localPart);
+  }
+
+  private static String wildcardToNull(String name) {
+    return "*".equals(name) ? null : name;
+  }
+
+  private static final class DomDescendantsIterator implements Iterator<DomNode> {
+
+    private final Queue<Node> parents = new ArrayDeque<Node>();
+    private final String namespaceUri;
+    private final String localPart;
+    private Node child;
+    private Node next;
+
+    DomDescendantsIterator(Node parent, String namespaceUri, String localPart) {
+      this.namespaceUri = namespaceUri;
+      this.localPart = localPart;
+      this.child = parent.getFirstChild();
+      this.next = nextElement();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return null != next;
+    }
+
+    @Override
+    public DomNode next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more elements");
+      }
+      final Node current = next;
+      next = nextElement();
+      return new DomNode(current);
+    }
+
+    private Node nextElement() {
+      while (true) {
+        while (null != child) {
+          final Node candidate = child;
+          child = candidate.getNextSibling();
+          if (Node.ELEMENT_NODE == candidate.getNodeType()) {
+            parents.offer(candidate);
+            if (matches(candidate)) {
+              return candidate;
+            }
+          }
+        }
+        final Node parent = parents.poll();
+        if (null == parent) {
+          return null;
+        }
+        child = parent.getFirstChild();
+      }
+    }
+
+    private boolean matches(Node element) {
+      final String elementLocalName = element.getLocalName();
+      final String elementNamespaceUri;
+      final String elementLocalPart;
+      if (null == elementLocalName) {
+        elementNamespaceUri = "";
+        elementLocalPart = element.getNodeName();
+      } else {
+        final String uri = element.getNamespaceURI();
+        elementNamespaceUri = null == uri ? "" : uri;
+        elementLocalPart = elementLocalName;
+      }
+      return (null == namespaceUri || namespaceUri.equals(elementNamespaceUri))
+          && (null == localPart || localPart.equals(elementLocalPart));
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.dom.navigator;
+
+import org.w3c.dom.Node;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists of elements grouped by namespace URI and local name, matched the same way as {@link
+ * DomNode#hasName(String, String)} does. Names are read from DOM nodes as is, so grouping neither
+ * allocates per element nor fails on namespace aware elements without prefix.
+ */
+final class DomElementsByName {
+
+  private final Map<String, Map<String, List<Node>>> elements =
+      new HashMap<String, Map<String, List<Node>>>();
+
+  /**
+   * Elements with the same name as a given element.
+   *
+   * @param element element to look up
+   * @return list of elements that is created if absent
+   */
+  List<Node> elementsOf(Node element) {
+    final String localName = element.getLocalName();
+    if (null == localName) {
+      return elementsOf(XMLConstants.NULL_NS_URI, element.getNodeName());
+    }
+    final String namespaceUri = element.getNamespaceURI();
+    return elementsOf(null == namespaceUri ? XMLConstants.NULL_NS_URI : namespaceUri, localName);
+  }
+
+  /**
+   * Elements with given name.
+   *
+   * @param name non-wildcard elements name
+   * @return list of elements that is created if absent
+   */
+  List<Node> elementsOf(QName name) {
+    return elementsOf(name.getNamespaceURI(), name.getLocalPart());
+  }
+
+  /**
+   * Replaces elements with given name.
+   *
+   * @param name non-wildcard elements name
+   * @param elements new list of elements
+   */
+  void put(QName name, List<Node> elements) {
+    namespacesOf(name.getLocalPart()).put(name.getNamespaceURI(), elements);
+  }
+
+  private List<Node> elementsOf(String namespaceUri, String localPart) {
+    final Map<String, List<Node>> namespaces = namespacesOf(localPart);
+    List<Node> list = namespaces.get(namespaceUri);
+    if (null == list) {
+      list = new ArrayList<Node>();
+      namespaces.put(namespaceUri, list);
+    }
+    return list;
+  }
+
+  private Map<String, List<Node>> namespacesOf(String localPart) {
+    Map<String, List<Node>> namespaces = elements.get(localPart);
+    if (null == namespaces) {
+      namespaces = new HashMap<String, List<Node>>();
+      elements.put(localPart, namespaces);
+    }
+    return namespaces;
+  }
+}
@@ -16,7 +16,12 @@
 package com.github.simy4.xpath.dom.navigator;
 
 import com.github.simy4.xpath.XmlBuilderException;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.NameLookupNavigator;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.util.NumberValueCache;
 import org.w3c.dom.Attr;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
@@ -26,9 +31,22 @@ import org.w3c.dom.Node;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public final class DomNavigator implements Navigator<DomNode> {
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public final class DomNavigator
+    implements NameLookupNavigator<DomNode>,
+        DescendantNavigator<DomNode>,
+        IdentityNavigator<DomNode>,
+        BulkCopyNavigator<DomNode>,
+        NumberValueNavigator<DomNode> {
 
   private final Document document;
+  private final DomChildIndex childIndex = new DomChildIndex();
+  private final DomDescendantIndex descendantIndex = new DomDescendantIndex();
+  private final NumberValueCache<DomNode> numbers = new NumberValueCache<DomNode>();
 
   public DomNavigator(Node xml) {
     this.document =
@@ -55,11 +73,59 @@ public final class DomNavigator implements Navigator<DomNode> {
     return new DomElementsIterable(parent.getNode());
   }
 
+  @Override
+  public Iterable<DomNode> elementsOf(DomNode parent, QName name) {
+    final Iterable<DomNode> elements = childIndex.elementsOf(parent.getNode(), name);
+    return null == elements ? elementsOf(parent) : elements;
+  }
+
+  @Override
+  public Iterable<DomNode> descendantsOf(DomNode parent, QName name) {
+    final Node parentNode = parent.getNode();
+    if (parentNode == document
+        && !"*".equals(name.getNamespaceURI())
+        && !"*".equals(name.getLocalPart())) {
+      return descendantIndex.descendantsOf(document, name);
+    }
+    return new DomDescendantsIterable(parentNode, name);
+  }
+
+  @Override
+  public Object modelOf(DomNode node) {
+    return node.getNode();
+  }
+
+  @Override
+  public double numberOf(DomNode node) {
+    return numbers.numberOf(node);
+  }
+
   @Override
   public Iterable<DomNode> attributesOf(final DomNode parent) {
     return new DomAttributesIterable(parent.getNode());
   }
 
+  @Override
+  public Iterable<DomNode> attributesOf(final DomNode parent, final QName name) {
+    return new Iterable<DomNode>() {
+      @Override
+      public Iterator<DomNode> iterator() {
+        final Node parentNode = parent.getNode();
+        if (Node.ELEMENT_NODE != parentNode.getNodeType()) {
+          return Collections.<DomNode>emptyList().iterator();
+        }
+        final Element parentElement = (Element) parentNode;
+        final Attr attr =
+            XMLConstants.NULL_NS_URI.equals(name.getNamespaceURI())
+                ? parentElement.getAttributeNode(name.getLocalPart())
+                : parentElement.getAttributeNodeNS(name.getNamespaceURI(), name.getLocalPart());
+        return null == attr
+            ? Collections.<DomNode>emptyList().iterator()
+            : Collections.singletonList(new DomNode(attr)).iterator();
+      }
+    };
+  }
+
   @Override
   public DomNode createAttribute(DomNode parent, QName attribute) throws XmlBuilderException {
     final Node parentNode = parent.getNode();
@@ -93,7 +159,11 @@ public final class DomNavigator implements Navigator<DomNode> {
         elem = document.createElementNS(element.getNamespaceURI(), element.getLocalPart());
         elem.setPrefix(element.getPrefix());
       }
-      return new DomNode(parent.getNode().appendChild(elem));
+      final Node parentNode = parent.getNode();
+      parentNode.appendChild(elem);
+      childIndex.appended(parentNode, elem);
+      descendantIndex.appended(elem);
+      return new DomNode(elem);
     } catch (DOMException de) {
       throw new XmlBuilderException("Unable to create element: " + element, de);
     }
@@ -101,8 +171,12 @@ public final class DomNavigator implements Navigator<DomNode> {
 
   @Override
   public void setText(DomNode node, String text) {
+    numbers.invalidate(this, node);
     try {
-      node.getNode().setTextContent(text);
+      final Node wrappedNode = node.getNode();
+      descendantIndex.childrenRemoved(wrappedNode);
+      wrappedNode.setTextContent(text);
+      childIndex.childrenReplaced(wrappedNode);
     } catch (DOMException de) {
       throw new XmlBuilderException("Unable to set text content to " + node, de);
     }
@@ -110,6 +184,7 @@ public final class DomNavigator implements Navigator<DomNode> {
 
   @Override
   public void prependCopy(DomNode node) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     final Node wrappedNode = node.getNode();
     final Node copiedNode = wrappedNode.cloneNode(true);
     try {
@@ -118,13 +193,39 @@ public final class DomNavigator implements Navigator<DomNode> {
         throw new XmlBuilderException("Unable to prepend - no parent found of " + node);
       }
       parent.insertBefore(copiedNode, wrappedNode);
+      childIndex.insertedBefore(parent, copiedNode, wrappedNode);
+      descendantIndex.inserted(copiedNode);
     } catch (DOMException de) {
       throw new XmlBuilderException("Unable to prepend node " + copiedNode + " to " + node, de);
     }
   }
 
+  @Override
+  public void prependCopies(DomNode node, int count) throws XmlBuilderException {
+    numbers.invalidate(this, node);
+    final Node wrappedNode = node.getNode();
+    final Node parent = wrappedNode.getParentNode();
+    if (null == parent) {
+      throw new XmlBuilderException("Unable to prepend - no parent found of " + node);
+    }
+    final List<Node> copiedNodes = new ArrayList<Node>(count);
+    try {
+      for (int i = 0; i < count; i++) {
+        final Node copiedNode = wrappedNode.cloneNode(true);
+        parent.insertBefore(copiedNode, wrappedNode);
+        copiedNodes.add(copiedNode);
+        descendantIndex.inserted(copiedNode);
+      }
+    } catch (DOMException de) {
+      throw new XmlBuilderException("Unable to prepend copies of " + node, de);
+    } finally {
+      childIndex.insertedBefore(parent, copiedNodes, wrappedNode);
+    }
+  }
+
   @Override
   public void remove(DomNode node) {
+    numbers.invalidate(this, node);
     try {
       final Node wrappedNode = node.getNode();
       if (wrappedNode.getNodeType() == Node.ATTRIBUTE_NODE) {
@@ -142,6 +243,8 @@ public final class DomNavigator implements Navigator<DomNode> {
               "Unable to remove node " + node + ". Node either root or in detached state");
         }
         parent.removeChild(wrappedNode);
+        childIndex.removed(parent, wrappedNode);
+        descendantIndex.removed(wrappedNode);
       }
     } catch (DOMException de) {
       throw new XmlBuilderException("Unable to remove child node " + node, de);
@@ -15,13 +15,17 @@
  */
 package com.github.simy4.xpath.dom.navigator;
 
-import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
+import com.github.simy4.xpath.navigator.TextComparableNode;
+import com.github.simy4.xpath.util.TextComparison;
+import org.w3c.dom.Text;
 
+import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
 import java.io.Serializable;
 
-public final class DomNode implements Node, Serializable {
+public final class DomNode implements NameMatchingNode, TextComparableNode, Serializable {
 
   private static final long serialVersionUID = 1L;
 
@@ -45,11 +49,71 @@ public final class DomNode implements Node, Serializable {
     }
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    final String actualLocalPart = node.getLocalName();
+    if (null == actualLocalPart) {
+      return (null == namespaceUri || XMLConstants.NULL_NS_URI.equals(namespaceUri))
+          && (null == localPart || localPart.equals(node.getNodeName()));
+    }
+    if (null != localPart && !localPart.equals(actualLocalPart)) {
+      return false;
+    }
+    if (null == namespaceUri) {
+      return true;
+    }
+    final String actualNamespaceUri = node.getNamespaceURI();
+    return null == actualNamespaceUri
+        ? XMLConstants.NULL_NS_URI.equals(namespaceUri)
+        : namespaceUri.equals(actualNamespaceUri);
+  }
+
   @Override
   public String getText() {
     return node.getTextContent();
   }
 
+  @Override
+  @SuppressWarnings("ReferenceEquality")
+  public int compareText(String text) {
+    switch (node.getNodeType()) {
+      case org.w3c.dom.Node.ELEMENT_NODE:
+      case org.w3c.dom.Node.ENTITY_NODE:
+      case org.w3c.dom.Node.ENTITY_REFERENCE_NODE:
+      case org.w3c.dom.Node.DOCUMENT_FRAGMENT_NODE:
+        break;
+      default:
+        return getText().compareTo(text);
+    }
+    int offset = 0;
+    org.w3c.dom.Node current = node.getFirstChild();
+    while (null != current && offset >= 0) {
+      org.w3c.dom.Node next = null;
+      switch (current.getNodeType()) {
+        case org.w3c.dom.Node.TEXT_NODE:
+        case org.w3c.dom.Node.CDATA_SECTION_NODE:
+          if (!((Text) current).isElementContentWhitespace()) {
+            offset = TextComparison.compare(current.getNodeValue(), text, offset);
+          }
+          break;
+        case org.w3c.dom.Node.ELEMENT_NODE:
+        case org.w3c.dom.Node.ENTITY_REFERENCE_NODE:
+          next = current.getFirstChild();
+          break;
+        default:
+          break;
+      }
+      while (null == next && current != node) {
+        next = current.getNextSibling();
+        if (null == next) {
+          current = current.getParentNode();
+        }
+      }
+      current = next;
+    }
+    return TextComparison.result(text, offset);
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -18,10 +18,13 @@ package com.github.simy4.xpath.dom;
 import com.github.simy4.xpath.XmlBuilder;
 import com.github.simy4.xpath.fixtures.FixtureAccessor;
 import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 
 import javax.xml.namespace.NamespaceContext;
@@ -41,10 +44,18 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class XmlBuilderTest {
 
@@ -119,6 +130,283 @@ class XmlBuilderTest {
     assertThat(xmlToString(builtDocument)).isEqualTo(fixtureAccessor.getPutValueXml());
   }
 
+  @ParameterizedTest
+  @MethodSource("data")
+  void shouldBuildSameDocumentAsSequentialPuts(
+      FixtureAccessor fixtureAccessor,
+      NamespaceContext namespaceContext,
+      DocumentBuilderFactory documentBuilderFactory)
+      throws XPathExpressionException, TransformerException, ParserConfigurationException {
+    var documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    var xmlProperties = fixtureAccessor.getXmlProperties();
+    var batchDocument = documentBuilder.newDocument();
+    batchDocument.setXmlStandalone(true);
+    var sequentialDocument = documentBuilder.newDocument();
+    sequentialDocument.setXmlStandalone(true);
+    var sequentialBuilder = new XmlBuilder(namespaceContext);
+    for (var xpathToValuePair : xmlProperties.entrySet()) {
+      sequentialBuilder =
+          sequentialBuilder.put(xpathToValuePair.getKey(), xpathToValuePair.getValue());
+    }
+
+    new XmlBuilder(namespaceContext).putAll(xmlProperties).build(batchDocument);
+    sequentialBuilder.build(sequentialDocument);
+
+    assertThat(xmlToString(batchDocument)).isEqualTo(xmlToString(sequentialDocument));
+  }
+
+  @ParameterizedTest
+  @MethodSource("data")
+  void shouldBuildSameDocumentWithoutOptimization(
+      FixtureAccessor fixtureAccessor,
+      NamespaceContext namespaceContext,
+      DocumentBuilderFactory documentBuilderFactory)
+      throws XPathExpressionException,
+          TransformerException,
+          IOException,
+          SAXException,
+          ParserConfigurationException {
+    var documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    var xmlProperties = fixtureAccessor.getXmlProperties();
+    var xml = fixtureAccessor.getPutValueXml();
+    var optimizedBuilder = new XmlBuilder(namespaceContext);
+    var unoptimizedBuilder = new XmlBuilder(namespaceContext).withOptimization(false);
+    var optimizedDocument = documentBuilder.newDocument();
+    optimizedDocument.setXmlStandalone(true);
+    var unoptimizedDocument = documentBuilder.newDocument();
+    unoptimizedDocument.setXmlStandalone(true);
+
+    optimizedBuilder.putAll(xmlProperties).build(optimizedDocument);
+    unoptimizedBuilder.putAll(xmlProperties).build(unoptimizedDocument);
+
+    assertThat(xmlToString(optimizedDocument)).isEqualTo(xmlToString(unoptimizedDocument));
+
+    optimizedDocument =
+        optimizedBuilder
+            .removeAll(xmlProperties.keySet())
+            .build(stringToXml(documentBuilder, xml));
+    unoptimizedDocument =
+        unoptimizedBuilder
+            .removeAll(xmlProperties.keySet())
+            .build(stringToXml(documentBuilder, xml));
+
+    assertThat(xmlToString(optimizedDocument)).isEqualTo(xmlToString(unoptimizedDocument));
+  }
+
+  @ParameterizedTest
+  @MethodSource("data")
+  void shouldBuildSameDocumentWithListener(
+      FixtureAccessor fixtureAccessor,
+      NamespaceContext namespaceContext,
+      DocumentBuilderFactory documentBuilderFactory)
+      throws XPathExpressionException, TransformerException, ParserConfigurationException {
+    var documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    var xmlProperties = fixtureAccessor.getXmlProperties();
+    var listener = mock(EvaluationListener.class);
+    var document = documentBuilder.newDocument();
+    document.setXmlStandalone(true);
+    var listenedDocument = documentBuilder.newDocument();
+    listenedDocument.setXmlStandalone(true);
+
+    new XmlBuilder(namespaceContext).putAll(xmlProperties).build(document);
+    new XmlBuilder(namespaceContext)
+        .withListener(listener)
+        .putAll(xmlProperties)
+        .build(listenedDocument);
+
+    assertThat(xmlToString(listenedDocument)).isEqualTo(xmlToString(document));
+    verify(listener, atLeastOnce()).xpathParsed(anyString(), anyLong());
+    verify(listener).effectPerformed(any(), anyLong(), anyLong(), anyLong());
+    verify(listener, atLeastOnce())
+        .axisResolved(anyString(), anyBoolean(), anyLong(), anyLong(), anyLong());
+  }
+
+  @Test
+  void shouldConvertUnionOfPathsByFirstNodeInDocumentOrder()
+      throws XPathExpressionException,
+          TransformerException,
+          IOException,
+          SAXException,
+          ParserConfigurationException {
+    var documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    var xml = "<r><b><d>1</d></b><c><d>5</d></c><x/><y/></r>";
+    var xpaths = new String[] {"/r/x[/r/c/d | /r/b/d + 0 = 1]", "/r/y[/r/b/d | /r/c/d + 0 = 1]"};
+    var document = stringToXml(documentBuilder, xml);
+
+    var xpath = xpathFactory.newXPath();
+    for (var removedXPath : xpaths) {
+      assertThat(xpath.evaluate(removedXPath, document, XPathConstants.NODE)).isNotNull();
+    }
+    var removedDocument = new XmlBuilder().removeAll(xpaths).build(document);
+
+    assertThat(xmlToString(removedDocument)).contains("<c>").doesNotContain("<x", "<y");
+  }
+
+  @Test
+  void shouldRemoveSameNodesWithoutOptimization()
+      throws XPathExpressionException,
+          TransformerException,
+          IOException,
+          SAXException,
+          ParserConfigurationException {
+    var documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    var xml = new FixtureAccessor("simple").getPutValueXml();
+    var xpaths =
+        new String[] {
+          "//food[calories = '900']/./price", "/breakfast_menu/food[4 - 1]/description", "//name",
+        };
+
+    var optimizedDocument =
+        new XmlBuilder().removeAll(xpaths).build(stringToXml(documentBuilder, xml));
+    var unoptimizedDocument =
+        new XmlBuilder()
+            .withOptimization(false)
+            .removeAll(xpaths)
+            .build(stringToXml(documentBuilder, xml));
+
+    assertThat(xmlToString(optimizedDocument))
+        .isEqualTo(xmlToString(unoptimizedDocument))
+        .doesNotContain("<name>", "$8.95", "$7.95", "Light Belgian waffles covered with an");
+  }
+
+  @Test
+  void shouldKeepLastValuePutIntoTheSameNode()
+      throws XPathExpressionException, TransformerException, ParserConfigurationException {
+    var documentBuilder = DocumentBuilderFactory.newInstance().newDocumentBuilder();
+    var xmlProperties = new LinkedHashMap<String, Object>();
+    xmlProperties.put("/a/b", "1");
+    xmlProperties.put("/a/b/c", "2");
+    xmlProperties.put("/a/d", "3");
+    xmlProperties.put("/a/d[1]", "4");
+    xmlProperties.put("/a[d='4']/e", "5");
+    xmlProperties.put("/a/b[1]", "6");
+    var batchDocument = documentBuilder.newDocument();
+    var sequentialDocument = documentBuilder.newDocument();
+    var sequentialBuilder = new XmlBuilder();
+    for (var xpathToValuePair : xmlProperties.entrySet()) {
+      sequentialBuilder =
+          sequentialBuilder.put(xpathToValuePair.getKey(), xpathToValuePair.getValue());
+    }
+    new XmlBuilder().putAll(xmlProperties).build(batchDocument);
+    sequentialBuilder.build(sequentialDocument);
+
+    assertThat(xmlToString(batchDocument))
+        .isEqualTo(xmlToString(sequentialDocument))
+        .contains("<d>4</d>", "<e>5</e>", "<b>6</b>");
+  }
+
+  @Test
+  void shouldPutAllIntoNamespaceAwareDocumentWithoutPrefixes()
+      throws XPathExpressionException,
+          TransformerException,
+          IOException,
+          SAXException,
+          ParserConfigurationException {
+    var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    var documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    var xml = "<r><a><b>0</b></a></r>";
+    var xmlProperties = new LinkedHashMap<String, Object>();
+    xmlProperties.put("/r/a/c[3]", "1");
+    xmlProperties.put("/r/a/c[1]", "2");
+    xmlProperties.put("/r/a/b", "3");
+    var batchDocument = stringToXml(documentBuilder, xml);
+    var sequentialDocument = stringToXml(documentBuilder, xml);
+    var sequentialBuilder = new XmlBuilder();
+    for (var xpathToValuePair : xmlProperties.entrySet()) {
+      sequentialBuilder =
+          sequentialBuilder.put(xpathToValuePair.getKey(), xpathToValuePair.getValue());
+    }
+    new XmlBuilder().putAll(xmlProperties).build(batchDocument);
+    sequentialBuilder.build(sequentialDocument);
+
+    assertThat(xmlToString(batchDocument))
+        .isEqualTo(xmlToString(sequentialDocument))
+        .contains("<b>3</b>", "<c>2</c>", "<c>1</c>");
+  }
+
+  @Test
+  void shouldPutIntoDescendantsOfNamespaceAwareDocument()
+      throws XPathExpressionException,
+          TransformerException,
+          IOException,
+          SAXException,
+          ParserConfigurationException {
+    var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    var document =
+        stringToXml(documentBuilderFactory.newDocumentBuilder(), "<r><a><b>0</b></a><b/></r>");
+
+    var builtDocument =
+        new XmlBuilder().put("descendant::b", "1").put("descendant::b[2]/c").build(document);
+
+    assertThat(xmlToString(builtDocument)).contains("<b>1</b>", "<c/>").doesNotContain("0");
+  }
+
+  @Test
+  void shouldSatisfyLogicalPredicates()
+      throws XPathExpressionException, TransformerException, ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var xpaths =
+        new String[] {
+          "/a/b[@x='1' and c='2']/d", "/a/b[@x='1' and c='2']/e", "/a/f[@y='3' or g='4']/h",
+        };
+    var builtDocument = new XmlBuilder().putAll(xpaths).build(document);
+
+    var xpath = xpathFactory.newXPath();
+    for (var expression : xpaths) {
+      assertThat(xpath.evaluate(expression, builtDocument, XPathConstants.NODE)).isNotNull();
+    }
+    assertThat(xmlToString(builtDocument))
+        .contains("<b x=\"1\">", "<c>2</c>", "<f y=\"3\">")
+        .doesNotContain("<g>");
+
+    var removedDocument = new XmlBuilder().removeAll(xpaths[0], xpaths[2]).build(builtDocument);
+    assertThat(xpath.evaluate(xpaths[0], removedDocument, XPathConstants.NODE)).isNull();
+    assertThat(xpath.evaluate(xpaths[1], removedDocument, XPathConstants.NODE)).isNotNull();
+    assertThat(xpath.evaluate(xpaths[2], removedDocument, XPathConstants.NODE)).isNull();
+  }
+
+  @Test
+  void shouldPutAndRemoveUnionOfPaths()
+      throws XPathExpressionException, TransformerException, ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var union = "/a/b | /a/c | /a/@d";
+    var builtDocument = new XmlBuilder().put(union, "1").put("/a/e").build(document);
+
+    var xpath = xpathFactory.newXPath();
+    assertThat(xmlToString(builtDocument)).contains("<a d=\"1\">", "<b>1</b>", "<c>1</c>");
+    assertThat(((NodeList) xpath.evaluate(union, builtDocument, XPathConstants.NODESET)))
+        .extracting(NodeList::getLength)
+        .isEqualTo(3);
+
+    var removedDocument = new XmlBuilder().remove(union).build(builtDocument);
+    assertThat(((NodeList) xpath.evaluate(union, removedDocument, XPathConstants.NODESET)))
+        .extracting(NodeList::getLength)
+        .isEqualTo(0);
+    assertThat(xpath.evaluate("/a/e", removedDocument, XPathConstants.NODE)).isNotNull();
+  }
+
+  @ParameterizedTest
+  @MethodSource("data")
+  void shouldBuildDocumentFromCompiledTemplate(
+      FixtureAccessor fixtureAccessor,
+      NamespaceContext namespaceContext,
+      DocumentBuilderFactory documentBuilderFactory)
+      throws XPathExpressionException, TransformerException, ParserConfigurationException {
+    var documentBuilder = documentBuilderFactory.newDocumentBuilder();
+    var xmlProperties = fixtureAccessor.getXmlProperties();
+    var template = new XmlBuilder(namespaceContext).compile(xmlProperties.keySet());
+
+    for (var i = 0; i < 2; i++) {
+      var document = documentBuilder.newDocument();
+      document.setXmlStandalone(true);
+      var builtDocument = template.bind(xmlProperties).build(document);
+
+      assertThat(xmlToString(builtDocument)).isEqualTo(fixtureAccessor.getPutValueXml());
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("data")
   void shouldModifyDocumentWhenXPathsAreNotTraversable(
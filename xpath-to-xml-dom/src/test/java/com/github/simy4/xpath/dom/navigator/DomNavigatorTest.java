@@ -32,12 +32,18 @@ import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -106,6 +112,162 @@ class DomNavigatorTest {
         .containsExactly(child1, child2, child3);
   }
 
+  @Test
+  void testElementsOfByNameOnLargeParent() throws ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var parent = document.appendChild(document.createElement("parent"));
+    for (int i = 0; i < DomChildIndex.MIN_INDEXED_CHILDREN; i++) {
+      parent.appendChild(document.createElement(i % 2 == 0 ? "even" : "odd"));
+    }
+    var nameLookupNavigator = new DomNavigator(document);
+    var parentNode = new DomNode(parent);
+    var odds = nameLookupNavigator.elementsOf(parentNode, new QName("odd"));
+    assertThat(odds).hasSize(DomChildIndex.MIN_INDEXED_CHILDREN / 2);
+
+    var created = nameLookupNavigator.createElement(parentNode, new QName("odd"));
+    assertThat(odds).hasSize(DomChildIndex.MIN_INDEXED_CHILDREN / 2 + 1).endsWith(created);
+
+    nameLookupNavigator.prependCopy(created);
+    assertThat(odds).hasSize(DomChildIndex.MIN_INDEXED_CHILDREN / 2 + 2).endsWith(created);
+
+    nameLookupNavigator.remove(created);
+    assertThat(odds)
+        .hasSize(DomChildIndex.MIN_INDEXED_CHILDREN / 2 + 1)
+        .extracting("node", Node.class)
+        .containsExactlyElementsOf(nodesNamed(parent, "odd"));
+  }
+
+  @Test
+  void testElementsOfByNameOnLargeNamespaceAwareParent() throws ParserConfigurationException {
+    var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    var document = documentBuilderFactory.newDocumentBuilder().newDocument();
+    var parent = document.appendChild(document.createElementNS(null, "parent"));
+    var myName = new QName("http://www.example.com/my", "item");
+    var items = new ArrayList<Node>();
+    var myItems = new ArrayList<Node>();
+    for (int i = 0; i < DomChildIndex.MIN_INDEXED_CHILDREN; i++) {
+      items.add(parent.appendChild(document.createElementNS(null, "item")));
+      myItems.add(parent.appendChild(document.createElementNS(myName.getNamespaceURI(), "item")));
+    }
+    var nameLookupNavigator = new DomNavigator(document);
+    var parentNode = new DomNode(parent);
+
+    assertThat(nameLookupNavigator.elementsOf(parentNode, new QName("item")))
+        .extracting("node", Node.class)
+        .containsExactlyElementsOf(items);
+    assertThat(nameLookupNavigator.elementsOf(parentNode, myName))
+        .extracting("node", Node.class)
+        .containsExactlyElementsOf(myItems);
+
+    nameLookupNavigator.remove(new DomNode(items.remove(0)));
+    assertThat(nameLookupNavigator.elementsOf(parentNode, new QName("item")))
+        .extracting("node", Node.class)
+        .containsExactlyElementsOf(items);
+  }
+
+  @Test
+  void testAttributesOfByName() throws ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var element = (Element) document.appendChild(document.createElement("root"));
+    element.setAttribute("attr", "value");
+    element.setAttributeNS("http://www.example.com/my", "my:attr", "my value");
+    var nameLookupNavigator = new DomNavigator(document);
+    var elementNode = new DomNode(element);
+
+    assertThat(nameLookupNavigator.attributesOf(elementNode, new QName("attr")))
+        .containsExactly(new DomNode(element.getAttributeNode("attr")));
+    assertThat(
+            nameLookupNavigator.attributesOf(
+                elementNode, new QName("http://www.example.com/my", "attr", "my")))
+        .containsExactly(
+            new DomNode(element.getAttributeNodeNS("http://www.example.com/my", "attr")));
+    assertThat(nameLookupNavigator.attributesOf(elementNode, new QName("missing"))).isEmpty();
+    assertThat(nameLookupNavigator.attributesOf(new DomNode(document), new QName("attr")))
+        .isEmpty();
+  }
+
+  @Test
+  void testDescendantsOf() throws ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var root = document.appendChild(document.createElement("root"));
+    var item1 = root.appendChild(document.createElement("item"));
+    var group = root.appendChild(document.createElement("group"));
+    root.appendChild(document.createTextNode("text"));
+    var item2 = group.appendChild(document.createElement("item"));
+    var item3 = item1.appendChild(document.createElement("item"));
+    var nested = document.createElementNS("http://www.example.com/my", "my:item");
+    group.appendChild(nested);
+    var descendantNavigator = new DomNavigator(document);
+
+    assertThat(descendantNavigator.descendantsOf(new DomNode(document), new QName("item")))
+        .extracting("node", Node.class)
+        .containsExactly(item1, item3, item2);
+    assertThat(descendantNavigator.descendantsOf(new DomNode(root), new QName("*", "item")))
+        .extracting("node", Node.class)
+        .containsExactly(item1, item3, item2, nested);
+    assertThat(descendantNavigator.descendantsOf(new DomNode(root), new QName("*", "*")))
+        .extracting("node", Node.class)
+        .containsExactly(item1, group, item3, item2, nested);
+  }
+
+  @Test
+  void testDescendantsOfNamespaceAwareDocument() throws ParserConfigurationException {
+    var documentBuilderFactory = DocumentBuilderFactory.newInstance();
+    documentBuilderFactory.setNamespaceAware(true);
+    var document = documentBuilderFactory.newDocumentBuilder().newDocument();
+    var root = document.appendChild(document.createElementNS(null, "root"));
+    var item1 = root.appendChild(document.createElementNS(null, "item"));
+    var myItem = root.appendChild(document.createElementNS("http://www.example.com/my", "item"));
+    var item2 = item1.appendChild(document.createElementNS(null, "item"));
+    var descendantNavigator = new DomNavigator(document);
+    var documentNode = new DomNode(document);
+
+    assertThat(descendantNavigator.descendantsOf(documentNode, new QName("item")))
+        .extracting("node", Node.class)
+        .containsExactly(item1, item2);
+    assertThat(
+            descendantNavigator.descendantsOf(
+                documentNode, new QName("http://www.example.com/my", "item")))
+        .extracting("node", Node.class)
+        .containsExactly(myItem);
+
+    descendantNavigator.remove(new DomNode(item1));
+    assertThat(descendantNavigator.descendantsOf(documentNode, new QName("item"))).isEmpty();
+  }
+
+  @Test
+  void testDescendantsOfDocumentAreKeptCurrentByModifications()
+      throws ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var root = document.appendChild(document.createElement("root"));
+    var group = root.appendChild(document.createElement("group"));
+    var item1 = group.appendChild(document.createElement("item"));
+    var descendantNavigator = new DomNavigator(document);
+    var documentNode = new DomNode(document);
+    var items = new QName("item");
+    assertThat(descendantNavigator.descendantsOf(documentNode, items))
+        .extracting("node", Node.class)
+        .containsExactly(item1);
+
+    var item2 = descendantNavigator.createElement(new DomNode(root), items);
+    descendantNavigator.prependCopy(new DomNode(group));
+    var copiedItem = group.getPreviousSibling().getFirstChild();
+    assertThat(descendantNavigator.descendantsOf(documentNode, items))
+        .extracting("node", Node.class)
+        .containsExactly(item2.getNode(), copiedItem, item1);
+
+    descendantNavigator.remove(new DomNode(group));
+    assertThat(descendantNavigator.descendantsOf(documentNode, items))
+        .extracting("node", Node.class)
+        .containsExactly(item2.getNode(), copiedItem);
+
+    descendantNavigator.setText(new DomNode(copiedItem.getParentNode()), "text");
+    assertThat(descendantNavigator.descendantsOf(documentNode, items))
+        .extracting("node", Node.class)
+        .containsExactly(item2.getNode());
+  }
+
   @Test
   void testAttributesOf() {
     assertThat(navigator.attributesOf(new DomNode(xml)))
@@ -192,6 +354,13 @@ class DomNavigatorTest {
     verify(root).insertBefore(xml, xml);
   }
 
+  @Test
+  void testPrependCopiesSuccess() {
+    new DomNavigator(xml).prependCopies(new DomNode(xml), 3);
+    verify(xml, times(3)).cloneNode(true);
+    verify(root, times(3)).insertBefore(xml, xml);
+  }
+
   @Test
   void testPrependCopyNoParent() {
     assertThatThrownBy(() -> navigator.prependCopy(new DomNode(root)))
@@ -211,6 +380,32 @@ class DomNavigatorTest {
     verify(xml).setTextContent("text");
   }
 
+  @Test
+  void testNumberOfIsInvalidatedByModifications() throws ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var parent = document.appendChild(document.createElement("parent"));
+    var child = parent.appendChild(document.createElement("child"));
+    child.setTextContent("1");
+    var numberValueNavigator = new DomNavigator(document);
+    var parentNode = new DomNode(parent);
+    var childNode = new DomNode(child);
+    assertThat(numberValueNavigator.numberOf(parentNode)).isEqualTo(1.0);
+    assertThat(numberValueNavigator.numberOf(childNode)).isEqualTo(1.0);
+
+    numberValueNavigator.setText(childNode, "2");
+    assertThat(numberValueNavigator.numberOf(parentNode)).isEqualTo(2.0);
+    assertThat(numberValueNavigator.numberOf(childNode)).isEqualTo(2.0);
+
+    numberValueNavigator.prependCopy(childNode);
+    assertThat(numberValueNavigator.numberOf(parentNode)).isEqualTo(22.0);
+
+    numberValueNavigator.remove(childNode);
+    assertThat(numberValueNavigator.numberOf(parentNode)).isEqualTo(2.0);
+
+    numberValueNavigator.setText(parentNode, "text");
+    assertThat(numberValueNavigator.numberOf(parentNode)).isNaN();
+  }
+
   @Test
   void testSetTextFailure() {
     doThrow(DOMException.class).when(xml).setTextContent(anyString());
@@ -236,4 +431,14 @@ class DomNavigatorTest {
     assertThatThrownBy(() -> navigator.remove(new DomNode(xml)))
         .isInstanceOf(XmlBuilderException.class);
   }
+
+  private static List<Node> nodesNamed(Node parent, String name) {
+    var nodes = new ArrayList<Node>();
+    for (var child = parent.getFirstChild(); null != child; child = child.getNextSibling()) {
+      if (name.equals(child.getNodeName())) {
+        nodes.add(child);
+      }
+    }
+    return nodes;
+  }
 }
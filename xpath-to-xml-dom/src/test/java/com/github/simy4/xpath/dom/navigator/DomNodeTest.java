@@ -23,6 +23,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
 
 import java.io.IOException;
 
@@ -62,6 +64,28 @@ class DomNodeTest {
         .containsExactly("http://www.example.com/my", "node", "my");
   }
 
+  @Test
+  void shouldMatchNameOfNamespaceUnawareNode() {
+    when(node.getNodeName()).thenReturn("node");
+
+    assertThat(nodeView.hasName(XMLConstants.NULL_NS_URI, "node")).isTrue();
+    assertThat(nodeView.hasName(null, "node")).isTrue();
+    assertThat(nodeView.hasName("http://www.example.com/my", "node")).isFalse();
+    assertThat(nodeView.hasName(XMLConstants.NULL_NS_URI, "other")).isFalse();
+  }
+
+  @Test
+  void shouldMatchNameOfNamespaceAwareNode() {
+    when(node.getNamespaceURI()).thenReturn("http://www.example.com/my");
+    when(node.getLocalName()).thenReturn("node");
+
+    assertThat(nodeView.hasName("http://www.example.com/my", "node")).isTrue();
+    assertThat(nodeView.hasName("http://www.example.com/my", null)).isTrue();
+    assertThat(nodeView.hasName(null, "node")).isTrue();
+    assertThat(nodeView.hasName(XMLConstants.NULL_NS_URI, "node")).isFalse();
+    assertThat(nodeView.hasName("http://www.example.com/my", "other")).isFalse();
+  }
+
   @Test
   void shouldReturnNodeTextContent() {
     when(node.getTextContent()).thenReturn("text");
@@ -69,6 +93,26 @@ class DomNodeTest {
     assertThat(nodeView.getText()).isEqualTo("text");
   }
 
+  @Test
+  void shouldCompareSubtreeTextContentIncrementally() throws ParserConfigurationException {
+    var document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+    var element = document.createElement("elem");
+    var child = document.createElement("child");
+    element.appendChild(document.createTextNode("ab"));
+    element.appendChild(document.createComment("comment"));
+    element.appendChild(child);
+    child.appendChild(document.createCDATASection("c"));
+    element.appendChild(document.createTextNode("d"));
+    var elementNode = new DomNode(element);
+
+    assertThat(elementNode.compareText("abcd")).isZero();
+    assertThat(elementNode.compareText("abc")).isPositive();
+    assertThat(elementNode.compareText("abcde")).isNegative();
+    assertThat(elementNode.compareText("abd")).isNegative();
+    assertThat(elementNode.compareText("abb")).isPositive();
+    assertThat(new DomNode(child).compareText("c")).isZero();
+  }
+
   @Test
   void shouldSerializeAndDeserialize() throws IOException, ClassNotFoundException {
     // given
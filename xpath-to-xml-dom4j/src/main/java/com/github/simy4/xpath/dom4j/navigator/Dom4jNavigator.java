@@ -18,7 +18,10 @@ package com.github.simy4.xpath.dom4j.navigator;
 import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.dom4j.navigator.node.Dom4jDocument;
 import com.github.simy4.xpath.dom4j.navigator.node.Dom4jNode;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.util.NumberValueCache;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
 import org.dom4j.Namespace;
@@ -26,9 +29,16 @@ import org.dom4j.Node;
 
 import javax.xml.namespace.QName;
 
-public final class Dom4jNavigator implements Navigator<Dom4jNode> {
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Dom4jNavigator
+    implements IdentityNavigator<Dom4jNode>,
+        BulkCopyNavigator<Dom4jNode>,
+        NumberValueNavigator<Dom4jNode> {
 
   private final Dom4jDocument xml;
+  private final NumberValueCache<Dom4jNode> numbers = new NumberValueCache<>();
 
   public Dom4jNavigator(Dom4jDocument xml) {
     this.xml = xml;
@@ -54,6 +64,16 @@ public final class Dom4jNavigator implements Navigator<Dom4jNode> {
     return parent.attributes();
   }
 
+  @Override
+  public Object modelOf(Dom4jNode node) {
+    return node.getNode();
+  }
+
+  @Override
+  public double numberOf(Dom4jNode node) {
+    return numbers.numberOf(node);
+  }
+
   @Override
   public Dom4jNode createAttribute(Dom4jNode parent, QName attribute) throws XmlBuilderException {
     final org.dom4j.QName attributeName =
@@ -73,6 +93,7 @@ public final class Dom4jNavigator implements Navigator<Dom4jNode> {
 
   @Override
   public void setText(Dom4jNode node, String text) {
+    numbers.invalidate(this, node);
     try {
       node.getNode().setText(text);
     } catch (UnsupportedOperationException uoe) {
@@ -82,6 +103,7 @@ public final class Dom4jNavigator implements Navigator<Dom4jNode> {
 
   @Override
   public void prependCopy(Dom4jNode node) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     final Node wrappedNode = node.getNode();
     if (Node.ELEMENT_NODE != wrappedNode.getNodeType()) {
       throw new XmlBuilderException("Unable to copy non-element node " + node);
@@ -95,8 +117,29 @@ public final class Dom4jNavigator implements Navigator<Dom4jNode> {
     parent.elements().add(prependIndex, copiedNode);
   }
 
+  @Override
+  public void prependCopies(Dom4jNode node, int count) throws XmlBuilderException {
+    numbers.invalidate(this, node);
+    final Node wrappedNode = node.getNode();
+    if (Node.ELEMENT_NODE != wrappedNode.getNodeType()) {
+      throw new XmlBuilderException("Unable to copy non-element node " + node);
+    }
+    final Element parent = wrappedNode.getParent();
+    if (null == parent) {
+      throw new XmlBuilderException("Unable to prepend - no parent found of " + node);
+    }
+    final List<Node> copiedNodes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      copiedNodes.add(((Element) wrappedNode).createCopy());
+    }
+    final List<Node> content = new ArrayList<>(parent.content());
+    content.addAll(content.indexOf(wrappedNode), copiedNodes);
+    parent.setContent(content);
+  }
+
   @Override
   public void remove(Dom4jNode node) {
+    numbers.invalidate(this, node);
     final Node wrappedNode = node.getNode();
     final Element parent = wrappedNode.getParent();
     if (parent != null) {
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.dom4j.navigator.node;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import org.dom4j.Attribute;
 import org.dom4j.Element;
 import org.dom4j.Namespace;
@@ -24,7 +25,7 @@ import javax.xml.namespace.QName;
 
 import java.util.Collections;
 
-public final class Dom4jAttribute extends AbstractDom4jNode<Attribute> {
+public final class Dom4jAttribute extends AbstractDom4jNode<Attribute> implements NameMatchingNode {
 
   private static final long serialVersionUID = 1L;
 
@@ -38,6 +39,12 @@ public final class Dom4jAttribute extends AbstractDom4jNode<Attribute> {
     return new QName(namespace.getURI(), getNode().getName(), namespace.getPrefix());
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == localPart || localPart.equals(getNode().getName()))
+        && (null == namespaceUri || namespaceUri.equals(getNode().getNamespaceURI()));
+  }
+
   @Override
   public Dom4jNode getParent() {
     final Element parent = getNode().getParent();
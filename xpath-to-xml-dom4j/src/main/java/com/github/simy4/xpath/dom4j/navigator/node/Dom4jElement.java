@@ -15,6 +15,7 @@
  */
 package com.github.simy4.xpath.dom4j.navigator.node;
 
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import org.dom4j.Attribute;
 import org.dom4j.DocumentHelper;
 import org.dom4j.Element;
@@ -24,7 +25,7 @@ import javax.xml.namespace.QName;
 
 import java.util.Iterator;
 
-public final class Dom4jElement extends AbstractDom4jNode<Element> {
+public final class Dom4jElement extends AbstractDom4jNode<Element> implements NameMatchingNode {
 
   private static final long serialVersionUID = 1L;
 
@@ -38,6 +39,12 @@ public final class Dom4jElement extends AbstractDom4jNode<Element> {
     return new QName(namespace.getURI(), getNode().getName(), namespace.getPrefix());
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == localPart || localPart.equals(getNode().getName()))
+        && (null == namespaceUri || namespaceUri.equals(getNode().getNamespaceURI()));
+  }
+
   @Override
   public Dom4jNode getParent() {
     final Element node = getNode();
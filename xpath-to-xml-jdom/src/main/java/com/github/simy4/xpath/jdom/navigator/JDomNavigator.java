@@ -17,7 +17,11 @@ package com.github.simy4.xpath.jdom.navigator;
 
 import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.jdom.navigator.node.JDomNode;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.util.NumberValueCache;
 import org.jdom2.Attribute;
 import org.jdom2.Element;
 import org.jdom2.Namespace;
@@ -25,9 +29,14 @@ import org.jdom2.Namespace;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public final class JDomNavigator implements Navigator<JDomNode> {
+public final class JDomNavigator
+    implements DescendantNavigator<JDomNode>,
+        IdentityNavigator<JDomNode>,
+        BulkCopyNavigator<JDomNode>,
+        NumberValueNavigator<JDomNode> {
 
   private final JDomNode xml;
+  private final NumberValueCache<JDomNode> numbers = new NumberValueCache<JDomNode>();
 
   public JDomNavigator(JDomNode xml) {
     this.xml = xml;
@@ -48,11 +57,26 @@ public final class JDomNavigator implements Navigator<JDomNode> {
     return parent.elements();
   }
 
+  @Override
+  public Iterable<? extends JDomNode> descendantsOf(JDomNode parent, QName name) {
+    return parent.descendants(name);
+  }
+
   @Override
   public Iterable<? extends JDomNode> attributesOf(final JDomNode parent) {
     return parent.attributes();
   }
 
+  @Override
+  public Object modelOf(JDomNode node) {
+    return node.getNode();
+  }
+
+  @Override
+  public double numberOf(JDomNode node) {
+    return numbers.numberOf(node);
+  }
+
   @Override
   public JDomNode createAttribute(JDomNode parent, QName attribute) throws XmlBuilderException {
     final Attribute attr = new Attribute(attribute.getLocalPart(), "");
@@ -73,16 +97,25 @@ public final class JDomNavigator implements Navigator<JDomNode> {
 
   @Override
   public void setText(JDomNode node, String text) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     node.setText(text);
   }
 
   @Override
   public void prependCopy(JDomNode node) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     node.prependCopy();
   }
 
+  @Override
+  public void prependCopies(JDomNode node, int count) throws XmlBuilderException {
+    numbers.invalidate(this, node);
+    node.prependCopies(count);
+  }
+
   @Override
   public void remove(JDomNode node) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     node.remove();
   }
 }
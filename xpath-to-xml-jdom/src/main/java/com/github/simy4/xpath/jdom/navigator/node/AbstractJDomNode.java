@@ -27,7 +27,8 @@ abstract class AbstractJDomNode<N extends Serializable> implements JDomNode, Ser
     this.node = node;
   }
 
-  protected final N getNode() {
+  @Override
+  public final N getNode() {
     return node;
   }
 
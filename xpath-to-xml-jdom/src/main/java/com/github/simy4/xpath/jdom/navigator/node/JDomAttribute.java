@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.jdom.navigator.node;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import org.jdom2.Attribute;
 import org.jdom2.Element;
 import org.jdom2.IllegalDataException;
@@ -24,7 +25,7 @@ import javax.xml.namespace.QName;
 
 import java.util.Collections;
 
-public final class JDomAttribute extends AbstractJDomNode<Attribute> {
+public final class JDomAttribute extends AbstractJDomNode<Attribute> implements NameMatchingNode {
 
   private static final long serialVersionUID = 1L;
 
@@ -38,6 +39,12 @@ public final class JDomAttribute extends AbstractJDomNode<Attribute> {
         getNode().getNamespaceURI(), getNode().getName(), getNode().getNamespacePrefix());
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == localPart || localPart.equals(getNode().getName()))
+        && (null == namespaceUri || namespaceUri.equals(getNode().getNamespaceURI()));
+  }
+
   @Override
   public String getText() {
     return getNode().getValue();
@@ -59,6 +66,11 @@ public final class JDomAttribute extends AbstractJDomNode<Attribute> {
     return Collections.emptyList();
   }
 
+  @Override
+  public Iterable<? extends JDomNode> descendants(QName name) {
+    return Collections.emptyList();
+  }
+
   @Override
   public Iterable<? extends JDomNode> attributes() {
     return Collections.emptyList();
@@ -76,6 +88,11 @@ public final class JDomAttribute extends AbstractJDomNode<Attribute> {
 
   @Override
   public void prependCopy() throws XmlBuilderException {
+    prependCopies(1);
+  }
+
+  @Override
+  public void prependCopies(int count) throws XmlBuilderException {
     throw new XmlBuilderException("Unable to prepend copy of an attribute " + getNode());
   }
 
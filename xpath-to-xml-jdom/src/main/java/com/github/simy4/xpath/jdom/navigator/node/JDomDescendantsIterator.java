@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.jdom.navigator.node;
+
+import org.jdom2.Content;
+import org.jdom2.Element;
+import org.jdom2.Parent;
+
+import javax.xml.namespace.QName;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+final class JDomDescendantsIterator implements Iterator<JDomElement> {
+
+  private final Queue<Parent> parents = new ArrayDeque<Parent>();
+  private final String namespaceUri;
+  private final String localPart;
+  private Parent current;
+  private int index;
+  private Element next;
+
+  JDomDescendantsIterator(Parent parent, QName name) {
+    this.namespaceUri = wildcardToNull(name.getNamespaceURI());
+    this.localPart = wildcardToNull(name.getLocalPart());
+    this.current = parent;
+    this.next = nextElement();
+  }
+
+  @Override
+  public boolean hasNext() {
+    return null != next;
+  }
+
+  @Override
+  public JDomElement next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more elements");
+    }
+    final Element element = next;
+    next = nextElement();
+    return new JDomElement(element);
+  }
+
+  private Element nextElement() {
+    while (null != current) {
+      while (index < current.getContentSize()) {
+        final Content child = current.getContent(index++);
+        if (child instanceof Element) {
+          final Element element = (Element) child;
+          parents.offer(element);
+          if (matches(element)) {
+            return element;
+          }
+        }
+      }
+      current = parents.poll();
+      index = 0;
+    }
+    return null;
+  }
+
+  private boolean matches(Element element) {
+    return (null == namespaceUri || namespaceUri.equals(element.getNamespaceURI()))
+        && (null == localPart || localPart.equals(element.getName()));
+  }
+
+  private static String wildcardToNull(String name) {
+    return "*".equals(name) ? null : name;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException("remove");
+  }
+}
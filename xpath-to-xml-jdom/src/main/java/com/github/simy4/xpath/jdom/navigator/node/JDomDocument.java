@@ -24,6 +24,7 @@ import org.jdom2.IllegalAddException;
 import javax.xml.namespace.QName;
 
 import java.util.Collections;
+import java.util.Iterator;
 
 public final class JDomDocument extends AbstractJDomNode<Document> {
 
@@ -60,6 +61,16 @@ public final class JDomDocument extends AbstractJDomNode<Document> {
         : Collections.<JDomNode>emptyList();
   }
 
+  @Override
+  public Iterable<? extends JDomNode> descendants(final QName name) {
+    return new Iterable<JDomElement>() {
+      @Override
+      public Iterator<JDomElement> iterator() {
+        return new JDomDescendantsIterator(getNode(), name);
+      }
+    };
+  }
+
   @Override
   public Iterable<? extends JDomNode> attributes() {
     return Collections.emptyList();
@@ -86,6 +97,11 @@ public final class JDomDocument extends AbstractJDomNode<Document> {
 
   @Override
   public void prependCopy() throws XmlBuilderException {
+    prependCopies(1);
+  }
+
+  @Override
+  public void prependCopies(int count) throws XmlBuilderException {
     throw new XmlBuilderException("Unable to prepend copy of a document " + getNode());
   }
 
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.jdom.navigator.node;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import org.jdom2.Attribute;
 import org.jdom2.Content;
 import org.jdom2.Element;
@@ -27,10 +28,11 @@ import org.jdom2.filter.Filters;
 
 import javax.xml.namespace.QName;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
-public final class JDomElement extends AbstractJDomNode<Element> {
+public final class JDomElement extends AbstractJDomNode<Element> implements NameMatchingNode {
 
   private static final long serialVersionUID = 1L;
 
@@ -44,6 +46,12 @@ public final class JDomElement extends AbstractJDomNode<Element> {
         getNode().getNamespaceURI(), getNode().getName(), getNode().getNamespacePrefix());
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == localPart || localPart.equals(getNode().getName()))
+        && (null == namespaceUri || namespaceUri.equals(getNode().getNamespaceURI()));
+  }
+
   @Override
   public String getText() {
     return getNode().getText();
@@ -74,6 +82,16 @@ public final class JDomElement extends AbstractJDomNode<Element> {
     };
   }
 
+  @Override
+  public Iterable<? extends JDomNode> descendants(final QName name) {
+    return new Iterable<JDomElement>() {
+      @Override
+      public Iterator<JDomElement> iterator() {
+        return new JDomDescendantsIterator(getNode(), name);
+      }
+    };
+  }
+
   @Override
   public Iterable<? extends JDomNode> attributes() {
     return new Iterable<JDomAttribute>() {
@@ -106,14 +124,22 @@ public final class JDomElement extends AbstractJDomNode<Element> {
 
   @Override
   public void prependCopy() throws XmlBuilderException {
+    prependCopies(1);
+  }
+
+  @Override
+  public void prependCopies(int count) throws XmlBuilderException {
     final Element node = getNode();
     final Parent parent = node.getParent();
     if (null == parent) {
       throw new XmlBuilderException("Unable to prepend - no parent found of " + node);
     }
     final int prependIndex = parent.indexOf(node);
-    final Element copy = node.clone();
-    parent.addContent(prependIndex, copy);
+    final List<Element> copies = new ArrayList<Element>(count);
+    for (int i = 0; i < count; i++) {
+      copies.add(node.clone());
+    }
+    parent.addContent(prependIndex, copies);
   }
 
   @Override
@@ -20,6 +20,8 @@ import com.github.simy4.xpath.navigator.Node;
 import org.jdom2.Attribute;
 import org.jdom2.Element;
 
+import javax.xml.namespace.QName;
+
 /**
  * JDOM node contract.
  *
@@ -28,6 +30,14 @@ import org.jdom2.Element;
  */
 public interface JDomNode extends Node {
 
+  /**
+   * Retrieves the underlying JDOM model object of this node.
+   *
+   * @return JDOM model object
+   * @since 2.4
+   */
+  Object getNode();
+
   /**
    * Retrieves the XML model root.
    *
@@ -49,6 +59,16 @@ public interface JDomNode extends Node {
    */
   Iterable<? extends JDomNode> elements();
 
+  /**
+   * Retrieves descendant element nodes of this node with given name level by level.
+   *
+   * @param name name of descendant elements, may use {@code *} as wildcard namespace URI or local
+   *     part
+   * @return descendant element nodes
+   * @since 2.4
+   */
+  Iterable<? extends JDomNode> descendants(QName name);
+
   /**
    * Retrieves all attributes of this node.
    *
@@ -76,6 +96,15 @@ public interface JDomNode extends Node {
 
   void prependCopy() throws XmlBuilderException;
 
+  /**
+   * Creates given number of copies of this node and prepends them to this node at once.
+   *
+   * @param count number of copies to prepend
+   * @throws XmlBuilderException if failure occur during copies creation
+   * @since 2.4
+   */
+  void prependCopies(int count) throws XmlBuilderException;
+
   /**
    * Sets the given text content to this node.
    *
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.jdom;
 
 import com.github.simy4.xpath.XmlBuilder;
+import com.github.simy4.xpath.XmlBuilderException;
 import com.github.simy4.xpath.fixtures.FixtureAccessor;
 import com.github.simy4.xpath.helpers.SimpleNamespaceContext;
 import org.assertj.core.api.Condition;
@@ -29,9 +30,11 @@ import org.jdom2.input.SAXBuilder;
 import org.jdom2.output.Format;
 import org.jdom2.output.XMLOutputter;
 import org.jdom2.xpath.XPathFactory;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathExpressionException;
@@ -45,6 +48,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -173,6 +177,36 @@ class XmlBuilderTest {
     assertThat(xmlToString(builtDocument)).isNotEqualTo(fixtureAccessor.getPutValueXml());
   }
 
+  @ParameterizedTest
+  @ValueSource(strings = {"/r//c", "/r//*", "/r/b/.", "/r//b/.", "/r/*//."})
+  void shouldRemoveSameNodesWithoutOptimization(String xpath)
+      throws XPathExpressionException, JDOMException, IOException {
+    var xml =
+        "<r><c><b><b/><a>1</a><c/></b></c><c><a/><a>0</a><c><a/></c></c>"
+            + "<b><b><b>1</b><b>0</b><b>1</b></b><c><c/><c/></c></b><a><b><c>0</c></b></a><b/></r>";
+
+    var optimizedDocument = new XmlBuilder().remove(xpath).build(stringToXml(xml));
+    var unoptimizedDocument =
+        new XmlBuilder().withOptimization(false).remove(xpath).build(stringToXml(xml));
+
+    assertThat(xmlToString(optimizedDocument)).isEqualTo(xmlToString(unoptimizedDocument));
+    assertThat(XPathFactory.instance().compile(xpath).evaluate(optimizedDocument)).isEmpty();
+  }
+
+  @Test
+  void shouldNotHandleDetachedElementAfterAttachedElementWasBuilt()
+      throws XPathExpressionException {
+    var attachedElement = new Element("root");
+    new Document(attachedElement);
+    new XmlBuilder().put("a").build(attachedElement);
+    var detachedElement = new Element("root");
+
+    assertThat(XmlBuilder.canHandle(detachedElement)).isFalse();
+    assertThatThrownBy(() -> new XmlBuilder().put("a").build(detachedElement))
+        .isInstanceOf(XmlBuilderException.class)
+        .hasMessage("Unsupported xml model");
+  }
+
   private Document stringToXml(String xml) throws JDOMException, IOException {
     var builder = new SAXBuilder();
     return builder.build(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
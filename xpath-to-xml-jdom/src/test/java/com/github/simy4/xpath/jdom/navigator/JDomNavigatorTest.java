@@ -20,6 +20,7 @@ import com.github.simy4.xpath.jdom.navigator.node.JDomAttribute;
 import com.github.simy4.xpath.jdom.navigator.node.JDomDocument;
 import com.github.simy4.xpath.jdom.navigator.node.JDomElement;
 import com.github.simy4.xpath.jdom.navigator.node.JDomNode;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
 import com.github.simy4.xpath.navigator.Navigator;
 import org.jdom2.Attribute;
 import org.jdom2.Document;
@@ -84,6 +85,20 @@ class JDomNavigatorTest {
         .containsExactly(parent);
   }
 
+  @Test
+  void testDescendantsOf() {
+    var descendantNavigator = (DescendantNavigator<JDomNode>) navigator;
+
+    assertThat(descendantNavigator.descendantsOf(new JDomDocument(root), new QName("*", "*")))
+        .extracting("node", Element.class)
+        .containsExactly(parent, xml, child1, child2, child3);
+    assertThat(descendantNavigator.descendantsOf(new JDomElement(parent), new QName("child2")))
+        .extracting("node", Element.class)
+        .containsExactly(child2);
+    assertThat(descendantNavigator.descendantsOf(new JDomElement(child1), new QName("*", "*")))
+        .isEmpty();
+  }
+
   @Test
   void testElementsOfElement() {
     assertThat(navigator.elementsOf(new JDomElement(xml)))
@@ -144,6 +159,14 @@ class JDomNavigatorTest {
     assertThat(childElements).hasSize(2);
   }
 
+  @Test
+  void testPrependCopiesSuccess() {
+    new JDomNavigator(new JDomDocument(root)).prependCopies(new JDomElement(xml), 3);
+    var childElements = parent.getChildren();
+    assertThat(childElements).hasSize(4);
+    assertThat(childElements.get(3)).isSameAs(xml);
+  }
+
   @Test
   void testPrependCopyNoParent() {
     assertThatThrownBy(() -> navigator.prependCopy(new JDomElement(new Element("elem"))))
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.jfr;
+
+import com.github.simy4.xpath.spi.Effect;
+import com.github.simy4.xpath.spi.EvaluationListener;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evaluation listener that publishes metrics as JDK Flight Recorder events. Parsing and effect
+ * events are enabled by default, while axis and navigator events are emitted for every context node
+ * and every modification, so these have to be enabled in recording settings explicitly.
+ *
+ * <pre>{@code
+ * new XmlBuilder().withListener(new JfrEvaluationListener())
+ * }</pre>
+ *
+ * @author Alex Simkin
+ * @since 2.4
+ */
+public final class JfrEvaluationListener implements EvaluationListener {
+
+  public JfrEvaluationListener() {
+    // all state is kept by flight recorder
+  }
+
+  @Override
+  public void xpathParsed(String xpath, long elapsedNanos) {
+    var event = new XPathParsedEvent();
+    if (event.isEnabled()) {
+      event.xpath = xpath;
+      event.elapsed = elapsedNanos;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void effectPerformed(
+      Effect effect, long nodesVisited, long nodesCreated, long elapsedNanos) {
+    var event = new EffectPerformedEvent();
+    if (event.isEnabled()) {
+      event.effect = effect.getClass().getSimpleName();
+      event.nodesVisited = nodesVisited;
+      event.nodesCreated = nodesCreated;
+      event.elapsed = elapsedNanos;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void axisResolved(
+      String axis, boolean greedy, long nodesVisited, long nodesCreated, long elapsedNanos) {
+    var event = new AxisResolvedEvent();
+    if (event.isEnabled()) {
+      event.axis = axis;
+      event.greedy = greedy;
+      event.nodesVisited = nodesVisited;
+      event.nodesCreated = nodesCreated;
+      event.elapsed = elapsedNanos;
+      event.commit();
+    }
+  }
+
+  @Override
+  public void navigatorModified(String operation, long nodesCreated, long elapsedNanos) {
+    var event = new NavigatorModifiedEvent();
+    if (event.isEnabled()) {
+      event.operation = operation;
+      event.nodesCreated = nodesCreated;
+      event.elapsed = elapsedNanos;
+      event.commit();
+    }
+  }
+
+  @Name("com.github.simy4.xpath.XPathParsed")
+  @Label("XPath Parsed")
+  @Category("XPath to XML")
+  @Description("XPath expression parsed or taken from a cache of parsed expressions")
+  @StackTrace(false)
+  static final class XPathParsedEvent extends Event {
+
+    @Label("XPath")
+    String xpath;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+  }
+
+  @Name("com.github.simy4.xpath.EffectPerformed")
+  @Label("Effect Performed")
+  @Category("XPath to XML")
+  @Description("XML model modification effect performed")
+  @StackTrace(false)
+  static final class EffectPerformedEvent extends Event {
+
+    @Label("Effect")
+    String effect;
+
+    @Label("Nodes Visited")
+    long nodesVisited;
+
+    @Label("Nodes Created")
+    long nodesCreated;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+  }
+
+  @Name("com.github.simy4.xpath.AxisResolved")
+  @Label("Axis Resolved")
+  @Category("XPath to XML")
+  @Description("Axis of an expression step resolved against a single context node")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class AxisResolvedEvent extends Event {
+
+    @Label("Axis")
+    String axis;
+
+    @Label("Greedy")
+    boolean greedy;
+
+    @Label("Nodes Visited")
+    long nodesVisited;
+
+    @Label("Nodes Created")
+    long nodesCreated;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+  }
+
+  @Name("com.github.simy4.xpath.NavigatorModified")
+  @Label("Navigator Modified")
+  @Category("XPath to XML")
+  @Description("XML model modified by a navigator")
+  @Enabled(false)
+  @StackTrace(false)
+  static final class NavigatorModifiedEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Nodes Created")
+    long nodesCreated;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+  }
+}
@@ -0,0 +1,6 @@
+module com.github.simych.xpath.jfr {
+  requires transitive com.github.simych.xpath.core;
+  requires jdk.jfr;
+
+  exports com.github.simy4.xpath.jfr;
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.jfr;
+
+import com.github.simy4.xpath.XmlBuilder;
+import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.Node;
+import com.github.simy4.xpath.spi.Effect;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JfrEvaluationListenerTest {
+
+  private final JfrEvaluationListener listener = new JfrEvaluationListener();
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("Should publish every reported metric as a recorded event")
+  void shouldPublishMetricsAsEvents() throws Exception {
+    // when
+    var events =
+        record(
+            () -> {
+              listener.xpathParsed("a/b", 1L);
+              listener.effectPerformed(new NoopEffect(), 2L, 3L, 4L);
+              listener.axisResolved("child::a", true, 5L, 6L, 7L);
+              listener.navigatorModified("createElement", 1L, 8L);
+              return null;
+            });
+
+    // then
+    assertThat(events)
+        .extracting(event -> event.getEventType().getName())
+        .containsExactly(
+            "com.github.simy4.xpath.XPathParsed",
+            "com.github.simy4.xpath.EffectPerformed",
+            "com.github.simy4.xpath.AxisResolved",
+            "com.github.simy4.xpath.NavigatorModified");
+    assertThat(events.get(0).getString("xpath")).isEqualTo("a/b");
+    assertThat(events.get(1).getString("effect")).isEqualTo("NoopEffect");
+    assertThat(events.get(1).getLong("nodesVisited")).isEqualTo(2L);
+    assertThat(events.get(1).getLong("nodesCreated")).isEqualTo(3L);
+    assertThat(events.get(2).getString("axis")).isEqualTo("child::a");
+    assertThat(events.get(2).getBoolean("greedy")).isTrue();
+    assertThat(events.get(3).getString("operation")).isEqualTo("createElement");
+    assertThat(events.get(3).getDuration("elapsed").toNanos()).isEqualTo(8L);
+  }
+
+  @Test
+  @DisplayName("Should record parsed XPaths of a builder")
+  void shouldRecordParsedXPaths() throws Exception {
+    // when
+    var events = record(() -> new XmlBuilder().withListener(listener).put("a/b").remove("c"));
+
+    // then
+    assertThat(events)
+        .extracting(event -> event.getString("xpath"))
+        .containsExactly("a/b", "c");
+  }
+
+  private List<RecordedEvent> record(Callable<?> action) throws Exception {
+    var file = tempDir.resolve("recording.jfr");
+    try (var recording = new Recording()) {
+      recording.enable("com.github.simy4.xpath.XPathParsed");
+      recording.enable("com.github.simy4.xpath.EffectPerformed");
+      recording.enable("com.github.simy4.xpath.AxisResolved");
+      recording.enable("com.github.simy4.xpath.NavigatorModified");
+      recording.start();
+      action.call();
+      recording.stop();
+      recording.dump(file);
+    }
+    return RecordingFile.readAllEvents(file);
+  }
+
+  private static final class NoopEffect implements Effect {
+    @Override
+    public <N extends Node> void perform(Navigator<N> navigator, N xml) {}
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath
+
+import benchmark.AbstractXmlBuilderBenchmark
+import xml.Elem
+
+/**
+ * Builder phases over deep Scala XML trees, where every modification used to rebuild all of its ancestors. Scala
+ * subclasses cannot redeclare the shared parameters, so deeper trees are selected at run time, e.g. with
+ * `-p depth=8`.
+ */
+class ScalaXmlBuilderDeepTreeBenchmark extends AbstractXmlBuilderBenchmark[Elem] {
+  override protected def newDocument(): Elem = <root/>
+}
@@ -16,13 +16,13 @@
 package com.github.simy4.xpath
 package scala.navigator
 
-import navigator.Navigator
+import navigator.BulkCopyNavigator
 import xml.{ Attribute => XmlAttribute, Elem, Null, Text }
 
 import javax.xml.namespace.QName
 
 @SuppressWarnings(Array("org.wartremover.warts.Throw"))
-class ScalaXmlNavigator(override val root: Root) extends Navigator[ScalaXmlNode] with scala.compat.Converters {
+class ScalaXmlNavigator(override val root: Root) extends BulkCopyNavigator[ScalaXmlNode] with scala.compat.Converters {
   override def parentOf(node: ScalaXmlNode): ScalaXmlNode                                = node.parent
   override def elementsOf(parent: ScalaXmlNode): java.lang.Iterable[? <: ScalaXmlNode]   = parent.elements
   override def attributesOf(parent: ScalaXmlNode): java.lang.Iterable[? <: ScalaXmlNode] = parent.attributes
@@ -41,12 +41,9 @@ class ScalaXmlNavigator(override val root: Root) extends Navigator[ScalaXmlNode]
   override def createElement(parent: ScalaXmlNode, element: QName): ScalaXmlNode =
     parent match {
       case e: Element =>
-        val node     = e.node
-        val children = node.child
-        val pre      = element.getPrefix
-        val elem = Elem(if (pre.nonEmpty) pre else null, element.getLocalPart, Null, node.scope, minimizeEmpty = true)
-        e.node = node.copy(child = children :+ elem)
-        new Element(elem, children.size, e)
+        val pre  = element.getPrefix
+        val elem = Elem(if (pre.nonEmpty) pre else null, element.getLocalPart, Null, e.scope, minimizeEmpty = true)
+        e.appendChild(elem)
       case _ =>
         throw new XmlBuilderException(s"Unable to create element for ${parent.toString}")
     }
@@ -64,15 +61,17 @@ class ScalaXmlNavigator(override val root: Root) extends Navigator[ScalaXmlNode]
         throw new XmlBuilderException(s"Unable to set text to ${node.toString}")
     }
   @throws[XmlBuilderException]("If unable to prepend copy to given node")
-  override def prependCopy(node: ScalaXmlNode): Unit =
+  override def prependCopy(node: ScalaXmlNode): Unit = prependCopies(node, 1)
+  @throws[XmlBuilderException]("If unable to prepend copies of given node")
+  override def prependCopies(node: ScalaXmlNode, count: Int): Unit =
     node match {
       case e: Element =>
         val toCopy     = e.node
-        val copy       = toCopy.copy()
+        val copies     = Seq.fill(count)(toCopy.copy())
         val idx        = e.index
         val parentNode = e.parent.node
-        e.parent.node = parentNode.copy(child = parentNode.child.patch(idx, Seq(copy, toCopy), 1))
-        e.index += 1
+        e.parent.node = parentNode.copy(child = parentNode.child.patch(idx, copies :+ toCopy, 1))
+        e.index += count
       case _ =>
         throw new XmlBuilderException(s"Unable to prepend copy to ${node.toString}")
     }
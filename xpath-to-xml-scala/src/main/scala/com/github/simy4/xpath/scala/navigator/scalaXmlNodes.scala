@@ -16,8 +16,8 @@
 package com.github.simy4.xpath
 package scala.navigator
 
-import navigator.{ Node => NavigatorNode }
-import xml.{ Attribute => XmlAttribute, Elem, Text }
+import navigator.{ NameMatchingNode, Node => NavigatorNode }
+import xml.{ Attribute => XmlAttribute, Elem, NamespaceBinding, Text }
 
 import javax.xml.namespace.QName
 
@@ -37,70 +37,124 @@ sealed trait ScalaXmlNode extends NavigatorNode with Equals {
   def attributes: Iterable[ScalaXmlNode]
 }
 
+/**
+ * Scala XML node that can have child elements.
+ *
+ * @since 2.4
+ */
+sealed trait ScalaXmlParent extends ScalaXmlNode {
+  private[navigator] def childModified(child: Element): Unit
+}
+
 @SerialVersionUID(1L)
 abstract private[navigator] class AbstractScalaXmlNode protected (val parent: ScalaXmlNode)
     extends ScalaXmlNode
     with Serializable {
   @SuppressWarnings(Array("org.wartremover.warts.IsInstanceOf"))
   def canEqual(that: Any): Boolean = that.isInstanceOf[ScalaXmlNode]
-  override def equals(that: Any): Boolean =
-    that match {
-      case n: ScalaXmlNode => n.canEqual(this) && node == n.node
-      case _               => false
-    }
-  override def hashCode(): Int  = node.hashCode()
-  override def toString: String = node.toString
+  override def toString: String    = node.toString
 }
 
+/**
+ * Document node. Modifications of the root element are not applied to the document until its node is accessed. Nodes
+ * of the same document are equal, documents are only compared by their root elements otherwise.
+ */
 @SerialVersionUID(1L)
 @SuppressWarnings(Array("org.wartremover.warts.Null", "org.wartremover.warts.Var"))
-final class Root(var node: Elem) extends AbstractScalaXmlNode(null) {
+final class Root(private var _node: Elem) extends AbstractScalaXmlNode(null) with ScalaXmlParent {
   type N = Elem
+  private var modified: Element       = null
   def getName: QName                  = new QName(NavigatorNode.DOCUMENT)
   def getText: String                 = ""
-  def elements: Iterable[Element]     = new Element(node, 0, this) :: Nil
+  def elements: Iterable[Element]     = (if (null != modified) modified else new Element(_node, 0, this)) :: Nil
   def attributes: Iterable[Attribute] = Nil
+  def node: Elem = {
+    if (null != modified) {
+      _node = modified.node
+      modified = null
+    }
+    _node
+  }
+  def node_=(elem: Elem): Unit = {
+    _node = elem
+    modified = null
+  }
+  private[navigator] def childModified(child: Element): Unit = modified = child
+  override def equals(that: Any): Boolean =
+    that match {
+      case r: Root => r.canEqual(this) && ((this eq r) || node == r.node)
+      case _       => false
+    }
+  override def hashCode(): Int = NavigatorNode.DOCUMENT.hashCode()
 }
 
+/**
+ * Element node. Modifications of this element are kept in this element and its ancestors only keep track of modified
+ * children, so that every modified ancestor gets rebuilt once, when its node is accessed, no matter how many
+ * modifications were made below it. Elements are compared by their position among ancestors, so that node sets can
+ * de-duplicate them without rebuilding modified elements.
+ */
 @SerialVersionUID(1L)
 @SuppressWarnings(Array("org.wartremover.warts.Var"))
 final class Element private[navigator] (
   private var _node: Elem,
   var index: Int,
-  override val parent: ScalaXmlNode { type N = Elem }
-) extends AbstractScalaXmlNode(parent) {
+  override val parent: ScalaXmlParent { type N = Elem }
+) extends AbstractScalaXmlNode(parent)
+    with ScalaXmlParent
+    with NameMatchingNode {
   type N = Elem
+  private var modified: Map[Int, Element] = Map.empty
   def getName: QName = {
     val node = _node
     if (null != node.prefix) new QName(node.namespace, node.label, node.prefix)
     else new QName(node.label)
   }
-  def getText: String = node.child.collect { case Text(t) => t }.mkString
+  def hasName(namespaceUri: String, localPart: String): Boolean = {
+    val node = _node
+    (null == localPart || localPart == node.label) && (null == namespaceUri || namespaceUri == {
+      if (null != node.prefix) Option(node.namespace).getOrElse("") else ""
+    })
+  }
+  def getText: String = _node.child.collect { case Text(t) => t }.mkString
   @SuppressWarnings(Array("org.wartremover.warts.Any"))
   def elements: Iterable[Element] =
-    _node.child.view.zipWithIndex.collect { case (e: Elem, i) => new Element(e, i, this) }
+    _node.child.view.zipWithIndex.collect { case (e: Elem, i) => modified.getOrElse(i, new Element(e, i, this)) }
   def attributes: Iterable[Attribute] =
     _node.attributes.view.collect { case a: XmlAttribute => new Attribute(a, this) }
-  private[navigator] def node: Elem = _node
+  private[navigator] def scope: NamespaceBinding = _node.scope
+  private[navigator] def node: Elem = {
+    if (modified.nonEmpty) {
+      val children = modified.foldLeft(_node.child.toVector) { case (cs, (i, e)) => cs.updated(i, e.node) }
+      modified = Map.empty
+      _node = _node.copy(child = children)
+    }
+    _node
+  }
   private[navigator] def node_=(elem: Elem): Unit = {
-    val parentNode = parent.node
-    parent.node =
-      if (parentNode eq _node) elem
-      else parentNode.copy(child = parentNode.child.updated(index, elem))
     _node = elem
+    modified = Map.empty
+    parent.childModified(this)
+  }
+  private[navigator] def appendChild(elem: Elem): Element = {
+    val children = _node.child.toVector
+    _node = _node.copy(child = children :+ elem)
+    parent.childModified(this)
+    new Element(elem, children.size, this)
   }
+  private[navigator] def childModified(child: Element): Unit =
+    if (!modified.get(child.index).exists(_ eq child)) {
+      modified = modified.updated(child.index, child)
+      parent.childModified(this)
+    }
   @SuppressWarnings(Array("org.wartremover.warts.IsInstanceOf"))
   override def canEqual(that: Any): Boolean = that.isInstanceOf[Element]
   override def equals(that: Any): Boolean =
     that match {
-      case e: Element => e.canEqual(this) && index == e.index && super.equals(that)
+      case e: Element => e.canEqual(this) && ((this eq e) || (index == e.index && parent == e.parent))
       case _          => false
     }
-  override def hashCode(): Int = {
-    var result = super.hashCode()
-    result = 31 * result + index
-    result
-  }
+  override def hashCode(): Int = 31 * parent.hashCode() + index
 }
 
 @SerialVersionUID(1L)
@@ -110,13 +164,20 @@ final class Attribute private[navigator] (
   override val parent: ScalaXmlNode {
     type N = Elem
   }
-) extends AbstractScalaXmlNode(parent) {
+) extends AbstractScalaXmlNode(parent)
+    with NameMatchingNode {
   type N = XmlAttribute
   def getName: QName = {
     val attr = _attr
     if (attr.isPrefixed) new QName(attr.getNamespace(parent.node), attr.key, attr.pre)
     else new QName(attr.key)
   }
+  def hasName(namespaceUri: String, localPart: String): Boolean = {
+    val attr = _attr
+    (null == localPart || localPart == attr.key) && (null == namespaceUri || namespaceUri == {
+      if (attr.isPrefixed) Option(attr.getNamespace(parent.node)).getOrElse("") else ""
+    })
+  }
   def getText: String                       = _attr.value.text
   def elements: Iterable[Element]           = Nil
   def attributes: Iterable[Attribute]       = Nil
@@ -125,4 +186,11 @@ final class Attribute private[navigator] (
     parent.node = parent.node % attr
     _attr = attr
   }
+  override def equals(that: Any): Boolean =
+    that match {
+      case a: Attribute => a.canEqual(this) && ((this eq a) || (hasSameKey(a) && parent == a.parent))
+      case _            => false
+    }
+  override def hashCode(): Int                     = 31 * parent.hashCode() + _attr.key.hashCode()
+  private def hasSameKey(that: Attribute): Boolean = _attr.key == that._attr.key && _attr.pre == that._attr.pre
 }
@@ -78,6 +78,38 @@ class ScalaXmlNodeSpec extends AnyFunSpec with Matchers {
     val element = root.elements.head
 
     it("should return parent")(element.parent should ===(root))
+    describe("when modified below") {
+      val modifiedRoot = new Root(<root><a/><b/></root>)
+      val navigator    = new ScalaXmlNavigator(modifiedRoot)
+      val a            = modifiedRoot.elements.head.elements.head
+      navigator.setText(navigator.createElement(a, new QName("c")), "1")
+      navigator.setText(navigator.createElement(a, new QName("d")), "2")
+
+      it("should return modified children when elements accessed") {
+        modifiedRoot.elements.head.elements.head.elements.map(_.getText).toList should ===(List("1", "2"))
+      }
+      it("should rebuild modified ancestors when root node accessed") {
+        modifiedRoot.node should ===(<root><a><c>1</c><d>2</d></a><b/></root>)
+      }
+    }
+    describe("when compared") {
+      val comparedRoot = new Root(<root><a><c/></a><b><c/></b></root>)
+      val navigator    = new ScalaXmlNavigator(comparedRoot)
+      val rootElement  = comparedRoot.elements.head
+      val a            = rootElement.elements.head
+      navigator.createElement(a, new QName("d"))
+
+      it("should equal to element at the same position") {
+        rootElement.elements.last should ===(comparedRoot.elements.head.elements.last)
+      }
+      it("should not equal to same element at another position") {
+        rootElement.elements.map(_.elements.head).toSet should have size 2
+      }
+      it("should not rebuild modified ancestors") {
+        Seq(a, rootElement, comparedRoot).map(_.hashCode()).distinct should have size 3
+        comparedRoot.elements.head shouldBe theSameInstanceAs(rootElement)
+      }
+    }
     describe("when serialize and deserialize") {
       val deserializedNode = SerializationHelper.serializeAndDeserializeBack(element)
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.benchmark;
+
+import com.github.simy4.xpath.XmlBuilder;
+import com.github.simy4.xpath.fixtures.GeneratedFixture;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.xpath.XPathExpressionException;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared benchmark of separate {@link XmlBuilder} phases over generated documents.
+ *
+ * <p>Model modules subclass it and provide an empty document of their model. Benchmarks return
+ * their results instead of consuming them and run single threaded with a fixed heap, so that
+ * {@code -prof gc} allocation rates per operation are comparable between runs and releases.
+ * Generated XPaths have no prefixes, namespace contexts are covered by per-model benchmarks.
+ *
+ * @param <T> XML model type
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "-XX:+AlwaysPreTouch"})
+@State(Scope.Benchmark)
+public abstract class AbstractXmlBuilderBenchmark<T> {
+
+  @Param({"100", "10000"})
+  public int size;
+
+  @Param({"1", "4"})
+  public int depth;
+
+  private Map<String, Object> xmlProperties;
+  private XmlBuilder putBuilder;
+  private XmlBuilder removeBuilder;
+  private T existingDocument;
+
+  /**
+   * Creates an empty document of a benchmarked model.
+   *
+   * @return new empty document
+   */
+  protected abstract T newDocument();
+
+  /**
+   * Prepares XPaths, builders and a populated document.
+   *
+   * @param documents source of populated documents for {@link #remove(RemovalState)}
+   * @throws XPathExpressionException if generated XPaths cannot be parsed
+   */
+  @Setup(Level.Trial)
+  public void setUp(DocumentSource documents) throws XPathExpressionException {
+    xmlProperties = new GeneratedFixture(size, depth).getXmlProperties();
+    putBuilder = new XmlBuilder().putAll(xmlProperties);
+    removeBuilder = new XmlBuilder().removeAll(xmlProperties.keySet());
+    existingDocument = putBuilder.build(newDocument());
+    documents.benchmark = this;
+  }
+
+  private T newPopulatedDocument() {
+    return putBuilder.build(newDocument());
+  }
+
+  /**
+   * Parses all XPaths without evaluating them.
+   *
+   * @return builder with parsed XPaths
+   * @throws XPathExpressionException if generated XPaths cannot be parsed
+   */
+  @Benchmark
+  public XmlBuilder parse() throws XPathExpressionException {
+    return new XmlBuilder().putAll(xmlProperties);
+  }
+
+  /**
+   * Evaluates pre-parsed XPaths against a document that already contains all nodes.
+   *
+   * @return evaluated document
+   */
+  @Benchmark
+  public T evaluate() {
+    return putBuilder.build(existingDocument);
+  }
+
+  /**
+   * Greedily creates all nodes from pre-parsed XPaths in an empty document.
+   *
+   * @return created document
+   */
+  @Benchmark
+  public T create() {
+    return putBuilder.build(newDocument());
+  }
+
+  /**
+   * Removes all nodes from pre-parsed XPaths from a populated document.
+   *
+   * @param removal freshly populated document
+   * @return document with nodes removed
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public T remove(RemovalState removal) {
+    return removeBuilder.build((T) removal.document);
+  }
+
+  /**
+   * Gives states of other benchmarks access to populated documents of a benchmarked model. It is
+   * linked to the benchmark on trial setup.
+   */
+  @State(Scope.Benchmark)
+  public static class DocumentSource {
+
+    private AbstractXmlBuilderBenchmark<?> benchmark;
+  }
+
+  /**
+   * Populates a fresh document before every {@link #remove(RemovalState)} invocation, since removal
+   * mutates it. Only {@code remove} depends on this state, so other benchmarks do not pay for it.
+   */
+  @State(Scope.Thread)
+  public static class RemovalState {
+
+    private Object document;
+
+    /**
+     * Populates a fresh document.
+     *
+     * @param documents source of populated documents
+     */
+    @Setup(Level.Invocation)
+    public void setUp(DocumentSource documents) {
+      document = documents.benchmark.newPopulatedDocument();
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.fixtures;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Generated fixture of a given size and depth.
+ *
+ * <p>Every generated XPath addresses a single leaf, e.g. {@code
+ * /root/node[@id='2']/node[@id='0']/value}. Leaves are spread evenly between branches, so that
+ * every intermediate element has roughly the same number of children.
+ */
+public final class GeneratedFixture {
+
+  private final int size;
+  private final int depth;
+
+  /**
+   * Constructor.
+   *
+   * @param size number of leaves in a generated document
+   * @param depth number of intermediate elements between the root and a leaf
+   */
+  public GeneratedFixture(int size, int depth) {
+    if (size < 1) {
+      throw new IllegalArgumentException("size should be positive: " + size);
+    }
+    if (depth < 1) {
+      throw new IllegalArgumentException("depth should be positive: " + depth);
+    }
+    this.size = size;
+    this.depth = depth;
+  }
+
+  /**
+   * Generates XPath to Value mappings as an ordered map.
+   *
+   * @return ordered XPath to Value mappings
+   */
+  public Map<String, Object> getXmlProperties() {
+    final var fanOut = Math.max(2, (int) Math.ceil(Math.pow(size, 1.0 / depth)));
+    final var xmlProperties = new LinkedHashMap<String, Object>(size * 4 / 3 + 1);
+    final var ids = new int[depth];
+    for (var i = 0; i < size; i++) {
+      var remainder = i;
+      for (var level = depth - 1; level >= 0; level--) {
+        ids[level] = remainder % fanOut;
+        remainder /= fanOut;
+      }
+      final var xpath = new StringBuilder("/root");
+      for (var id : ids) {
+        xpath.append("/node[@id='").append(id).append("']");
+      }
+      xmlProperties.put(xpath.append("/value").toString(), "value" + i);
+    }
+    return xmlProperties;
+  }
+
+  @Override
+  public String toString() {
+    return "generated " + size + 'x' + depth;
+  }
+}
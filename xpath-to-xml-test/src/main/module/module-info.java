@@ -1,6 +1,9 @@
 module com.github.simych.xpath.test {
   requires transitive java.xml;
+  requires com.github.simych.xpath.core;
+  requires static jmh.core;
 
+  exports com.github.simy4.xpath.benchmark;
   exports com.github.simy4.xpath.fixtures;
   exports com.github.simy4.xpath.helpers;
 }
\ No newline at end of file
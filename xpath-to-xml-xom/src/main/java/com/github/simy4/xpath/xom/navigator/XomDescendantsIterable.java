@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Alex Simkin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.simy4.xpath.xom.navigator;
+
+import com.github.simy4.xpath.xom.navigator.node.XomElement;
+import nu.xom.Element;
+import nu.xom.Node;
+import nu.xom.ParentNode;
+
+import javax.xml.namespace.QName;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+final class XomDescendantsIterable implements Iterable<XomElement> {
+
+  private final ParentNode parent;
+  private final String namespaceUri;
+  private final String localPart;
+
+  XomDescendantsIterable(ParentNode parent, QName name) {
+    this.parent = parent;
+    this.namespaceUri = wildcardToNull(name.getNamespaceURI());
+    this.localPart = wildcardToNull(name.getLocalPart());
+  }
+
+  @Override
+  public Iterator<XomElement> iterator() {
+    return new XomDescendantsIterator(parent, namespaceUri, localPart);
+  }
+
+  private static String wildcardToNull(String name) {
+    return "*".equals(name) ? null : name;
+  }
+
+  private static final class XomDescendantsIterator implements Iterator<XomElement> {
+
+    private final Queue<ParentNode> parents = new ArrayDeque<ParentNode>();
+    private final String namespaceUri;
+    private final String localPart;
+    private ParentNode current;
+    private int index;
+    private Element next;
+
+    XomDescendantsIterator(ParentNode parent, String namespaceUri, String localPart) {
+      this.namespaceUri = namespaceUri;
+      this.localPart = localPart;
+      this.current = parent;
+      this.next = nextElement();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return null != next;
+    }
+
+    @Override
+    public XomElement next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No more elements");
+      }
+      final Element element = next;
+      next = nextElement();
+      return new XomElement(element);
+    }
+
+    private Element nextElement() {
+      while (null != current) {
+        while (index < current.getChildCount()) {
+          final Node child = current.getChild(index++);
+          if (child instanceof Element) {
+            final Element element = (Element) child;
+            parents.offer(element);
+            if (matches(element)) {
+              return element;
+            }
+          }
+        }
+        current = parents.poll();
+        index = 0;
+      }
+      return null;
+    }
+
+    private boolean matches(Element element) {
+      return (null == namespaceUri || namespaceUri.equals(element.getNamespaceURI()))
+          && (null == localPart || localPart.equals(element.getLocalName()));
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
+  }
+}
@@ -16,7 +16,11 @@
 package com.github.simy4.xpath.xom.navigator;
 
 import com.github.simy4.xpath.XmlBuilderException;
-import com.github.simy4.xpath.navigator.Navigator;
+import com.github.simy4.xpath.navigator.BulkCopyNavigator;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
+import com.github.simy4.xpath.navigator.IdentityNavigator;
+import com.github.simy4.xpath.navigator.NumberValueNavigator;
+import com.github.simy4.xpath.util.NumberValueCache;
 import com.github.simy4.xpath.xom.navigator.node.XomDocument;
 import com.github.simy4.xpath.xom.navigator.node.XomElement;
 import com.github.simy4.xpath.xom.navigator.node.XomNode;
@@ -25,15 +29,23 @@ import nu.xom.Document;
 import nu.xom.Element;
 import nu.xom.IllegalAddException;
 import nu.xom.Node;
+import nu.xom.Nodes;
 import nu.xom.ParentNode;
 import nu.xom.XMLException;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 
-public final class XomNavigator implements Navigator<XomNode> {
+import java.util.Collections;
+
+public final class XomNavigator
+    implements DescendantNavigator<XomNode>,
+        IdentityNavigator<XomNode>,
+        BulkCopyNavigator<XomNode>,
+        NumberValueNavigator<XomNode> {
 
   private final XomDocument xml;
+  private final NumberValueCache<XomNode> numbers = new NumberValueCache<XomNode>();
 
   public XomNavigator(XomDocument xml) {
     this.xml = xml;
@@ -59,11 +71,29 @@ public final class XomNavigator implements Navigator<XomNode> {
     return parent.elements();
   }
 
+  @Override
+  public Iterable<? extends XomNode> descendantsOf(XomNode parent, QName name) {
+    final Node node = parent.getNode();
+    return node instanceof ParentNode
+        ? new XomDescendantsIterable((ParentNode) node, name)
+        : Collections.<XomNode>emptyList();
+  }
+
   @Override
   public Iterable<? extends XomNode> attributesOf(final XomNode parent) {
     return parent.attributes();
   }
 
+  @Override
+  public Object modelOf(XomNode node) {
+    return node.getNode();
+  }
+
+  @Override
+  public double numberOf(XomNode node) {
+    return numbers.numberOf(node);
+  }
+
   @Override
   public XomNode createAttribute(XomNode parent, QName attribute) throws XmlBuilderException {
     final Attribute attr = new Attribute(attribute.getLocalPart(), "");
@@ -82,6 +112,7 @@ public final class XomNavigator implements Navigator<XomNode> {
 
   @Override
   public void setText(XomNode node, String text) {
+    numbers.invalidate(this, node);
     try {
       node.setText(text);
     } catch (UnsupportedOperationException uoe) {
@@ -91,6 +122,7 @@ public final class XomNavigator implements Navigator<XomNode> {
 
   @Override
   public void prependCopy(XomNode node) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     final Node wrappedNode = node.getNode();
     if (!(wrappedNode instanceof Element)) {
       throw new XmlBuilderException("Unable to copy non-element node " + node);
@@ -108,8 +140,36 @@ public final class XomNavigator implements Navigator<XomNode> {
     }
   }
 
+  @Override
+  public void prependCopies(XomNode node, int count) throws XmlBuilderException {
+    numbers.invalidate(this, node);
+    final Node wrappedNode = node.getNode();
+    if (!(wrappedNode instanceof Element)) {
+      throw new XmlBuilderException("Unable to copy non-element node " + node);
+    }
+    final ParentNode parent = wrappedNode.getParent();
+    if (!(parent instanceof Element)) {
+      throw new XmlBuilderException("Unable to prepend - no parent element found of " + node);
+    }
+    try {
+      final int prependIndex = parent.indexOf(wrappedNode);
+      final Nodes children = ((Element) parent).removeChildren();
+      for (int i = 0; i < children.size(); i++) {
+        if (i == prependIndex) {
+          for (int j = 0; j < count; j++) {
+            parent.appendChild(wrappedNode.copy());
+          }
+        }
+        parent.appendChild(children.get(i));
+      }
+    } catch (IllegalAddException iae) {
+      throw new XmlBuilderException("Unable to append an copied element to " + parent, iae);
+    }
+  }
+
   @Override
   public void remove(XomNode node) throws XmlBuilderException {
+    numbers.invalidate(this, node);
     try {
       node.getNode().detach();
     } catch (XMLException xe) {
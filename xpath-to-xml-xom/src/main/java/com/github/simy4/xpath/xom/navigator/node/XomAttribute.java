@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.xom.navigator.node;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
 import nu.xom.Attribute;
 import nu.xom.Element;
 import nu.xom.IllegalDataException;
@@ -24,7 +25,7 @@ import javax.xml.namespace.QName;
 
 import java.util.Collections;
 
-public final class XomAttribute extends AbstractXomNode<Attribute> {
+public final class XomAttribute extends AbstractXomNode<Attribute> implements NameMatchingNode {
 
   public XomAttribute(Attribute attribute) {
     super(attribute);
@@ -36,6 +37,12 @@ public final class XomAttribute extends AbstractXomNode<Attribute> {
         getNode().getNamespaceURI(), getNode().getLocalName(), getNode().getNamespacePrefix());
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == localPart || localPart.equals(getNode().getLocalName()))
+        && (null == namespaceUri || namespaceUri.equals(getNode().getNamespaceURI()));
+  }
+
   @Override
   public String getText() {
     return getNode().getValue();
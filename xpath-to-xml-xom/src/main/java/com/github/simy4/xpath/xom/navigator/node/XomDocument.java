@@ -16,6 +16,8 @@
 package com.github.simy4.xpath.xom.navigator.node;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.TextComparableNode;
+import com.github.simy4.xpath.util.TextComparison;
 import nu.xom.Attribute;
 import nu.xom.Document;
 import nu.xom.Element;
@@ -24,7 +26,7 @@ import javax.xml.namespace.QName;
 
 import java.util.Collections;
 
-public final class XomDocument extends AbstractXomNode<Document> {
+public final class XomDocument extends AbstractXomNode<Document> implements TextComparableNode {
 
   public XomDocument(Document document) {
     super(document);
@@ -40,6 +42,12 @@ public final class XomDocument extends AbstractXomNode<Document> {
     return getNode().getValue();
   }
 
+  @Override
+  public int compareText(String text) {
+    return TextComparison.result(
+        text, XomElement.compareText(getNode().getRootElement(), text, 0));
+  }
+
   @Override
   public Iterable<? extends XomNode> elements() {
     return Collections.singletonList(new XomElement(getNode().getRootElement()));
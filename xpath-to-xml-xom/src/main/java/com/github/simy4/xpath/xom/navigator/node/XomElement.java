@@ -16,6 +16,9 @@
 package com.github.simy4.xpath.xom.navigator.node;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.NameMatchingNode;
+import com.github.simy4.xpath.navigator.TextComparableNode;
+import com.github.simy4.xpath.util.TextComparison;
 import nu.xom.Attribute;
 import nu.xom.Element;
 import nu.xom.Elements;
@@ -27,7 +30,8 @@ import javax.xml.namespace.QName;
 
 import java.util.Iterator;
 
-public final class XomElement extends AbstractXomNode<Element> {
+public final class XomElement extends AbstractXomNode<Element>
+    implements NameMatchingNode, TextComparableNode {
 
   public XomElement(Element element) {
     super(element);
@@ -39,11 +43,22 @@ public final class XomElement extends AbstractXomNode<Element> {
         getNode().getNamespaceURI(), getNode().getLocalName(), getNode().getNamespacePrefix());
   }
 
+  @Override
+  public boolean hasName(String namespaceUri, String localPart) {
+    return (null == localPart || localPart.equals(getNode().getLocalName()))
+        && (null == namespaceUri || namespaceUri.equals(getNode().getNamespaceURI()));
+  }
+
   @Override
   public String getText() {
     return getNode().getValue();
   }
 
+  @Override
+  public int compareText(String text) {
+    return TextComparison.result(text, compareText(getNode(), text, 0));
+  }
+
   @Override
   public Iterable<? extends XomNode> elements() {
     return new Iterable<XomElement>() {
@@ -100,6 +115,19 @@ public final class XomElement extends AbstractXomNode<Element> {
     }
   }
 
+  static int compareText(Element element, String text, int offset) {
+    final int childCount = element.getChildCount();
+    for (int i = 0; i < childCount && offset >= 0; i++) {
+      final Node child = element.getChild(i);
+      if (child instanceof Text) {
+        offset = TextComparison.compare(child.getValue(), text, offset);
+      } else if (child instanceof Element) {
+        offset = compareText((Element) child, text, offset);
+      }
+    }
+    return offset;
+  }
+
   private static final class XomAttributesIterator implements Iterator<XomAttribute> {
 
     private final Element element;
@@ -16,6 +16,7 @@
 package com.github.simy4.xpath.xom.navigator;
 
 import com.github.simy4.xpath.XmlBuilderException;
+import com.github.simy4.xpath.navigator.DescendantNavigator;
 import com.github.simy4.xpath.navigator.Navigator;
 import com.github.simy4.xpath.xom.navigator.node.XomAttribute;
 import com.github.simy4.xpath.xom.navigator.node.XomDocument;
@@ -83,6 +84,20 @@ class XomNavigatorTest {
         .containsExactly(parent);
   }
 
+  @Test
+  void testDescendantsOf() {
+    var descendantNavigator = (DescendantNavigator<XomNode>) navigator;
+
+    assertThat(descendantNavigator.descendantsOf(new XomDocument(root), new QName("*", "*")))
+        .extracting("node", Element.class)
+        .containsExactly(parent, xml, child1, child2, child3);
+    assertThat(descendantNavigator.descendantsOf(new XomElement(parent), new QName("child2")))
+        .extracting("node", Element.class)
+        .containsExactly(child2);
+    assertThat(descendantNavigator.descendantsOf(new XomElement(child1), new QName("*", "*")))
+        .isEmpty();
+  }
+
   @Test
   void testElementsOfElement() {
     assertThat(navigator.elementsOf(new XomElement(xml)))
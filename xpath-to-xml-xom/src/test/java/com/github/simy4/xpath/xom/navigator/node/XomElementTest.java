@@ -61,6 +61,16 @@ class XomElementTest {
         .containsExactly(new XomElement(child1), new XomElement(child2), new XomElement(child3));
   }
 
+  @Test
+  void shouldCompareSubtreeTextContentIncrementally() {
+    child2.appendChild("child");
+
+    assertThat(((XomElement) node).compareText("textchild")).isZero();
+    assertThat(((XomElement) node).compareText("text")).isPositive();
+    assertThat(((XomElement) node).compareText("textchildren")).isNegative();
+    assertThat(((XomElement) node).compareText("textcat")).isPositive();
+  }
+
   @Test
   void shouldAppendNewAttributeWhenAppendAttribute() {
     assertThat(node.appendAttribute(new Attribute("attr", ""))).isNotNull();